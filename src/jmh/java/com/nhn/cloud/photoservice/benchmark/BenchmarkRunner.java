@@ -0,0 +1,132 @@
+package com.nhn.cloud.photoservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMH 실행 후 결과(JSON)를 커밋된 베이스라인과 비교하는 러너.
+ * <p>
+ * 시스템 프로퍼티:
+ * <ul>
+ *   <li>benchmark.result: 결과 파일 (기본 target/jmh-result.json)</li>
+ *   <li>benchmark.baseline: 베이스라인 파일 (기본 benchmarks/baseline.json)</li>
+ *   <li>benchmark.threshold: 회귀로 판단할 변화율 (기본 0.10)</li>
+ *   <li>benchmark.updateBaseline: true면 이번 결과로 베이스라인을 덮어쓴다</li>
+ *   <li>benchmark.failOnRegression: true면 회귀 발견 시 종료 코드 1</li>
+ * </ul>
+ * 나머지 인자는 JMH 커맨드라인 옵션으로 그대로 전달된다 (예: 벤치마크 이름 정규식, -f, -wi, -i).
+ * 베이스라인은 측정 환경에 따라 달라지므로, 기준 장비에서 다른 부하 없이 fork/반복 횟수를 늘려 생성해 커밋한다.
+ * (예: -Djmh.args="-f 5 -wi 5 -i 10 -w 5s -r 5s", 점수 오차가 회귀 임계값보다 충분히 작아야 비교가 의미 있다)
+ * 베이스라인에는 장비별 값(JVM 경로, 러너에 전달된 JVM 인자)을 남기지 않는다.
+ */
+public final class BenchmarkRunner {
+
+    private static final List<String> MACHINE_SPECIFIC_FIELDS = List.of("jvm", "jvmArgs");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path result = Path.of(System.getProperty("benchmark.result", "target/jmh-result.json"));
+        Path baseline = Path.of(System.getProperty("benchmark.baseline", "benchmarks/baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "0.10"));
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        if (Boolean.getBoolean("benchmark.updateBaseline")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            writeBaseline(result, baseline);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + ", run with -Dbenchmark.updateBaseline=true to create one");
+            return;
+        }
+
+        int regressions = compare(readScores(baseline), readScores(result), threshold);
+        if (regressions > 0 && Boolean.getBoolean("benchmark.failOnRegression")) {
+            System.exit(1);
+        }
+    }
+
+    private static int compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        int regressions = 0;
+        System.out.printf("%n%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  (new)%n", entry.getKey(), "-", now.value, "-");
+                continue;
+            }
+
+            double change = (now.value - before.value) / before.value;
+            // 처리량(thrpt)은 클수록, 나머지(avgt 등)는 작을수록 좋다
+            boolean worse = "thrpt".equals(now.mode) ? change < -threshold : change > threshold;
+            if (worse) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.value, now.value,
+                    change * 100, worse ? "  REGRESSION" : "");
+        }
+
+        System.out.printf("%n%d regression(s) beyond %.0f%% threshold%n", regressions, threshold * 100);
+        return regressions;
+    }
+
+    /**
+     * 결과에서 장비별 필드를 지우고 베이스라인으로 저장
+     */
+    private static void writeBaseline(Path result, Path baseline) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode runs = objectMapper.readTree(result.toFile());
+        for (JsonNode run : runs) {
+            ((ObjectNode) run).remove(MACHINE_SPECIFIC_FIELDS);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(baseline.toFile(), runs);
+    }
+
+    private static Map<String, Score> readScores(Path path) throws Exception {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(path.toFile())) {
+            StringBuilder name = new StringBuilder(run.get("benchmark").asText());
+            JsonNode params = run.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    name.append(':').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            String mode = run.get("mode").asText();
+            scores.put(name + " [" + mode + "]",
+                    new Score(mode, run.get("primaryMetric").get("score").asDouble()));
+        }
+        return scores;
+    }
+
+    private record Score(String mode, double value) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhn.cloud.photoservice.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MdcFilter(ClientIpUtil 포함)의 요청당 오버헤드 측정.
+ * - forwarded: LB를 거친 요청 (X-Forwarded-For 파싱)
+ * - direct: 헤더 없이 remoteAddr 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MdcFilterBenchmark {
+
+    private MdcFilter mdcFilter;
+    private MockHttpServletRequest forwardedRequest;
+    private MockHttpServletRequest directRequest;
+
+    @Setup
+    public void setup() {
+        mdcFilter = new MdcFilter();
+
+        forwardedRequest = new MockHttpServletRequest("GET", "/api/photos");
+        forwardedRequest.addHeader("X-Forwarded-For", "203.0.113.10, 10.0.0.1, 10.0.0.2");
+        forwardedRequest.addHeader("X-Request-ID", "bench001");
+
+        directRequest = new MockHttpServletRequest("GET", "/api/photos");
+        directRequest.setRemoteAddr("203.0.113.10");
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void forwarded() throws Exception {
+        filter(forwardedRequest);
+    }
+
+    @Benchmark
+    public void direct() throws Exception {
+        filter(directRequest);
+    }
+
+    private void filter(MockHttpServletRequest request) throws Exception {
+        // OncePerRequestFilter의 중복 실행 방지 속성 제거
+        request.clearAttributes();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        mdcFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
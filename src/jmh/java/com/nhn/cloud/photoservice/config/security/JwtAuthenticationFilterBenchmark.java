@@ -0,0 +1,94 @@
+package com.nhn.cloud.photoservice.config.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 비용 측정.
+ * - legacy: 변경 전 필터 동작 재현 (호출마다 Jwts.parser() 재생성, validateToken/getAuthentication에서 서명 검증 2회)
+ * - singleParse: 캐시 미스 상황의 resolveAuthentication (서명 검증 1회)
+ * - cachedFilter: 동일 토큰을 반복 사용하는 클라이언트의 필터 전체 경로 (캐시 적중)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider uncachedProvider;
+    private JwtAuthenticationFilter cachedFilter;
+    private String token;
+
+    @Setup
+    public void setup() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = provider(0L);
+        JwtTokenProvider cachedProvider = provider(10_000L);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider);
+        token = cachedProvider.createAccessToken(1L, "bench@example.com", "USER");
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        // validateToken
+        Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token);
+
+        // getAuthentication → parseClaims
+        Claims claims = Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return new UsernamePasswordAuthenticationToken(
+                claims.getSubject(),
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + claims.get("role", String.class)))
+        );
+    }
+
+    @Benchmark
+    public Authentication singleParse() {
+        return uncachedProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication cachedFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/photos");
+        request.addHeader("Authorization", "Bearer " + token);
+        cachedFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static JwtTokenProvider provider(long cacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(3_600_000L);
+        properties.setRefreshTokenExpiration(604_800_000L);
+        properties.setVerifiedTokenCacheSize(cacheSize);
+
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,72 @@
+package com.nhn.cloud.photoservice.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhn.cloud.photoservice.domain.album.Album;
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.util.PageCursor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사진 목록 응답 구성 비용 측정.
+ * - map: Photo → PhotoResponse 변환 (CursorPageResponse 구성 포함)
+ * - serialize: 변환된 목록의 Jackson 직렬화 (Spring Boot 기본 ObjectMapper 설정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PhotoResponseBenchmark {
+
+    @Param({"50", "200"})
+    private int size;
+
+    private List<Photo> photos;
+    private CursorPageResponse<PhotoResponse> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        Album album = Album.builder().title("benchmark").build();
+        ReflectionTestUtils.setField(album, "id", 1L);
+
+        LocalDateTime now = LocalDateTime.now();
+        photos = new ArrayList<>(size + 1);
+        for (int i = 0; i <= size; i++) {
+            Photo photo = Photo.builder()
+                    .album(album)
+                    .originalFilename("IMG_" + i + ".jpg")
+                    .storageKey("photos/1/" + i + ".jpg")
+                    .contentType("image/jpeg")
+                    .fileSize(3_500_000L)
+                    .title("title " + i)
+                    .description("description " + i)
+                    .build();
+            ReflectionTestUtils.setField(photo, "id", (long) (size - i));
+            ReflectionTestUtils.setField(photo, "createdAt", now.minusMinutes(i));
+            ReflectionTestUtils.setField(photo, "updatedAt", now.minusMinutes(i));
+            photos.add(photo);
+        }
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        page = map();
+    }
+
+    @Benchmark
+    public CursorPageResponse<PhotoResponse> map() {
+        return CursorPageResponse.of(photos, size,
+                photo -> PageCursor.of(photo.getCreatedAt(), photo.getId()),
+                photo -> PhotoResponse.from(photo,
+                        "https://storage.example.com/" + photo.getStorageKey(), null, null));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,86 @@
+package com.nhn.cloud.photoservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * generatePresignedUrl 비용 측정.
+ * - sign: 매 호출마다 새 키를 서명 (캐시 미스 경로, 서명한 키는 바로 무효화하여 반복 횟수와 관계없이 캐시 크기가 일정하다)
+ * - cached: 같은 키 집합을 반복 조회 (목록 조회의 캐시 적중 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ObjectStorageServiceBenchmark {
+
+    private static final int KEY_COUNT = 200;
+
+    private ObjectStorageService objectStorageService;
+    private S3Presigner s3Presigner;
+    private PresignedUrlCache presignedUrlCache;
+    private String[] keys;
+    private long sequence;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        s3Presigner = S3Presigner.builder()
+                .endpointOverride(URI.create("https://kr1-api-object-storage.nhncloudservice.com"))
+                .region(Region.of("KR1"))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key")))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+
+        presignedUrlCache = new PresignedUrlCache(3600, 1800, 100_000,
+                Counter.builder("hit").register(registry),
+                Counter.builder("miss").register(registry),
+                Counter.builder("eviction").register(registry));
+
+        objectStorageService = new ObjectStorageService(null, null, null, s3Presigner,
+                registry.timer("upload"), registry.timer("upload.part"), registry.counter("upload.part.retries"),
+                registry.timer("presign"), presignedUrlCache,
+                new PartBufferPool(DataSize.ofMegabytes(8), 1, 1000), new AtomicLong(), null);
+        ReflectionTestUtils.setField(objectStorageService, "bucketName", "photo-service");
+        ReflectionTestUtils.setField(objectStorageService, "presignedUrlExpiration", 3600L);
+
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "photos/1/benchmark-" + i + ".jpg";
+            objectStorageService.generatePresignedUrl(keys[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Benchmark
+    public String sign() {
+        String key = "photos/1/uncached-" + (sequence++) + ".jpg";
+        String url = objectStorageService.generatePresignedUrl(key);
+        presignedUrlCache.invalidate(key);
+        return url;
+    }
+
+    @Benchmark
+    public String cached() {
+        cursor = (cursor + 1) % KEY_COUNT;
+        return objectStorageService.generatePresignedUrl(keys[cursor]);
+    }
+}
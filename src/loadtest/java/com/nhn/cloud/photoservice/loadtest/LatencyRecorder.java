@@ -0,0 +1,92 @@
+package com.nhn.cloud.photoservice.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록 및 처리량/백분위수 리포트.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+
+    public void record(String endpoint, long startNanos, long endNanos, boolean success) {
+        stats.computeIfAbsent(endpoint, k -> new EndpointStats()).add(startNanos, endNanos, success);
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%n%-42s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Errors", "Req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        stats.forEach((endpoint, s) -> {
+            Summary summary = s.summarize();
+            out.printf(Locale.ROOT, "%-42s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint, summary.count(), summary.errors(), summary.throughput(),
+                    summary.p50(), summary.p95(), summary.p99(), summary.max());
+        });
+    }
+
+    public void writeJson(Path path) throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        stats.forEach((endpoint, s) -> {
+            Summary summary = s.summarize();
+            if (json.length() > 2) {
+                json.append(",\n");
+            }
+            json.append(String.format(Locale.ROOT,
+                    "  {\"endpoint\": \"%s\", \"count\": %d, \"errors\": %d, \"throughput\": %.2f, "
+                            + "\"p50\": %.2f, \"p95\": %.2f, \"p99\": %.2f, \"max\": %.2f}",
+                    endpoint, summary.count(), summary.errors(), summary.throughput(),
+                    summary.p50(), summary.p95(), summary.p99(), summary.max()));
+        });
+        json.append("\n]\n");
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, json);
+    }
+
+    private static final class EndpointStats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private long firstStart = Long.MAX_VALUE;
+        private long lastEnd = Long.MIN_VALUE;
+
+        synchronized void add(long startNanos, long endNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = endNanos - startNanos;
+            if (!success) {
+                errors++;
+            }
+            firstStart = Math.min(firstStart, startNanos);
+            lastEnd = Math.max(lastEnd, endNanos);
+        }
+
+        synchronized Summary summarize() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            double seconds = Math.max(1, lastEnd - firstStart) / 1e9;
+            return new Summary(count, errors, count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private record Summary(int count, int errors, double throughput,
+                           double p50, double p95, double p99, double max) {
+    }
+}
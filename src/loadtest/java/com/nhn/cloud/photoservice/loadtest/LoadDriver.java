@@ -0,0 +1,313 @@
+package com.nhn.cloud.photoservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 시나리오 실행기.
+ * 1. 회원가입/로그인 폭주
+ * 2. 동시 업로드 (multipart / 스트리밍 혼합, stream-uploads=false면 multipart만)
+ * 3. 대형 앨범 목록 페이지 순회
+ * 4. 공유 앨범 팬아웃 (비로그인 다수 조회 + Pre-signed URL 다운로드)
+ * 업로드마다 내용이 다른 이미지를 보내므로 서버의 중복 제거가 저장 경로를 건너뛰지 않는다.
+ */
+@Slf4j
+public class LoadDriver {
+
+    private final String baseUrl;
+    private final Map<String, String> options;
+    private final HttpClient httpClient;
+    private final ExecutorService workers;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong uploadSequence = new AtomicLong();
+
+    private byte[] image;
+
+    public LoadDriver(String baseUrl, Map<String, String> options) {
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.workers = Executors.newFixedThreadPool(intOption("concurrency", 64));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+    }
+
+    /**
+     * 외부에서 기동한 서버를 대상으로 실행: LoadDriver http://host:8080 users=100 ...
+     */
+    public static void main(String[] args) throws Exception {
+        LoadDriver driver = new LoadDriver(args[0], LoadTestLauncher.parseOptions(args, 1));
+        driver.run();
+        driver.report();
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        image = generateJpeg(intOption("image-width", 1600), intOption("image-height", 1200));
+        log.info("Load test {} starting against {} (image={} bytes)", runId, baseUrl, image.length);
+
+        List<String> tokens = signupAndLoginBurst(intOption("users", 50));
+        concurrentUploads(tokens, intOption("uploads-per-user", 5));
+
+        String owner = tokens.get(0);
+        long albumId = createAlbum(owner, "large-" + runId);
+        fillAlbum(owner, albumId, intOption("album-photos", 300));
+        albumListing(owner, albumId, intOption("listing-readers", 16), intOption("listing-passes", 5));
+
+        String shareToken = enableSharing(owner, albumId);
+        sharedAlbumFanOut(shareToken, intOption("shared-readers", 200), intOption("shared-downloads", 3));
+
+        workers.shutdown();
+    }
+
+    public void report() throws IOException {
+        recorder.print(System.out);
+        recorder.writeJson(Path.of(options.getOrDefault("report", "target/loadtest-report.json")));
+    }
+
+    // --- 시나리오 ---
+
+    private List<String> signupAndLoginBurst(int users) throws Exception {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String email = "load-" + runId + "-" + i + "@example.com";
+            futures.add(workers.submit(() -> {
+                String credentials = objectMapper.writeValueAsString(Map.of(
+                        "email", email, "password", "loadtest-password", "name", "load user"));
+                send("POST /api/auth/signup", json(HttpRequest.newBuilder(uri("/api/auth/signup")), credentials));
+                JsonNode login = send("POST /api/auth/login",
+                        json(HttpRequest.newBuilder(uri("/api/auth/login")), credentials));
+                return login != null ? login.get("accessToken").asText() : null;
+            }));
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (Future<String> future : futures) {
+            String token = future.get();
+            if (token != null) {
+                tokens.add(token);
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new IllegalStateException("No user could log in, aborting load test");
+        }
+        return tokens;
+    }
+
+    private void concurrentUploads(List<String> tokens, int uploadsPerUser) throws Exception {
+        boolean mixStreaming = Boolean.parseBoolean(options.getOrDefault("stream-uploads", "true"));
+        List<Future<?>> futures = new ArrayList<>();
+        for (String token : tokens) {
+            for (int i = 0; i < uploadsPerUser; i++) {
+                boolean streaming = mixStreaming && i % 2 == 1;
+                futures.add(workers.submit(() -> streaming ? uploadStream(token, null) : uploadMultipart(token)));
+            }
+        }
+        awaitAll(futures);
+    }
+
+    private void fillAlbum(String token, long albumId, int photos) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < photos; i++) {
+            futures.add(workers.submit(() -> uploadStream(token, albumId)));
+        }
+        awaitAll(futures);
+    }
+
+    private void albumListing(String token, long albumId, int readers, int passes) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            futures.add(workers.submit(() -> {
+                for (int pass = 0; pass < passes; pass++) {
+                    String cursor = null;
+                    do {
+                        String path = "/api/albums/" + albumId + "/photos?size=50"
+                                + (cursor != null ? "&cursor=" + encode(cursor) : "");
+                        JsonNode page = send("GET /api/albums/{id}/photos",
+                                authorized(HttpRequest.newBuilder(uri(path)), token).GET());
+                        cursor = page != null && page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+                    } while (cursor != null);
+
+                    send("GET /api/albums", authorized(HttpRequest.newBuilder(uri("/api/albums")), token).GET());
+                }
+                return null;
+            }));
+        }
+        awaitAll(futures);
+    }
+
+    private void sharedAlbumFanOut(String shareToken, int readers, int downloads) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            futures.add(workers.submit(() -> {
+                send("GET /api/albums/shared/{token}",
+                        HttpRequest.newBuilder(uri("/api/albums/shared/" + shareToken)).GET());
+                JsonNode page = send("GET /api/albums/shared/{token}/photos",
+                        HttpRequest.newBuilder(uri("/api/albums/shared/" + shareToken + "/photos?size=50")).GET());
+                if (page != null) {
+                    JsonNode content = page.get("content");
+                    for (int i = 0; i < Math.min(downloads, content.size()); i++) {
+                        JsonNode photo = content.get(ThreadLocalRandom.current().nextInt(content.size()));
+                        JsonNode url = photo.hasNonNull("thumbnailUrl") ? photo.get("thumbnailUrl") : photo.get("downloadUrl");
+                        download(url.asText());
+                    }
+                }
+                return null;
+            }));
+        }
+        awaitAll(futures);
+    }
+
+    // --- 요청 헬퍼 ---
+
+    private Object uploadMultipart(String token) throws IOException, InterruptedException {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        byte[] content = uniqueImage();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 512);
+        body.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(content);
+        body.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return send("POST /api/photos", authorized(HttpRequest.newBuilder(uri("/api/photos")), token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray())));
+    }
+
+    private Object uploadStream(String token, Long albumId) throws IOException, InterruptedException {
+        String path = "/api/photos/stream?filename=load.jpg" + (albumId != null ? "&albumId=" + albumId : "");
+        return send("POST /api/photos/stream", authorized(HttpRequest.newBuilder(uri(path)), token)
+                .header("Content-Type", "image/jpeg")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(uniqueImage())));
+    }
+
+    private long createAlbum(String token, String title) throws IOException, InterruptedException {
+        JsonNode album = send("POST /api/albums", json(authorized(HttpRequest.newBuilder(uri("/api/albums")), token),
+                objectMapper.writeValueAsString(Map.of("title", title))));
+        return album.get("id").asLong();
+    }
+
+    private String enableSharing(String token, long albumId) throws IOException, InterruptedException {
+        JsonNode album = send("POST /api/albums/{id}/share",
+                authorized(HttpRequest.newBuilder(uri("/api/albums/" + albumId + "/share")), token)
+                        .POST(HttpRequest.BodyPublishers.noBody()));
+        return album.get("shareToken").asText();
+    }
+
+    private void download(String url) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        recorder.record("GET <presigned download>", start, System.nanoTime(), response.statusCode() == 200);
+    }
+
+    /**
+     * 요청을 보내고 지연 시간을 기록한다. 2xx면 JSON 본문, 아니면 null.
+     */
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = httpClient.send(builder.timeout(Duration.ofSeconds(60)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        boolean success = response.statusCode() / 100 == 2;
+        recorder.record(endpoint, start, System.nanoTime(), success);
+
+        if (!success) {
+            log.debug("{} -> {} {}", endpoint, response.statusCode(), new String(response.body(), StandardCharsets.UTF_8));
+            return null;
+        }
+        return response.body().length > 0 ? objectMapper.readTree(response.body()) : objectMapper.nullNode();
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder, String token) {
+        return builder.header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder, String body) {
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void awaitAll(List<? extends Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    /**
+     * 업로드마다 다른 내용의 JPEG (SOI 바로 뒤에 실행 ID/순번을 담은 COM 세그먼트를 넣는다, 디코딩 결과는 같다)
+     */
+    private byte[] uniqueImage() {
+        byte[] comment = (runId + "-" + uploadSequence.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+        int segmentLength = comment.length + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(image.length + segmentLength + 2);
+        out.write(image, 0, 2);
+        out.write(0xFF);
+        out.write(0xFE);
+        out.write(segmentLength >> 8);
+        out.write(segmentLength & 0xFF);
+        out.write(comment, 0, comment.length);
+        out.write(image, 2, image.length - 2);
+        return out.toByteArray();
+    }
+
+    /**
+     * 썸네일 생성 경로가 실제로 동작하도록 디코딩 가능한 JPEG를 만든다.
+     */
+    private static byte[] generateJpeg(int width, int height) throws IOException {
+        BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = canvas.createGraphics();
+        Random random = new Random(42);
+        for (int i = 0; i < 400; i++) {
+            g.setColor(new Color(random.nextInt(0xFFFFFF)));
+            g.fillRect(random.nextInt(width), random.nextInt(height), 20 + random.nextInt(200), 20 + random.nextInt(200));
+        }
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(canvas, "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,80 @@
+package com.nhn.cloud.photoservice.loadtest;
+
+import com.nhn.cloud.photoservice.PhotoServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 오프라인 부하 테스트 진입점.
+ * 로컬 S3 대역과 H2(MySQL 모드)로 애플리케이션을 띄운 뒤 LoadDriver 시나리오를 실행한다.
+ * <p>
+ * 실행: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="users=100 s3-latency-ms=20 s3-error-rate=0.01"
+ * <p>
+ * 스레드 모델 비교: virtual-threads=true|false, tomcat-max-threads=200 (플랫폼 스레드 풀 크기)
+ * <p>
+ * 스토리지 경로 비교: storage-async=true|false, storage-transport=netty|crt (crt는 -Pcrt,loadtest),
+ * storage-max-concurrency=200 (multipart 업로드가 비동기 클라이언트를 사용)
+ */
+public final class LoadTestLauncher {
+
+    private LoadTestLauncher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args, 0);
+
+        try (LocalS3Server s3 = LocalS3Server.start(
+                Integer.parseInt(options.getOrDefault("s3-port", "0")),
+                Long.parseLong(options.getOrDefault("s3-latency-ms", "0")),
+                Long.parseLong(options.getOrDefault("s3-jitter-ms", "0")),
+                Double.parseDouble(options.getOrDefault("s3-error-rate", "0")))) {
+
+            ConfigurableApplicationContext app = new SpringApplicationBuilder(PhotoServiceApplication.class)
+                    .profiles("loadtest")
+                    .properties("loadtest.s3.endpoint=" + s3.getEndpoint(),
+                            "spring.threads.virtual.enabled=" + options.getOrDefault("virtual-threads", "false"),
+                            "server.tomcat.threads.max=" + options.getOrDefault("tomcat-max-threads", "200"),
+                            "cloud.nhn.object-storage.async.enabled=" + options.getOrDefault("storage-async", "false"),
+                            "cloud.nhn.object-storage.async.transport=" + options.getOrDefault("storage-transport", "netty"),
+                            "cloud.nhn.object-storage.async.max-concurrency="
+                                    + options.getOrDefault("storage-max-concurrency", "200"))
+                    .run();
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+
+            try {
+                LoadDriver driver = new LoadDriver("http://127.0.0.1:" + port, options);
+                driver.run();
+                driver.report();
+                System.out.printf("%nThreads: %s%n", Boolean.parseBoolean(options.get("virtual-threads"))
+                        ? "virtual" : "platform (tomcat max " + options.getOrDefault("tomcat-max-threads", "200") + ")");
+                System.out.printf("Storage: %s%n", Boolean.parseBoolean(options.get("storage-async"))
+                        ? "async " + options.getOrDefault("storage-transport", "netty")
+                        + " (max concurrency " + options.getOrDefault("storage-max-concurrency", "200") + ")"
+                        : "sync");
+                System.out.printf("%nS3 stand-in: %d requests, %d injected errors, %d objects stored%n",
+                        s3.getRequestCount(), s3.getInjectedErrorCount(), s3.getObjectCount());
+            } finally {
+                app.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * key=value 형식의 인자를 옵션 맵으로 변환
+     */
+    static Map<String, String> parseOptions(String[] args, int from) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = from; i < args.length; i++) {
+            int eq = args[i].indexOf('=');
+            if (eq > 0) {
+                options.put(args[i].substring(0, eq), args[i].substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,458 @@
+package com.nhn.cloud.photoservice.loadtest;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 인프로세스 S3 호환 서버.
+ * ObjectStorageService가 사용하는 PUT/GET/HEAD/DELETE, DeleteObjects, ListObjectsV2와 Multipart Upload(생성/파트/완료/중단)만 구현한다.
+ * Pre-signed URL은 path-style GET으로 들어오며, 서명은 검증하지 않는다.
+ * 지연(latency + jitter)과 오류율(503 SlowDown)을 주입할 수 있다.
+ */
+@Slf4j
+public class LocalS3Server implements AutoCloseable {
+
+    private static final String XML_NS = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final Pattern KEY_ELEMENT = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+    private static final Pattern BYTE_RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+
+    private final ConcurrentSkipListMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();  // 키 순서 = ListObjectsV2 순서
+    private final Map<String, MultipartUpload> uploads = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong injectedErrorCount = new AtomicLong();
+
+    private LocalS3Server(int port, long latencyMillis, long jitterMillis, double errorRate) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+        this.executor = Executors.newFixedThreadPool(64);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 256);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public static LocalS3Server start(int port, long latencyMillis, long jitterMillis, double errorRate)
+            throws IOException {
+        LocalS3Server s3 = new LocalS3Server(port, latencyMillis, jitterMillis, errorRate);
+        s3.server.start();
+        log.info("Local S3 stand-in listening on {} (latency={}ms, jitter={}ms, errorRate={})",
+                s3.getEndpoint(), latencyMillis, jitterMillis, errorRate);
+        return s3;
+    }
+
+    public String getEndpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrorCount.get();
+    }
+
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            injectLatency();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrorCount.incrementAndGet();
+                drain(exchange.getRequestBody());
+                sendError(exchange, 503, "SlowDown", "Injected error");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getRawPath();
+            int slash = path.indexOf('/', 1);
+            // 버킷 수준 요청은 DeleteObjects(POST /bucket?delete)와 ListObjectsV2(GET /bucket?list-type=2)만 지원
+            if (slash < 0 || slash == path.length() - 1) {
+                String bucket = path.substring(1, slash < 0 ? path.length() : slash);
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                if ("POST".equals(exchange.getRequestMethod()) && query.containsKey("delete")) {
+                    deleteObjects(exchange, bucket);
+                    return;
+                }
+                if ("GET".equals(exchange.getRequestMethod()) && "2".equals(query.get("list-type"))) {
+                    listObjectsV2(exchange, bucket, query);
+                    return;
+                }
+            }
+            if (slash < 0) {
+                sendError(exchange, 400, "InvalidRequest", "Bucket-level operations are not supported");
+                return;
+            }
+            String key = URLDecoder.decode(path.substring(slash + 1), StandardCharsets.UTF_8);
+            String objectPath = path.substring(1, slash) + "/" + key;
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploadPart(exchange, query);
+                    } else {
+                        putObject(exchange, objectPath);
+                    }
+                }
+                case "GET" -> getObject(exchange, objectPath, false);
+                case "HEAD" -> getObject(exchange, objectPath, true);
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(objectPath);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                case "POST" -> {
+                    if (query.containsKey("uploads")) {
+                        createMultipartUpload(exchange, path.substring(1, slash), key);
+                    } else if (query.containsKey("uploadId")) {
+                        completeMultipartUpload(exchange, objectPath, path.substring(1, slash), key, query);
+                    } else {
+                        sendError(exchange, 400, "InvalidRequest", "Unsupported POST");
+                    }
+                }
+                default -> sendError(exchange, 405, "MethodNotAllowed", exchange.getRequestMethod());
+            }
+        } catch (Exception e) {
+            log.warn("Local S3 request failed: {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void putObject(HttpExchange exchange, String objectPath) throws IOException {
+        byte[] body = readBody(exchange);
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String etag = md5Hex(body);
+        objects.put(objectPath, new StoredObject(body, contentType, etag, Instant.now()));
+
+        exchange.getResponseHeaders().add("ETag", quote(etag));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void getObject(HttpExchange exchange, String objectPath, boolean headOnly) throws IOException {
+        StoredObject object = objects.get(objectPath);
+        if (object == null) {
+            if (headOnly) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                sendError(exchange, 404, "NoSuchKey", "The specified key does not exist.");
+            }
+            return;
+        }
+
+        Headers headers = exchange.getResponseHeaders();
+        headers.add("ETag", quote(object.etag()));
+        headers.add("Content-Type", object.contentType() != null ? object.contentType() : "application/octet-stream");
+        if (headOnly) {
+            headers.add("Content-Length", String.valueOf(object.data().length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+
+        // Range GET (bytes=시작-끝 형식만, 메타데이터 백필의 헤더 읽기용)
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = range != null ? BYTE_RANGE.matcher(range) : null;
+        if (matcher != null && matcher.matches() && object.data().length > 0) {
+            int start = Integer.parseInt(matcher.group(1));
+            int end = matcher.group(2).isEmpty() ? object.data().length - 1
+                    : Math.min(Integer.parseInt(matcher.group(2)), object.data().length - 1);
+            if (start <= end) {
+                headers.add("Content-Range", "bytes " + start + "-" + end + "/" + object.data().length);
+                exchange.sendResponseHeaders(206, end - start + 1);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(object.data(), start, end - start + 1);
+                }
+                return;
+            }
+        }
+
+        exchange.sendResponseHeaders(200, object.data().length == 0 ? -1 : object.data().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(object.data());
+        }
+    }
+
+    private void createMultipartUpload(HttpExchange exchange, String bucket, String key) throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new MultipartUpload(exchange.getRequestHeaders().getFirst("Content-Type"),
+                new ConcurrentSkipListMap<>()));
+        sendXml(exchange, "<InitiateMultipartUploadResult xmlns=\"" + XML_NS + "\">"
+                + "<Bucket>" + escape(bucket) + "</Bucket>"
+                + "<Key>" + escape(key) + "</Key>"
+                + "<UploadId>" + uploadId + "</UploadId>"
+                + "</InitiateMultipartUploadResult>");
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query) throws IOException {
+        MultipartUpload upload = uploads.get(query.get("uploadId"));
+        if (upload == null) {
+            drain(exchange.getRequestBody());
+            sendError(exchange, 404, "NoSuchUpload", "The specified upload does not exist.");
+            return;
+        }
+        byte[] body = readBody(exchange);
+        upload.parts().put(Integer.parseInt(query.get("partNumber")), body);
+
+        exchange.getResponseHeaders().add("ETag", quote(md5Hex(body)));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void completeMultipartUpload(HttpExchange exchange, String objectPath, String bucket, String key,
+                                         Map<String, String> query) throws IOException {
+        drain(exchange.getRequestBody());
+        MultipartUpload upload = uploads.remove(query.get("uploadId"));
+        if (upload == null) {
+            sendError(exchange, 404, "NoSuchUpload", "The specified upload does not exist.");
+            return;
+        }
+
+        ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+        ByteArrayOutputStream partDigests = new ByteArrayOutputStream();
+        for (byte[] part : upload.parts().values()) {
+            assembled.write(part);
+            partDigests.write(md5(part));
+        }
+        // S3와 동일하게 파트 MD5들의 MD5 + "-파트 수" 형식 (SDK는 '-'가 있으면 MD5 검증을 건너뛴다)
+        String etag = HexFormat.of().formatHex(md5(partDigests.toByteArray())) + "-" + upload.parts().size();
+        objects.put(objectPath, new StoredObject(assembled.toByteArray(), upload.contentType(), etag, Instant.now()));
+
+        sendXml(exchange, "<CompleteMultipartUploadResult xmlns=\"" + XML_NS + "\">"
+                + "<Location>" + getEndpoint() + "/" + escape(bucket) + "/" + escape(key) + "</Location>"
+                + "<Bucket>" + escape(bucket) + "</Bucket>"
+                + "<Key>" + escape(key) + "</Key>"
+                + "<ETag>" + quote(etag) + "</ETag>"
+                + "</CompleteMultipartUploadResult>");
+    }
+
+    /**
+     * DeleteObjects: 본문의 Key들을 삭제한다. Quiet 모드면 (오류가 없으므로) 빈 결과를 돌려준다.
+     */
+    private void deleteObjects(HttpExchange exchange, String bucket) throws IOException {
+        String body = new String(readBody(exchange), StandardCharsets.UTF_8);
+        boolean quiet = body.contains("<Quiet>true</Quiet>");
+
+        StringBuilder result = new StringBuilder("<DeleteResult xmlns=\"" + XML_NS + "\">");
+        Matcher matcher = KEY_ELEMENT.matcher(body);
+        while (matcher.find()) {
+            String key = unescape(matcher.group(1));
+            objects.remove(bucket + "/" + key);
+            if (!quiet) {
+                result.append("<Deleted><Key>").append(escape(key)).append("</Key></Deleted>");
+            }
+        }
+        sendXml(exchange, result.append("</DeleteResult>").toString());
+    }
+
+    /**
+     * ListObjectsV2: 키 순서대로 max-keys개씩. 이어받기 토큰은 마지막 키를 그대로 쓴다.
+     */
+    private void listObjectsV2(HttpExchange exchange, String bucket, Map<String, String> query) throws IOException {
+        String prefix = query.getOrDefault("prefix", "");
+        int maxKeys = Math.min(Integer.parseInt(query.getOrDefault("max-keys", "1000")), 1000);
+        String after = query.getOrDefault("continuation-token", query.getOrDefault("start-after", ""));
+        String bucketPrefix = bucket + "/";
+
+        String from = after.compareTo(prefix) > 0 ? after : prefix;
+        boolean inclusive = after.isEmpty() || !from.equals(after);
+
+        StringBuilder contents = new StringBuilder();
+        int count = 0;
+        String lastKey = null;
+        boolean truncated = false;
+        for (Map.Entry<String, StoredObject> entry : objects.tailMap(bucketPrefix + from, inclusive).entrySet()) {
+            String key = entry.getKey().substring(bucketPrefix.length());
+            if (!entry.getKey().startsWith(bucketPrefix) || !key.startsWith(prefix)) {
+                break;
+            }
+            if (count == maxKeys) {
+                truncated = true;
+                break;
+            }
+            StoredObject object = entry.getValue();
+            contents.append("<Contents><Key>").append(escape(key)).append("</Key>")
+                    .append("<LastModified>").append(DateTimeFormatter.ISO_INSTANT.format(object.lastModified()))
+                    .append("</LastModified><ETag>").append(escape(quote(object.etag()))).append("</ETag>")
+                    .append("<Size>").append(object.data().length).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+            lastKey = key;
+            count++;
+        }
+
+        sendXml(exchange, "<ListBucketResult xmlns=\"" + XML_NS + "\">"
+                + "<Name>" + escape(bucket) + "</Name>"
+                + "<Prefix>" + escape(prefix) + "</Prefix>"
+                + "<KeyCount>" + count + "</KeyCount>"
+                + "<MaxKeys>" + maxKeys + "</MaxKeys>"
+                + "<IsTruncated>" + truncated + "</IsTruncated>"
+                + (truncated ? "<NextContinuationToken>" + escape(lastKey) + "</NextContinuationToken>" : "")
+                + contents
+                + "</ListBucketResult>");
+    }
+
+    private void injectLatency() throws InterruptedException {
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    /**
+     * 요청 본문 읽기. SigV4 스트리밍 서명(aws-chunked)이면 청크 헤더를 벗겨낸다.
+     */
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        Headers headers = exchange.getRequestHeaders();
+        String contentSha = headers.getFirst("x-amz-content-sha256");
+        String contentEncoding = headers.getFirst("Content-Encoding");
+        boolean awsChunked = (contentSha != null && contentSha.startsWith("STREAMING-"))
+                || (contentEncoding != null && contentEncoding.contains("aws-chunked"));
+
+        try (InputStream in = exchange.getRequestBody()) {
+            return awsChunked ? decodeAwsChunked(in) : in.readAllBytes();
+        }
+    }
+
+    private static byte[] decodeAwsChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (true) {
+            String header = readLine(in);
+            if (header == null) {
+                break;
+            }
+            int semicolon = header.indexOf(';');
+            int size = Integer.parseInt((semicolon >= 0 ? header.substring(0, semicolon) : header).trim(), 16);
+            if (size == 0) {
+                break;
+            }
+            out.write(in.readNBytes(size));
+            readLine(in); // 청크 끝 CRLF
+        }
+        drain(in); // 트레일러
+        return out.toByteArray();
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                return line.toString().stripTrailing();
+            }
+            line.append((char) b);
+        }
+        return line.length() > 0 ? line.toString() : null;
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        in.transferTo(OutputStream.nullOutputStream());
+    }
+
+    private static void sendXml(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String code, String message) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code + "</Code><Message>"
+                + escape(message) + "</Message><RequestId>" + UUID.randomUUID() + "</RequestId></Error>")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq >= 0 ? pair.substring(0, eq) : pair, StandardCharsets.UTF_8);
+            String value = eq >= 0 ? URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8) : "";
+            params.put(name, value);
+        }
+        return params;
+    }
+
+    private static byte[] md5(byte[] data) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String md5Hex(byte[] data) {
+        return HexFormat.of().formatHex(md5(data));
+    }
+
+    private static String quote(String etag) {
+        return "\"" + etag + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String unescape(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private record StoredObject(byte[] data, String contentType, String etag, Instant lastModified) {
+    }
+
+    private record MultipartUpload(String contentType, ConcurrentSkipListMap<Integer, byte[]> parts) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.nhn.cloud.photoservice.config;
 
+import com.nhn.cloud.photoservice.service.UserCache;
+import io.micrometer.core.instrument.DistributionSummary;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,12 +18,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * 인증된 요청의 동시 처리 수를 추적하는 필터.
  * 요청 시작 시 activeUsers를 증가시키고, 요청 완료 시 감소시킨다.
+ * 요청 완료 시 사용자 캐시로 절약한 users 조회 수도 함께 기록한다.
  */
 @Component
 @RequiredArgsConstructor
 public class ActiveUserFilter extends OncePerRequestFilter {
 
     private final AtomicInteger activeUsers;
+    private final DistributionSummary userQueriesSavedSummary;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,6 +44,8 @@ public class ActiveUserFilter extends OncePerRequestFilter {
         } finally {
             if (isAuthenticated) {
                 activeUsers.decrementAndGet();
+                Object saved = request.getAttribute(UserCache.QUERIES_SAVED_ATTRIBUTE);
+                userQueriesSavedSummary.record(saved instanceof AtomicInteger count ? count.get() : 0);
             }
         }
     }
@@ -0,0 +1,160 @@
+package com.nhn.cloud.photoservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * @Async 기본 실행기.
+     * 전용 풀을 빈으로 등록하면 Spring Boot 기본 실행기가 생성되지 않으므로,
+     * 이름 없는 @Async가 전용 풀로 흘러가지 않도록 기본 실행기를 명시적으로 등록한다.
+     * 가상 스레드 모드에서는 작업마다 가상 스레드를 생성한다 (블로킹 I/O 위주 작업용).
+     */
+    @Bean(name = "taskExecutor")
+    public AsyncTaskExecutor taskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("task-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("task-");
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 썸네일/미리보기 생성 전용 워커 풀.
+     * 큐가 가득 차면 작업을 버리고 PENDING 상태로 남겨 백필 작업이 다시 처리하도록 한다.
+     * (업로드 요청 스레드가 이미지 처리에 묶이지 않도록 CallerRuns를 사용하지 않는다)
+     * 디코딩/리사이즈는 CPU 작업이므로 가상 스레드 모드에서도 크기가 고정된 플랫폼 스레드 풀을 유지한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor derivativeExecutor(
+            @Value("${photo-service.derivatives.pool-size:2}") int poolSize,
+            @Value("${photo-service.derivatives.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("derivative-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Derivative queue full, task dropped (will be picked up by backfill)"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 병렬 Multipart Upload 파트 전송 풀.
+     * 노드 전체에서 동시에 전송 중인 파트 수를 제한한다 (파트 버퍼 수는 PartBufferPool이 별도로 제한).
+     * 큐가 가득 차면 요청 스레드가 직접 파트를 전송하여 자연스럽게 속도를 늦춘다.
+     */
+    @Bean
+    public AsyncTaskExecutor multipartUploadExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${cloud.nhn.object-storage.multipart.parallelism:16}") int parallelism) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("multipart-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(parallelism);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("multipart-");
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 앨범 실시간 이벤트(SSE) 조회/직렬화 풀.
+     * 커밋된 변경마다 사진/앨범을 한 번 조회하여 구독자 큐에 넣으며, 소켓 쓰기는 albumEventWriteExecutor가 맡는다.
+     */
+    @Bean
+    public AsyncTaskExecutor albumEventExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${photo-service.album-events.delivery-threads:16}") int threads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("album-events-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("album-events-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        return executor;
+    }
+
+    /**
+     * 앨범 실시간 이벤트(SSE) 전송 풀.
+     * 느린 클라이언트로의 쓰기는 소켓 버퍼가 빌 때까지 블로킹되므로, 구독자별 큐가 넘치면 연결을 끊어 스레드를 돌려받는다.
+     * 구독자당 전송 작업은 최대 하나이며, 끊긴 구독자는 진행 중인 쓰기가 끝나면 그 작업이 응답을 종료한다.
+     */
+    @Bean
+    public AsyncTaskExecutor albumEventWriteExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${photo-service.album-events.write-threads:64}") int threads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("album-event-writes-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("album-event-writes-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        return executor;
+    }
+
+    /**
+     * 일괄 업로드 파일 전송 풀.
+     * 한 요청의 파일들을 동시에 Object Storage로 보내되 노드 전체 동시 전송 수를 제한한다.
+     * 대용량 파일의 파트 전송은 multipartUploadExecutor가 맡으므로 두 풀을 분리하여 서로를 기다리며 막히지 않게 한다.
+     */
+    @Bean
+    public AsyncTaskExecutor batchUploadExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${photo-service.batch-upload.parallelism:8}") int parallelism) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-upload-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(parallelism);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("batch-upload-");
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhn.cloud.photoservice.config;
+
+import com.nhn.cloud.photoservice.service.UserCacheEvictionListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 서비스 계층의 Hibernate 이벤트 리스너 등록.
+ * 엔티티의 @EntityListeners 대신 세션 팩토리에 직접 추가하여 도메인이 서비스에 의존하지 않게 한다.
+ */
+@Configuration
+public class HibernateListenerConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer entityListenerIntegrator(UserCacheEvictionListener userCacheEvictionListener) {
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+                        .getService(EventListenerRegistry.class);
+                registry.appendListeners(EventType.POST_UPDATE, userCacheEvictionListener);
+                registry.appendListeners(EventType.POST_DELETE, userCacheEvictionListener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+    }
+}
@@ -1,13 +1,20 @@
 package com.nhn.cloud.photoservice.config;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 @Configuration
 public class MetricsConfig {
@@ -79,6 +86,65 @@ public class MetricsConfig {
                 .register(registry);
     }
 
+    /**
+     * 업로드 중 메모리에 적재된 바이트 수 (Gauge)
+     * - 스트리밍 업로드의 파트 버퍼에 읽혀 아직 전송이 끝나지 않은 양
+     */
+    @Bean
+    public AtomicLong uploadInFlightBytes() {
+        return new AtomicLong(0);
+    }
+
+    @Bean
+    public Gauge uploadInFlightBytesGauge(MeterRegistry registry, AtomicLong uploadInFlightBytes) {
+        return Gauge.builder("photo_service.photo.upload.in_flight.bytes", uploadInFlightBytes, AtomicLong::get)
+                .description("Bytes read from upload streams and not yet sent to Object Storage")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Multipart 임시 파일 디스크 사용량 (Gauge)
+     * - spring.servlet.multipart.location에 스풀된 업로드 파일 크기 합계
+     */
+    @Bean
+    public Gauge uploadTempDiskGauge(MeterRegistry registry, MultipartProperties multipartProperties) {
+        Path location = multipartProperties.getLocation() != null
+                ? Path.of(multipartProperties.getLocation())
+                : null;
+
+        return Gauge.builder("photo_service.photo.upload.temp_disk.bytes", () -> directorySize(location))
+                .description("Bytes of multipart upload temp files spooled to disk")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static double directorySize(Path directory) {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .mapToLong(file -> {
+                        try {
+                            return Files.size(file);
+                        } catch (IOException e) {
+                            return 0L; // 측정 중 삭제된 파일
+                        }
+                    })
+                    .sum();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    @Bean
+    public Timer photoDerivativeTimer(MeterRegistry registry) {
+        return Timer.builder("photo_service.photo.derivative.duration")
+                .description("Time taken to generate thumbnail and preview for a photo")
+                .register(registry);
+    }
+
     // --- Object Storage Metrics ---
 
     @Bean
@@ -88,6 +154,75 @@ public class MetricsConfig {
                 .register(registry);
     }
 
+    @Bean
+    public Timer objectStorageUploadPartTimer(MeterRegistry registry) {
+        return Timer.builder("photo_service.storage.upload.part.duration")
+                .description("Time taken to upload a single multipart part to Object Storage (per attempt)")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter objectStorageUploadPartRetryCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.storage.upload.part.retries")
+                .description("Number of multipart part uploads retried after a transient failure")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter uploadSessionCompletedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.upload_session")
+                .tag("result", "completed")
+                .description("Number of resumable upload sessions committed into photos")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter uploadSessionExpiredCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.upload_session")
+                .tag("result", "expired")
+                .description("Number of abandoned resumable upload sessions aborted by cleanup")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter uploadIntentFinalizedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.upload_intent")
+                .tag("result", "finalized")
+                .description("Number of direct uploads verified and turned into photos")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter uploadIntentAbandonedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.upload_intent")
+                .tag("result", "abandoned")
+                .description("Number of direct upload intents never finalized and cleaned up by the reconciler")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter storageDeletionDeletedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.storage.deletion")
+                .tag("result", "deleted")
+                .description("Number of outbox storage deletions completed by the dispatcher")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter storageDeletionRetriedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.storage.deletion")
+                .tag("result", "retried")
+                .description("Number of outbox storage deletions that failed and were rescheduled with backoff")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter photoBlobDeduplicatedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.photo.upload.deduplicated")
+                .description("Number of uploads that reused an existing object with the same content")
+                .register(registry);
+    }
+
     @Bean
     public Timer presignedUrlTimer(MeterRegistry registry) {
         return Timer.builder("photo_service.storage.presigned_url.duration")
@@ -95,6 +230,104 @@ public class MetricsConfig {
                 .register(registry);
     }
 
+    @Bean
+    public Counter presignedUrlCacheHitCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.storage.presigned_url.cache")
+                .tag("result", "hit")
+                .description("Number of presigned URL lookups served from cache")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter presignedUrlCacheMissCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.storage.presigned_url.cache")
+                .tag("result", "miss")
+                .description("Number of presigned URL lookups that required signing")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter presignedUrlCacheEvictionCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.storage.presigned_url.cache.evictions")
+                .description("Number of presigned URLs evicted from cache (size or TTL)")
+                .register(registry);
+    }
+
+    // --- Shared Album Cache Metrics ---
+
+    @Bean
+    public Counter sharedAlbumCacheHitCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.album.shared.cache")
+                .tag("result", "hit")
+                .description("Number of shared album responses served from the snapshot cache")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter sharedAlbumCacheMissCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.album.shared.cache")
+                .tag("result", "miss")
+                .description("Number of shared album responses built from the database")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter sharedAlbumNotModifiedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.album.shared.not_modified")
+                .description("Number of shared album requests answered with 304 Not Modified")
+                .register(registry);
+    }
+
+    // --- User Cache Metrics ---
+
+    @Bean
+    public Counter userCacheHitCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.user_cache")
+                .tag("result", "hit")
+                .description("Number of user lookups served from cache")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter userCacheMissCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.user_cache")
+                .tag("result", "miss")
+                .description("Number of user lookups that required a users SELECT")
+                .register(registry);
+    }
+
+    @Bean
+    public DistributionSummary userQueriesSavedSummary(MeterRegistry registry) {
+        return DistributionSummary.builder("photo_service.user_cache.queries_saved")
+                .description("Number of users SELECTs avoided per authenticated request")
+                .register(registry);
+    }
+
+    // --- Virtual Thread Metrics ---
+
+    @Bean
+    public Timer virtualThreadPinnedTimer(MeterRegistry registry) {
+        return Timer.builder("photo_service.virtual_thread.pinned")
+                .description("Time virtual threads spent pinned to a carrier thread (JFR jdk.VirtualThreadPinned)")
+                .register(registry);
+    }
+
+    // --- Audit Log Metrics ---
+
+    @Bean
+    public Counter auditLogDroppedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.audit.dropped")
+                .description("Number of audit log events dropped (queue overflow or write failure)")
+                .register(registry);
+    }
+
+    @Bean
+    public DistributionSummary auditLogBatchSizeSummary(MeterRegistry registry) {
+        return DistributionSummary.builder("photo_service.audit.batch.size")
+                .description("Number of audit log events written per JDBC batch")
+                .register(registry);
+    }
+
     // --- Album Metrics ---
 
     @Bean
@@ -119,4 +352,33 @@ public class MetricsConfig {
                 .description("Time taken to list albums")
                 .register(registry);
     }
+
+    /**
+     * 앨범 실시간 이벤트(SSE) 연결 수 (Gauge)
+     */
+    @Bean
+    public AtomicInteger albumEventConnections() {
+        return new AtomicInteger(0);
+    }
+
+    @Bean
+    public Gauge albumEventConnectionsGauge(MeterRegistry registry, AtomicInteger albumEventConnections) {
+        return Gauge.builder("photo_service.album.events.connections", albumEventConnections, AtomicInteger::get)
+                .description("Number of open album event streams (owner and shared viewers)")
+                .register(registry);
+    }
+
+    @Bean
+    public Counter albumEventDroppedCounter(MeterRegistry registry) {
+        return Counter.builder("photo_service.album.events.dropped")
+                .description("Number of album event streams closed because the subscriber fell behind")
+                .register(registry);
+    }
+
+    @Bean
+    public Timer photoSearchTimer(MeterRegistry registry) {
+        return Timer.builder("photo_service.photo.search.duration")
+                .description("Time taken to search photos (index lookup and row fetch)")
+                .register(registry);
+    }
 }
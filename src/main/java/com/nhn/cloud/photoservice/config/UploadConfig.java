@@ -0,0 +1,26 @@
+package com.nhn.cloud.photoservice.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Configuration
+public class UploadConfig {
+
+    /**
+     * Multipart 임시 파일 위치를 고정하고, 없으면 생성한다.
+     * 위치가 고정되어야 임시 디스크 사용량을 메트릭으로 측정할 수 있다.
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties multipartProperties) throws IOException {
+        if (multipartProperties.getLocation() != null) {
+            Files.createDirectories(Path.of(multipartProperties.getLocation()));
+        }
+        return multipartProperties.createMultipartConfig();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nhn.cloud.photoservice.config;
+
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단.
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독하여 고정 시간을 메트릭으로 기록하고,
+ * 처음 보는 호출 경로는 스택 일부를 경고 로그로 남긴다 (synchronized 블록, JDBC 드라이버 등 원인 추적용).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    private static final int MAX_REPORTED_STACKS = 100;
+
+    private final Timer virtualThreadPinnedTimer;
+    private final Duration threshold;
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            Timer virtualThreadPinnedTimer,
+            @Value("${photo-service.virtual-threads.pinning-threshold-ms:20}") long thresholdMillis) {
+        this.virtualThreadPinnedTimer = virtualThreadPinnedTimer;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        virtualThreadPinnedTimer.record(event.getDuration());
+
+        if (event.getStackTrace() == null || reportedStacks.size() >= MAX_REPORTED_STACKS) {
+            return;
+        }
+        String stack = event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n\tat "));
+        if (reportedStacks.add(stack)) {
+            log.warn("Virtual thread pinned for {} ms on {}\n\tat {}",
+                    event.getDuration().toMillis(), event.getThread() != null ? event.getThread().getJavaName() : "?",
+                    stack);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    // --- Lifecycle ---
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Virtual thread pinning monitor started (threshold: {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+}
@@ -13,4 +13,5 @@ public class JwtProperties {
     private String secret;
     private Long accessTokenExpiration;
     private Long refreshTokenExpiration;
+    private Long verifiedTokenCacheSize = 10000L;
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.nhn.cloud.photoservice.config.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,8 +15,12 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -22,12 +29,44 @@ public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    /**
+     * 최근 검증된 토큰 캐시 (키: 토큰 SHA-256 다이제스트, 만료: 토큰의 exp 시각)
+     */
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
         );
+        // JwtParser는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String createAccessToken(Long userId, String email, String role) {
@@ -56,6 +95,30 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 검증하여 Authentication을 반환한다. 유효하지 않으면 null.
+     * 최근 검증된 토큰은 캐시에서 꺼내 서명 검증을 생략한다.
+     */
+    public Authentication resolveAuthentication(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.toAuthentication();
+        }
+
+        Claims claims = parseClaimsOrNull(token);
+        if (claims == null) {
+            return null;
+        }
+
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L);
+        if (verified.expiresAtMillis() > System.currentTimeMillis()) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified.toAuthentication();
+    }
+
     public Authentication getAuthentication(String token) {
         Claims claims = parseClaims(token);
         String role = claims.get("role", String.class);
@@ -72,12 +135,12 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseClaimsOrNull(token) != null;
+    }
+
+    private Claims parseClaimsOrNull(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parseClaims(token);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature");
         } catch (ExpiredJwtException e) {
@@ -87,14 +150,36 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return null;
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
-}
\ No newline at end of file
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 검증이 끝난 토큰에서 인증에 필요한 값만 보관 (요청마다 새 Authentication을 만든다)
+     */
+    private record VerifiedToken(String subject, String role, long expiresAtMillis) {
+
+        Authentication toAuthentication() {
+            return new UsernamePasswordAuthenticationToken(
+                    subject,
+                    null,
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+            );
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.nhn.cloud.photoservice.config.security;
 
 import com.nhn.cloud.photoservice.config.ActiveUserFilter;
 import com.nhn.cloud.photoservice.config.MdcFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +37,8 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재디스패치 (최초 요청에서 이미 인증/인가됨, JWT 필터는 재실행되지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/",
                                 "/*.html",
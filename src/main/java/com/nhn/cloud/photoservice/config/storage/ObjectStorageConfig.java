@@ -1,16 +1,25 @@
 package com.nhn.cloud.photoservice.config.storage;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+@Slf4j
 @Configuration
 public class ObjectStorageConfig {
 
@@ -41,6 +50,58 @@ public class ObjectStorageConfig {
                 .build();
     }
 
+    /**
+     * 비동기 S3 클라이언트 (cloud.nhn.object-storage.async.enabled=true일 때 업로드 경로에서 사용).
+     * 전송 계층은 netty(기본) 또는 crt 중 선택하며, 최대 동시 요청 수가 곧 커넥션 풀 크기다.
+     * crt는 네이티브 라이브러리(aws-crt)가 필요하므로 -Pcrt로 빌드해야 한다.
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient(
+            @Value("${cloud.nhn.object-storage.async.transport:netty}") String transport,
+            @Value("${cloud.nhn.object-storage.async.max-concurrency:200}") int maxConcurrency,
+            @Value("${cloud.nhn.object-storage.async.max-pending-acquires:10000}") int maxPendingAcquires,
+            @Value("${cloud.nhn.object-storage.async.connection-acquire-timeout-ms:10000}") long acquireTimeoutMillis,
+            @Value("${cloud.nhn.object-storage.async.connection-timeout-ms:5000}") long connectionTimeoutMillis) {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        SdkAsyncHttpClient httpClient = switch (transport) {
+            case "netty" -> NettyNioAsyncHttpClient.builder()
+                    .maxConcurrency(maxConcurrency)
+                    .maxPendingConnectionAcquires(maxPendingAcquires)
+                    .connectionAcquisitionTimeout(Duration.ofMillis(acquireTimeoutMillis))
+                    .connectionTimeout(Duration.ofMillis(connectionTimeoutMillis))
+                    .build();
+            // crt 클라이언트는 커넥션 대기 시간 설정이 없다 (대기 요청 수/시간 상한은 netty 전용)
+            case "crt" -> AwsCrtAsyncHttpClient.builder()
+                    .maxConcurrency(maxConcurrency)
+                    .connectionTimeout(Duration.ofMillis(connectionTimeoutMillis))
+                    .build();
+            default -> throw new IllegalArgumentException(
+                    "Unknown object storage async transport: " + transport + " (expected netty or crt)");
+        };
+        log.info("S3 async client transport: {} (max concurrency: {})", transport, maxConcurrency);
+
+        return S3AsyncClient.builder()
+                .httpClient(httpClient)
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .forcePathStyle(true)
+                .build();
+    }
+
+    /**
+     * 비동기 업로드 시 multipart 임시 파일을 읽어 요청 본문으로 흘려보내는 실행기.
+     * 파일 읽기는 블로킹이므로 SDK 이벤트 루프가 아닌 별도 스레드에서 수행한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageBodyExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newCachedThreadPool(Thread.ofPlatform().name("storage-body-", 0).daemon(true).factory());
+    }
+
     @Bean
     public S3Presigner s3Presigner() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
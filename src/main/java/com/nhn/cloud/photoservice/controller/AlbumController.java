@@ -1,25 +1,28 @@
 package com.nhn.cloud.photoservice.controller;
 
-import com.nhn.cloud.photoservice.domain.album.Album;
-import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.domain.photo.PhotoSort;
 import com.nhn.cloud.photoservice.dto.request.AlbumCreateRequest;
 import com.nhn.cloud.photoservice.dto.request.AlbumUpdateRequest;
 import com.nhn.cloud.photoservice.dto.request.PhotoUploadRequest;
 import com.nhn.cloud.photoservice.dto.response.AlbumResponse;
+import com.nhn.cloud.photoservice.dto.response.CursorPageResponse;
 import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.service.AlbumEventBroadcaster;
 import com.nhn.cloud.photoservice.service.AlbumService;
 import com.nhn.cloud.photoservice.service.PhotoService;
+import com.nhn.cloud.photoservice.service.SharedAlbumCache;
+import io.micrometer.core.instrument.Counter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
-import com.nhn.cloud.photoservice.service.ObjectStorageService;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/albums")
@@ -28,7 +31,9 @@ public class AlbumController {
 
     private final AlbumService albumService;
     private final PhotoService photoService;
-    private final ObjectStorageService objectStorageService;
+    private final SharedAlbumCache sharedAlbumCache;
+    private final AlbumEventBroadcaster albumEventBroadcaster;
+    private final Counter sharedAlbumNotModifiedCounter;
 
     /**
      * 앨범 생성
@@ -46,9 +51,12 @@ public class AlbumController {
      * 내 앨범 목록 조회
      */
     @GetMapping
-    public ResponseEntity<List<AlbumResponse>> getMyAlbums(Authentication authentication) {
+    public ResponseEntity<CursorPageResponse<AlbumResponse>> getMyAlbums(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         Long userId = Long.parseLong(authentication.getName());
-        List<AlbumResponse> response = albumService.getMyAlbums(userId);
+        CursorPageResponse<AlbumResponse> response = albumService.getMyAlbums(userId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -65,26 +73,56 @@ public class AlbumController {
     }
 
     /**
-     * 공유 앨범 조회 (로그인 불필요)
+     * 공유 앨범 조회 (로그인 불필요, ETag 기반 조건부 요청 지원)
      */
     @GetMapping("/shared/{shareToken}")
-    public ResponseEntity<AlbumResponse> getSharedAlbum(@PathVariable String shareToken) {
-        return ResponseEntity.ok(albumService.getSharedAlbum(shareToken));
+    public ResponseEntity<byte[]> getSharedAlbum(@PathVariable String shareToken, WebRequest webRequest) {
+        return conditional(sharedAlbumCache.getAlbum(shareToken), webRequest);
     }
 
     @GetMapping("/shared/{shareToken}/photos")
-    public ResponseEntity<List<PhotoResponse>> getSharedAlbumPhotos(@PathVariable String shareToken) {
-        Album album = albumService.getAlbumByShareToken(shareToken);
-        List<Photo> photos = photoService.getPhotosByAlbumId(album.getId());
-
-        return ResponseEntity.ok(
-                photos.stream()
-                        .map(photo -> {
-                            String downloadUrl = objectStorageService.generatePresignedUrl(photo.getStorageKey());
-                            return PhotoResponse.from(photo, downloadUrl);
-                        })
-                        .collect(Collectors.toList())
-        );
+    public ResponseEntity<byte[]> getSharedAlbumPhotos(
+            @PathVariable String shareToken,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        return conditional(sharedAlbumCache.getPhotos(shareToken, cursor, size), webRequest);
+    }
+
+    /**
+     * 앨범 실시간 이벤트 구독 (Server-Sent Events)
+     */
+    @GetMapping("/{albumId}/events")
+    public SseEmitter subscribeAlbumEvents(
+            Authentication authentication,
+            @PathVariable Long albumId) {
+        Long userId = Long.parseLong(authentication.getName());
+        albumService.getAlbum(userId, albumId);
+        return albumEventBroadcaster.subscribe(albumId, false);
+    }
+
+    /**
+     * 공유 앨범 실시간 이벤트 구독 (로그인 불필요, 공유 해제 시 album-closed 후 종료)
+     */
+    @GetMapping("/shared/{shareToken}/events")
+    public SseEmitter subscribeSharedAlbumEvents(@PathVariable String shareToken) {
+        return albumEventBroadcaster.subscribe(albumService.getSharedAlbumId(shareToken), true);
+    }
+
+    /**
+     * If-None-Match가 일치하면 304 (본문 없음), 아니면 캐시된 JSON 바이트를 그대로 응답한다.
+     * no-cache로 브라우저/프록시가 매번 재검증하도록 하여 변경 사항이 바로 반영되게 한다.
+     */
+    private ResponseEntity<byte[]> conditional(SharedAlbumCache.CachedResponse cached, WebRequest webRequest) {
+        if (webRequest.checkNotModified(cached.getEtag())) {
+            sharedAlbumNotModifiedCounter.increment();
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.getBody());
     }
     /**
      * 앨범 수정
@@ -122,15 +160,19 @@ public class AlbumController {
     }
 
     /**
-     * 앨범의 사진 목록 조회
+     * 앨범의 사진 목록 조회 (sort=created|taken)
      */
     @GetMapping("/{albumId}/photos")
-    public ResponseEntity<List<PhotoResponse>> getAlbumPhotos(
+    public ResponseEntity<CursorPageResponse<PhotoResponse>> getAlbumPhotos(
             Authentication authentication,
-            @PathVariable Long albumId) {
+            @PathVariable Long albumId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort) {
 
         Long userId = Long.parseLong(authentication.getName());
-        List<PhotoResponse> response = photoService.getPhotosByAlbum(userId, albumId);
+        CursorPageResponse<PhotoResponse> response =
+                photoService.getPhotosByAlbum(userId, albumId, cursor, size, PhotoSort.from(sort));
         return ResponseEntity.ok(response);
     }
 
@@ -159,14 +201,15 @@ public class AlbumController {
     }
 
     /**
-     * 앨범 삭제
+     * 앨범 삭제 (deletePhotos=true면 앨범의 사진도 함께 삭제)
      */
     @DeleteMapping("/{albumId}")
     public ResponseEntity<Void> deleteAlbum(
             Authentication authentication,
-            @PathVariable Long albumId) {
+            @PathVariable Long albumId,
+            @RequestParam(defaultValue = "false") boolean deletePhotos) {
         Long userId = Long.parseLong(authentication.getName());
-        albumService.deleteAlbum(userId, albumId);
+        albumService.deleteAlbum(userId, albumId, deletePhotos);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -1,10 +1,21 @@
 package com.nhn.cloud.photoservice.controller;
 
+import com.nhn.cloud.photoservice.domain.photo.PhotoSort;
+import com.nhn.cloud.photoservice.dto.request.BulkPhotoRequest;
 import com.nhn.cloud.photoservice.dto.request.PhotoUpdateRequest;
 import com.nhn.cloud.photoservice.dto.request.PhotoUploadRequest;
+import com.nhn.cloud.photoservice.dto.response.BatchUploadResponse;
+import com.nhn.cloud.photoservice.dto.response.BulkOperationResponse;
+import com.nhn.cloud.photoservice.dto.response.CursorPageResponse;
 import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.service.ObjectStorageService;
 import com.nhn.cloud.photoservice.service.PhotoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +23,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/photos")
@@ -21,11 +34,17 @@ public class PhotoController {
 
     private final PhotoService photoService;
 
+    /**
+     * true면 업로드를 비동기 S3 클라이언트로 처리하고 완료 시점에 응답한다 (요청 스레드를 붙잡지 않음)
+     */
+    @Value("${cloud.nhn.object-storage.async.enabled:false}")
+    private boolean asyncStorage;
+
     /**
      * 사진 업로드
      */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<PhotoResponse> uploadPhoto(
+    public CompletableFuture<ResponseEntity<PhotoResponse>> uploadPhoto(
             Authentication authentication,
             @RequestPart("file") MultipartFile file,
             @RequestPart(value = "request", required = false) PhotoUploadRequest request) {
@@ -35,29 +54,97 @@ public class PhotoController {
             request = new PhotoUploadRequest();
         }
 
+        if (asyncStorage) {
+            return photoService.uploadPhotoAsync(userId, file, request)
+                    .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+        }
+
         PhotoResponse response = photoService.uploadPhoto(userId, file, request);
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    /**
+     * 사진 일괄 업로드
+     * 여러 파일을 한 multipart 요청(files 파트 반복)으로 올린다. 앨범/제목/설명은 모든 파일에 공통 적용된다.
+     * 모두 성공하면 201, 일부라도 실패하면 207과 함께 파일별 결과를 응답한다.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BatchUploadResponse> uploadPhotos(
+            Authentication authentication,
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestParam(value = "albumId", required = false) Long albumId,
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "description", required = false) String description) {
+        Long userId = Long.parseLong(authentication.getName());
+
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setAlbumId(albumId);
+        request.setTitle(title);
+        request.setDescription(description);
+
+        BatchUploadResponse response = photoService.uploadPhotos(userId, files, request);
+        return ResponseEntity.status(response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(response);
+    }
+
+    /**
+     * 사진 스트리밍 업로드
+     * multipart 대신 요청 본문 자체가 이미지 바이트이며, 메타데이터는 쿼리 파라미터로 전달한다.
+     * 본문은 임시 파일로 스풀되지 않고 Object Storage로 바로 전송된다.
+     */
+    @PostMapping(value = "/stream", consumes = "image/*")
+    public ResponseEntity<PhotoResponse> uploadPhotoStream(
+            Authentication authentication,
+            HttpServletRequest servletRequest,
+            @RequestParam(value = "filename", required = false) String filename,
+            @RequestParam(value = "albumId", required = false) Long albumId,
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "description", required = false) String description) throws IOException {
+        Long userId = Long.parseLong(authentication.getName());
+
+        if (servletRequest.getContentLengthLong() > ObjectStorageService.MAX_FILE_SIZE) {
+            throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED, "File size must not exceed 50MB");
+        }
+
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setAlbumId(albumId);
+        request.setTitle(title);
+        request.setDescription(description);
+
+        PhotoResponse response = photoService.uploadPhotoStream(userId, servletRequest.getInputStream(),
+                filename != null && !filename.isBlank() ? filename : "upload",
+                servletRequest.getContentType(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
-     * 내 사진 목록 조회
+     * 내 사진 목록 조회 (sort=created|taken)
      */
     @GetMapping
-    public ResponseEntity<List<PhotoResponse>> getMyPhotos(Authentication authentication) {
+    public ResponseEntity<CursorPageResponse<PhotoResponse>> getMyPhotos(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort) {
         Long userId = Long.parseLong(authentication.getName());
-        List<PhotoResponse> response = photoService.getMyPhotos(userId);
+        CursorPageResponse<PhotoResponse> response =
+                photoService.getMyPhotos(userId, cursor, size, PhotoSort.from(sort));
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 앨범별 사진 조회
+     * 앨범별 사진 조회 (sort=created|taken)
      */
     @GetMapping("/album/{albumId}")
-    public ResponseEntity<List<PhotoResponse>> getPhotosByAlbum(
+    public ResponseEntity<CursorPageResponse<PhotoResponse>> getPhotosByAlbum(
             Authentication authentication,
-            @PathVariable Long albumId) {
+            @PathVariable Long albumId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort) {
         Long userId = Long.parseLong(authentication.getName());
-        List<PhotoResponse> response = photoService.getPhotosByAlbum(userId, albumId);
+        CursorPageResponse<PhotoResponse> response =
+                photoService.getPhotosByAlbum(userId, albumId, cursor, size, PhotoSort.from(sort));
         return ResponseEntity.ok(response);
     }
 
@@ -65,9 +152,26 @@ public class PhotoController {
      * 앨범에 속하지 않은 사진 조회
      */
     @GetMapping("/no-album")
-    public ResponseEntity<List<PhotoResponse>> getPhotosWithoutAlbum(Authentication authentication) {
+    public ResponseEntity<CursorPageResponse<PhotoResponse>> getPhotosWithoutAlbum(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = Long.parseLong(authentication.getName());
+        CursorPageResponse<PhotoResponse> response = photoService.getPhotosWithoutAlbum(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사진 검색 (제목/설명, 앨범 제목/설명의 단어 접두사 일치, 최신순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<PhotoResponse>> searchPhotos(
+            Authentication authentication,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         Long userId = Long.parseLong(authentication.getName());
-        List<PhotoResponse> response = photoService.getPhotosWithoutAlbum(userId);
+        CursorPageResponse<PhotoResponse> response = photoService.searchPhotos(userId, q, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -107,4 +211,32 @@ public class PhotoController {
         photoService.deletePhoto(userId, photoId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 사진 일괄 삭제
+     * 모두 성공하면 200, 일부라도 실패하면 207과 함께 사진별 결과를 응답한다.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkOperationResponse> deletePhotos(
+            Authentication authentication,
+            @Valid @RequestBody BulkPhotoRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        return toBulkResponse(photoService.deletePhotos(userId, request.getPhotoIds()));
+    }
+
+    /**
+     * 사진 일괄 이동 (albumId가 없으면 앨범에서 제외)
+     */
+    @PostMapping("/bulk-move")
+    public ResponseEntity<BulkOperationResponse> movePhotos(
+            Authentication authentication,
+            @Valid @RequestBody BulkPhotoRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        return toBulkResponse(photoService.movePhotos(userId, request.getPhotoIds(), request.getAlbumId()));
+    }
+
+    private ResponseEntity<BulkOperationResponse> toBulkResponse(BulkOperationResponse response) {
+        return ResponseEntity.status(response.getFailed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS)
+                .body(response);
+    }
+}
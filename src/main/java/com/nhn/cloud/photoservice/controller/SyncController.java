@@ -0,0 +1,33 @@
+package com.nhn.cloud.photoservice.controller;
+
+import com.nhn.cloud.photoservice.dto.response.SyncResponse;
+import com.nhn.cloud.photoservice.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 증분 동기화 API
+ * 1. GET /api/sync                 첫 동기화: 커서만 발급 (reset=true), 목록 API로 전체를 받는다
+ * 2. GET /api/sync?since={cursor}  커서 이후 변경만 조회, hasMore=false가 될 때까지 새 커서로 반복
+ * 커서가 보관 기간보다 오래되면 410 (SYNC_CURSOR_EXPIRED): 1번부터 다시 시작한다.
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            Authentication authentication,
+            @RequestParam(required = false) String since) {
+        Long userId = Long.parseLong(authentication.getName());
+        return ResponseEntity.ok(syncService.sync(userId, since));
+    }
+}
@@ -0,0 +1,133 @@
+package com.nhn.cloud.photoservice.controller;
+
+import com.nhn.cloud.photoservice.dto.request.UploadIntentCreateRequest;
+import com.nhn.cloud.photoservice.dto.request.UploadSessionCreateRequest;
+import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.dto.response.UploadIntentResponse;
+import com.nhn.cloud.photoservice.dto.response.UploadSessionResponse;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.service.UploadIntentService;
+import com.nhn.cloud.photoservice.service.UploadSessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 재개 가능 업로드 API (모바일 등 불안정한 네트워크용)
+ * 1. POST /api/uploads                          세션 생성 (chunkSize, totalChunks 응답)
+ * 2. PUT  /api/uploads/{id}/chunks/{number}     청크 전송 (본문: 청크 바이트, 번호는 1부터)
+ * 3. GET  /api/uploads/{id}                     수신 현황 (끊긴 뒤 missingChunks만 다시 전송)
+ * 4. POST /api/uploads/{id}/complete            커밋 (사진 생성)
+ * <p>
+ * 직접 업로드 API (바이트가 서버를 거치지 않음)
+ * 1. POST /api/uploads/direct                   업로드 URL 발급 (Pre-signed PUT)
+ * 2. PUT  {uploadUrl}                           클라이언트가 Object Storage로 직접 업로드
+ * 3. POST /api/uploads/direct/{id}/finalize     객체 확인 후 사진 생성
+ */
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final UploadSessionService uploadSessionService;
+    private final UploadIntentService uploadIntentService;
+
+    /**
+     * 업로드 세션 생성
+     */
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> createSession(
+            Authentication authentication,
+            @Valid @RequestBody UploadSessionCreateRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        UploadSessionResponse response = uploadSessionService.createSession(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 청크 전송
+     */
+    @PutMapping("/{sessionId}/chunks/{chunkNumber}")
+    public ResponseEntity<UploadSessionResponse> uploadChunk(
+            Authentication authentication,
+            HttpServletRequest servletRequest,
+            @PathVariable Long sessionId,
+            @PathVariable int chunkNumber) throws IOException {
+        Long userId = Long.parseLong(authentication.getName());
+
+        long contentLength = servletRequest.getContentLengthLong();
+        if (contentLength < 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Content-Length is required");
+        }
+
+        UploadSessionResponse response = uploadSessionService.uploadChunk(
+                userId, sessionId, chunkNumber, servletRequest.getInputStream(), contentLength);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 수신 현황 조회
+     */
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<UploadSessionResponse> getSession(
+            Authentication authentication,
+            @PathVariable Long sessionId) {
+        Long userId = Long.parseLong(authentication.getName());
+        return ResponseEntity.ok(uploadSessionService.getSession(userId, sessionId));
+    }
+
+    /**
+     * 커밋
+     */
+    @PostMapping("/{sessionId}/complete")
+    public ResponseEntity<PhotoResponse> completeSession(
+            Authentication authentication,
+            @PathVariable Long sessionId) {
+        Long userId = Long.parseLong(authentication.getName());
+        PhotoResponse response = uploadSessionService.completeSession(userId, sessionId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 업로드 중단
+     */
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> abortSession(
+            Authentication authentication,
+            @PathVariable Long sessionId) {
+        Long userId = Long.parseLong(authentication.getName());
+        uploadSessionService.abortSession(userId, sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 직접 업로드 URL 발급
+     */
+    @PostMapping("/direct")
+    public ResponseEntity<UploadIntentResponse> createIntent(
+            Authentication authentication,
+            @Valid @RequestBody UploadIntentCreateRequest request) {
+        Long userId = Long.parseLong(authentication.getName());
+        UploadIntentResponse response = uploadIntentService.createIntent(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 직접 업로드 finalize
+     */
+    @PostMapping("/direct/{intentId}/finalize")
+    public ResponseEntity<PhotoResponse> finalizeIntent(
+            Authentication authentication,
+            @PathVariable Long intentId) {
+        Long userId = Long.parseLong(authentication.getName());
+        PhotoResponse response = uploadIntentService.finalizeIntent(userId, intentId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
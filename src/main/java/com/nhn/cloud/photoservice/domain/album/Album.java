@@ -7,16 +7,19 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "albums", indexes = {
-        @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_albums_user_created", columnList = "user_id, created_at, id"),
         @Index(name = "idx_share_token", columnList = "share_token", unique = true)
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate  // 제목/공유 변경이 동시에 갱신된 집계 컬럼을 덮어쓰지 않도록 바뀐 컬럼만 UPDATE
 public class Album extends BaseEntity {
 
     @Id
@@ -39,12 +42,26 @@ public class Album extends BaseEntity {
     @Column(nullable = false)
     private Boolean isShared;
 
+    // --- 앨범 목록용 집계 (사진 추가/이동/삭제 시 AlbumRepository의 증감 UPDATE로 갱신) ---
+
+    @Column(nullable = false)
+    private int photoCount;
+
+    @Column(nullable = false)
+    private long totalBytes;
+
+    private Long coverPhotoId;  // 앨범에서 ID가 가장 큰(가장 최근) 사진
+
+    private LocalDateTime lastPhotoAt;  // 커버 사진의 생성 시각
+
     @Builder
     public Album(User user, String title, String description) {
         this.user = user;
         this.title = title;
         this.description = description;
         this.isShared = false;
+        this.photoCount = 0;
+        this.totalBytes = 0;
     }
 
     public void updateInfo(String title, String description) {
@@ -0,0 +1,7 @@
+package com.nhn.cloud.photoservice.domain.album;
+
+/**
+ * 앨범 목록 조회 결과 (커버 사진 키를 같은 쿼리에서 조인해 가져온다)
+ */
+public record AlbumWithCover(Album album, String coverStorageKey, String coverThumbnailKey) {
+}
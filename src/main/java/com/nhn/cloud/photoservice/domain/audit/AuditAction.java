@@ -8,7 +8,9 @@ public enum AuditAction {
 
     // Photo
     PHOTO_UPLOAD,
+    PHOTO_BATCH_UPLOAD,
     PHOTO_DELETE,
+    PHOTO_BULK_DELETE,
 
     // Album
     ALBUM_CREATE,
@@ -0,0 +1,11 @@
+package com.nhn.cloud.photoservice.domain.photo;
+
+/**
+ * 썸네일/미리보기 파생 이미지 생성 상태
+ */
+public enum DerivativeStatus {
+    PENDING,      // 생성 대기 (신규 업로드, 백필 대상)
+    READY,        // 생성 완료
+    UNSUPPORTED,  // 디코딩 불가 포맷 (HEIC 등) - 원본 사용
+    FAILED        // 생성 실패
+}
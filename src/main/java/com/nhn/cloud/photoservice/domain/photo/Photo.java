@@ -3,23 +3,35 @@ package com.nhn.cloud.photoservice.domain.photo;
 import com.nhn.cloud.photoservice.domain.album.Album;
 import com.nhn.cloud.photoservice.domain.common.BaseEntity;
 import com.nhn.cloud.photoservice.domain.user.User;
+import com.nhn.cloud.photoservice.util.ImageMetadata;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "photos", indexes = {
-        @Index(name = "idx_user_id", columnList = "user_id"),
-        @Index(name = "idx_album_id", columnList = "album_id")
+        @Index(name = "idx_photos_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_photos_user_album_created", columnList = "user_id, album_id, created_at, id"),
+        @Index(name = "idx_photos_album_created", columnList = "album_id, created_at, id"),
+        @Index(name = "idx_photos_user_taken", columnList = "user_id, taken_at, id"),
+        @Index(name = "idx_photos_album_taken", columnList = "album_id, taken_at, id"),
+        @Index(name = "idx_photos_metadata_extracted", columnList = "metadata_extracted, id"),
+        @Index(name = "idx_photos_derivative_status", columnList = "derivative_status, id"),
+        @Index(name = "idx_photos_storage_key", columnList = "storage_key")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Photo extends BaseEntity {
 
+    // IDENTITY는 INSERT마다 키를 돌려받아야 하므로 JDBC 배치가 꺼진다.
+    // 시퀀스(MySQL에서는 photos_seq 테이블)에서 50개씩 미리 할당받아 일괄 업로드를 한 번의 배치로 저장한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "photos_seq")
+    @SequenceGenerator(name = "photos_seq", sequenceName = "photos_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,7 +46,7 @@ public class Photo extends BaseEntity {
     private String originalFilename;
 
     @Column(nullable = false, length = 500)
-    private String storageKey;  // Object Storage에 저장된 키
+    private String storageKey;  // Object Storage에 저장된 키 (utf8mb4_bin: 정렬이 S3 나열 순서와 같다)
 
     @Column(nullable = false, length = 50)
     private String contentType;
@@ -48,10 +60,37 @@ public class Photo extends BaseEntity {
     @Column(length = 500)
     private String description;
 
+    @Column(length = 520)
+    private String thumbnailKey;  // 썸네일 파생 이미지 키 (원본 키의 형제 키)
+
+    @Column(length = 520)
+    private String previewKey;  // 미리보기 파생 이미지 키
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DerivativeStatus derivativeStatus;
+
+    // --- 헤더 메타데이터 (ImageMetadataReader) ---
+
+    private Integer width;  // 저장된 픽셀 크기 (orientation 5~8이면 화면에서는 가로/세로가 바뀐다)
+
+    private Integer height;
+
+    private Integer orientation;  // EXIF 방향 1~8
+
+    @Column(nullable = false)
+    private LocalDateTime takenAt;  // 촬영 시각, 알 수 없으면 업로드 시각 ("촬영일순" 정렬 키)
+
+    @Column(length = 100)
+    private String cameraModel;
+
+    @Column(nullable = false)
+    private boolean metadataExtracted;  // false면 PhotoMetadataBackfillJob/파생 이미지 생성 시 추출
+
     @Builder
     public Photo(User user, Album album, String originalFilename,
                  String storageKey, String contentType, Long fileSize,
-                 String title, String description) {
+                 String title, String description, ImageMetadata metadata) {
         this.user = user;
         this.album = album;
         this.originalFilename = originalFilename;
@@ -60,6 +99,18 @@ public class Photo extends BaseEntity {
         this.fileSize = fileSize;
         this.title = title;
         this.description = description;
+        this.derivativeStatus = DerivativeStatus.PENDING;
+        this.takenAt = LocalDateTime.now();
+        if (metadata != null) {
+            this.width = metadata.width();
+            this.height = metadata.height();
+            this.orientation = metadata.orientation();
+            this.cameraModel = metadata.cameraModel();
+            this.metadataExtracted = true;
+            if (metadata.takenAt() != null) {
+                this.takenAt = metadata.takenAt();
+            }
+        }
     }
 
     public void updateInfo(String title, String description) {
@@ -0,0 +1,25 @@
+package com.nhn.cloud.photoservice.domain.photo;
+
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * 사진 목록 정렬 기준 (모두 최신순)
+ */
+public enum PhotoSort {
+    CREATED,  // 업로드 시각 (created_at, id)
+    TAKEN;    // 촬영 시각 (taken_at, id)
+
+    public static PhotoSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Unknown sort: " + value);
+        }
+    }
+}
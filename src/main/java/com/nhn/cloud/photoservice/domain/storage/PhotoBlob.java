@@ -0,0 +1,61 @@
+package com.nhn.cloud.photoservice.domain.storage;
+
+import com.nhn.cloud.photoservice.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 내용 주소(SHA-256) 원본 객체.
+ * 같은 사용자가 같은 내용을 다시 올리면 새 객체 대신 이 행의 객체를 참조하고 참조 수만 늘린다.
+ * 참조 수가 0이 되면 행을 지우고 객체 삭제를 아웃박스에 예약한다.
+ */
+@Entity
+@Table(name = "photo_blobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_photo_blobs_user_hash", columnNames = {"user_id", "content_hash"}),
+        @UniqueConstraint(name = "uk_photo_blobs_storage_key", columnNames = {"storage_key"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PhotoBlob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;  // SHA-256 소문자 16진수
+
+    @Column(name = "storage_key", nullable = false, length = 500)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private long fileSize;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    public PhotoBlob(Long userId, String contentHash, String storageKey, long fileSize) {
+        this.userId = userId;
+        this.contentHash = contentHash;
+        this.storageKey = storageKey;
+        this.fileSize = fileSize;
+        this.refCount = 1;
+    }
+
+    public void acquire() {
+        this.refCount++;
+    }
+
+    /**
+     * 참조 해제 후 남은 참조 수
+     */
+    public int release(int count) {
+        this.refCount = Math.max(0, this.refCount - count);
+        return this.refCount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhn.cloud.photoservice.domain.storage;
+
+import com.nhn.cloud.photoservice.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 객체 삭제 아웃박스.
+ * 행 삭제와 같은 트랜잭션에 기록되며, StorageDeletionDispatcher가 커밋 이후 묶어서 Object Storage에서 지운다.
+ * 처리 중인 행은 next_attempt_at을 임대 만료 시각으로 미뤄 두어 다른 인스턴스가 다시 집어가지 않는다.
+ */
+@Entity
+@Table(name = "storage_deletions", indexes = {
+        @Index(name = "idx_storage_deletions_next_attempt", columnList = "next_attempt_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageDeletion extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "storage_deletions_seq")
+    @SequenceGenerator(name = "storage_deletions_seq", sequenceName = "storage_deletions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 520)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public StorageDeletion(String storageKey, LocalDateTime nextAttemptAt) {
+        this.storageKey = storageKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 디스패처가 처리하기 위해 가져감 (임대 만료 전까지 다시 선택되지 않음)
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+}
@@ -0,0 +1,9 @@
+package com.nhn.cloud.photoservice.domain.sync;
+
+/**
+ * 변경 피드 대상 종류
+ */
+public enum ChangeEntityType {
+    PHOTO,
+    ALBUM
+}
@@ -0,0 +1,53 @@
+package com.nhn.cloud.photoservice.domain.sync;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 변경 피드 (동기화 API용).
+ * 사진/앨범 변경과 같은 트랜잭션에 기록되며, ID가 변경 순번이다.
+ * 노드별로 번호 블록을 미리 받는 시퀀스는 노드 간 순서가 뒤섞이므로 IDENTITY(AUTO_INCREMENT)를 쓴다.
+ * 기록 시각은 노드 간 시계 차이가 확정 대기(settle) 판단에 섞이지 않도록 DB 시각(컬럼 기본값)으로 남긴다.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_user_id", columnList = "user_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    @ColumnDefault("CURRENT_TIMESTAMP(6)")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ChangeLog(Long userId, ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        this.userId = userId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+    }
+}
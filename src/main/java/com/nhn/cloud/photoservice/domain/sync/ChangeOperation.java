@@ -0,0 +1,9 @@
+package com.nhn.cloud.photoservice.domain.sync;
+
+/**
+ * 변경 피드 작업 종류
+ */
+public enum ChangeOperation {
+    UPSERT,  // 생성 또는 수정 (클라이언트는 현재 값으로 덮어쓴다)
+    DELETE   // 삭제 (툼스톤)
+}
@@ -0,0 +1,82 @@
+package com.nhn.cloud.photoservice.domain.upload;
+
+import com.nhn.cloud.photoservice.domain.common.BaseEntity;
+import com.nhn.cloud.photoservice.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직접 업로드 의도 (Pre-signed PUT URL 발급 ~ finalize).
+ * 클라이언트가 Object Storage에 직접 올린 객체는 finalize에서 HEAD로 확인한 뒤에만 사진이 된다.
+ */
+@Entity
+@Table(name = "upload_intents", indexes = {
+        @Index(name = "idx_upload_intents_expires", columnList = "expires_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadIntent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "album_id")
+    private Long albumId;
+
+    @Column(nullable = false, length = 200)
+    private String originalFilename;
+
+    @Column(nullable = false, length = 50)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false, length = 500)
+    private String storageKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadIntentStatus status;
+
+    private Long photoId;  // finalize로 생성된 사진
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;  // 업로드 URL 만료 시각
+
+    @Builder
+    public UploadIntent(User user, Long albumId, String originalFilename, String contentType, Long fileSize,
+                        String title, String description, String storageKey, LocalDateTime expiresAt) {
+        this.user = user;
+        this.albumId = albumId;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.title = title;
+        this.description = description;
+        this.storageKey = storageKey;
+        this.expiresAt = expiresAt;
+        this.status = UploadIntentStatus.PENDING;
+    }
+
+    public void finalizeWith(Long photoId) {
+        this.status = UploadIntentStatus.FINALIZED;
+        this.photoId = photoId;
+    }
+}
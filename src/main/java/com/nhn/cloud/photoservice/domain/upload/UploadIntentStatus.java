@@ -0,0 +1,6 @@
+package com.nhn.cloud.photoservice.domain.upload;
+
+public enum UploadIntentStatus {
+    PENDING,    // URL 발급, 클라이언트 직접 업로드 대기
+    FINALIZED   // 객체 확인 후 사진 생성 완료
+}
@@ -0,0 +1,110 @@
+package com.nhn.cloud.photoservice.domain.upload;
+
+import com.nhn.cloud.photoservice.domain.common.BaseEntity;
+import com.nhn.cloud.photoservice.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재개 가능 업로드 세션.
+ * 하나의 S3 Multipart Upload(uploadId)에 대응하며, 청크 번호가 곧 파트 번호다.
+ */
+@Entity
+@Table(name = "upload_sessions", indexes = {
+        @Index(name = "idx_upload_sessions_expires", columnList = "expires_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadSession extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "album_id")
+    private Long albumId;
+
+    @Column(nullable = false, length = 200)
+    private String originalFilename;
+
+    @Column(nullable = false, length = 50)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false, length = 500)
+    private String storageKey;
+
+    @Column(nullable = false, length = 1024)
+    private String uploadId;  // S3 Multipart Upload ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadSessionStatus status;
+
+    private Long photoId;  // 커밋으로 생성된 사진
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public UploadSession(User user, Long albumId, String originalFilename, String contentType, Long fileSize,
+                         Integer chunkSize, String title, String description, String storageKey, String uploadId,
+                         LocalDateTime expiresAt) {
+        this.user = user;
+        this.albumId = albumId;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.chunkSize = chunkSize;
+        this.title = title;
+        this.description = description;
+        this.storageKey = storageKey;
+        this.uploadId = uploadId;
+        this.expiresAt = expiresAt;
+        this.status = UploadSessionStatus.ACTIVE;
+    }
+
+    public int getTotalChunks() {
+        return (int) ((fileSize + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * 청크 번호별 기대 크기 (마지막 청크만 나머지 크기)
+     */
+    public long expectedChunkSize(int partNumber) {
+        return partNumber < getTotalChunks() ? chunkSize : fileSize - (long) chunkSize * (getTotalChunks() - 1);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public void complete(Long photoId) {
+        this.status = UploadSessionStatus.COMPLETED;
+        this.photoId = photoId;
+    }
+
+    public void fail() {
+        this.status = UploadSessionStatus.FAILED;
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhn.cloud.photoservice.domain.upload;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 세션에 수신된 청크 (S3 파트 ETag). 같은 번호를 다시 보내면 ETag를 교체한다.
+ */
+@Entity
+@Table(name = "upload_session_parts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_upload_session_parts", columnNames = {"session_id", "part_number"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadSessionPart {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(name = "part_number", nullable = false)
+    private Integer partNumber;
+
+    @Column(nullable = false, length = 100)
+    private String etag;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Builder
+    public UploadSessionPart(Long sessionId, Integer partNumber, String etag, Long size) {
+        this.sessionId = sessionId;
+        this.partNumber = partNumber;
+        this.etag = etag;
+        this.size = size;
+    }
+}
@@ -0,0 +1,7 @@
+package com.nhn.cloud.photoservice.domain.upload;
+
+public enum UploadSessionStatus {
+    ACTIVE,     // 청크 수신 중
+    COMPLETED,  // 커밋 완료 (만료 전까지 커밋 재요청에 같은 사진으로 응답)
+    FAILED      // Multipart Upload가 사라져 완료할 수 없음 (새 세션으로 다시 올려야 한다)
+}
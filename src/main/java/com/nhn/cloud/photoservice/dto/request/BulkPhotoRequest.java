@@ -0,0 +1,17 @@
+package com.nhn.cloud.photoservice.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class BulkPhotoRequest {
+
+    @NotEmpty(message = "Photo ids are required")
+    private List<Long> photoIds;
+
+    private Long albumId;  // 일괄 이동 대상 앨범 (null이면 앨범에서 제외)
+}
@@ -0,0 +1,33 @@
+package com.nhn.cloud.photoservice.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UploadIntentCreateRequest {
+
+    @NotBlank(message = "Filename is required")
+    @Size(max = 200, message = "Filename must not exceed 200 characters")
+    private String filename;
+
+    @NotBlank(message = "Content type is required")
+    @Size(max = 50, message = "Content type must not exceed 50 characters")
+    private String contentType;
+
+    @NotNull(message = "File size is required")
+    @Positive(message = "File size must be positive")
+    private Long fileSize;
+
+    private Long albumId;
+
+    @Size(max = 100, message = "Title must not exceed 100 characters")
+    private String title;
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+}
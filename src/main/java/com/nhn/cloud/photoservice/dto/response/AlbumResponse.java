@@ -14,16 +14,33 @@ public class AlbumResponse {
     private String description;
     private Boolean isShared;
     private String shareToken;
+    private Integer photoCount;
+    private Long totalBytes;
+    private Long coverPhotoId;
+    private String coverUrl;
+    private LocalDateTime lastPhotoAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public static AlbumResponse from(Album album) {
+        return from(album, null);
+    }
+
+    /**
+     * 커버 사진 URL 포함 (앨범 목록)
+     */
+    public static AlbumResponse from(Album album, String coverUrl) {
         return new AlbumResponse(
                 album.getId(),
                 album.getTitle(),
                 album.getDescription(),
                 album.getIsShared(),
                 album.getShareToken(),
+                album.getPhotoCount(),
+                album.getTotalBytes(),
+                album.getCoverPhotoId(),
+                coverUrl,
+                album.getLastPhotoAt(),
                 album.getCreatedAt(),
                 album.getUpdatedAt()
         );
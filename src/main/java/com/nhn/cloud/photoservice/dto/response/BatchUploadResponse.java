@@ -0,0 +1,39 @@
+package com.nhn.cloud.photoservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BatchUploadResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<Item> results;  // 요청한 파일 순서대로
+
+    public static BatchUploadResponse of(List<Item> results) {
+        int succeeded = (int) results.stream().filter(Item::isSuccess).count();
+        return new BatchUploadResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private int index;
+        private String filename;
+        private boolean success;
+        private PhotoResponse photo;  // 성공 시
+        private String error;         // 실패 시 (ErrorCode 이름)
+        private String message;
+
+        public static Item success(int index, String filename, PhotoResponse photo) {
+            return new Item(index, filename, true, photo, null, null);
+        }
+
+        public static Item failure(int index, String filename, String error, String message) {
+            return new Item(index, filename, false, null, error, message);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhn.cloud.photoservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkOperationResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<Long> succeededIds;
+    private List<Failure> failures;
+
+    public static BulkOperationResponse of(int total, List<Long> succeededIds, List<Failure> failures) {
+        return new BulkOperationResponse(total, succeededIds.size(), failures.size(), succeededIds, failures);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        private Long photoId;
+        private String error;    // ErrorCode 이름
+        private String message;
+    }
+}
@@ -0,0 +1,36 @@
+package com.nhn.cloud.photoservice.dto.response;
+
+import com.nhn.cloud.photoservice.util.PageCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * size + 1건으로 조회한 결과에서 페이지를 구성한다.
+     * 초과분 1건이 있으면 다음 페이지가 존재하는 것으로 판단한다.
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                  Function<E, PageCursor> cursorOf,
+                                                  Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPageResponse<>(
+                page.stream().map(mapper).collect(Collectors.toList()),
+                nextCursor,
+                hasNext
+        );
+    }
+}
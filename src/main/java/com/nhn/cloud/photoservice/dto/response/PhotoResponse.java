@@ -17,10 +17,18 @@ public class PhotoResponse {
     private String contentType;
     private Long albumId;
     private String downloadUrl;
+    private String thumbnailUrl;  // 생성 전이면 null (downloadUrl 사용)
+    private String previewUrl;
+    private Integer width;        // 헤더에서 읽지 못했으면 null
+    private Integer height;
+    private Integer orientation;  // EXIF 방향 값 1~8
+    private LocalDateTime takenAt;  // 촬영 시각이 없으면 업로드 시각
+    private String cameraModel;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static PhotoResponse from(Photo photo, String downloadUrl) {
+    public static PhotoResponse from(Photo photo, String downloadUrl,
+                                     String thumbnailUrl, String previewUrl) {
         return new PhotoResponse(
                 photo.getId(),
                 photo.getOriginalFilename(),
@@ -30,6 +38,13 @@ public class PhotoResponse {
                 photo.getContentType(),
                 photo.getAlbum() != null ? photo.getAlbum().getId() : null,
                 downloadUrl,
+                thumbnailUrl,
+                previewUrl,
+                photo.getWidth(),
+                photo.getHeight(),
+                photo.getOrientation(),
+                photo.getTakenAt(),
+                photo.getCameraModel(),
                 photo.getCreatedAt(),
                 photo.getUpdatedAt()
         );
@@ -0,0 +1,35 @@
+package com.nhn.cloud.photoservice.dto.response;
+
+import com.nhn.cloud.photoservice.domain.sync.ChangeEntityType;
+import com.nhn.cloud.photoservice.domain.sync.ChangeOperation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SyncResponse {
+    private List<Change> changes;  // 변경 순서, 같은 대상은 마지막 변경 1건
+    private String cursor;         // 다음 요청의 since
+    private boolean hasMore;       // true면 바로 이어서 다시 요청
+    private boolean reset;         // since 없는 첫 동기화: 목록 API로 전체를 받은 뒤 이 커서부터 동기화
+
+    public static SyncResponse reset(String cursor) {
+        return new SyncResponse(List.of(), cursor, false, true);
+    }
+
+    /**
+     * UPSERT는 현재 값(photo 또는 album)을 담고, DELETE는 ID만 담는다.
+     * 앨범이 삭제되면 소속 사진은 남고 앨범 없음이 된다 (사진별 변경은 따로 오지 않음).
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Change {
+        private ChangeEntityType type;
+        private Long id;
+        private ChangeOperation operation;
+        private PhotoResponse photo;
+        private AlbumResponse album;
+    }
+}
@@ -0,0 +1,29 @@
+package com.nhn.cloud.photoservice.dto.response;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadIntent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class UploadIntentResponse {
+    private Long id;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;  // 업로드 요청에 그대로 보내야 하는 헤더 (서명에 포함됨)
+    private LocalDateTime expiresAt;
+
+    public static UploadIntentResponse from(UploadIntent intent, String uploadUrl) {
+        return new UploadIntentResponse(
+                intent.getId(),
+                uploadUrl,
+                "PUT",
+                Map.of("Content-Type", intent.getContentType(),
+                        "Content-Length", String.valueOf(intent.getFileSize())),
+                intent.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhn.cloud.photoservice.dto.response;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadSession;
+import com.nhn.cloud.photoservice.domain.upload.UploadSessionPart;
+import com.nhn.cloud.photoservice.domain.upload.UploadSessionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor
+public class UploadSessionResponse {
+    private Long id;
+    private UploadSessionStatus status;
+    private Long fileSize;
+    private Integer chunkSize;       // 마지막 청크를 제외한 모든 청크의 크기
+    private Integer totalChunks;
+    private Long receivedBytes;
+    private List<Integer> receivedChunks;
+    private List<Integer> missingChunks;  // 재개 시 다시 보내야 할 청크 번호
+    private Long photoId;            // 커밋 후 생성된 사진
+    private LocalDateTime expiresAt;
+
+    public static UploadSessionResponse from(UploadSession session, List<UploadSessionPart> parts) {
+        Set<Integer> received = parts.stream()
+                .map(UploadSessionPart::getPartNumber)
+                .collect(Collectors.toSet());
+
+        List<Integer> missing = new ArrayList<>();
+        if (session.getStatus() == UploadSessionStatus.ACTIVE) {
+            for (int partNumber = 1; partNumber <= session.getTotalChunks(); partNumber++) {
+                if (!received.contains(partNumber)) {
+                    missing.add(partNumber);
+                }
+            }
+        }
+
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getStatus(),
+                session.getFileSize(),
+                session.getChunkSize(),
+                session.getTotalChunks(),
+                parts.stream().mapToLong(UploadSessionPart::getSize).sum(),
+                received.stream().sorted().toList(),
+                missing,
+                session.getPhotoId(),
+                session.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.nhn.cloud.photoservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 앨범 생성/수정/공유 설정 변경/삭제 이벤트.
+ * 트랜잭션 안에서 발행되며, 후속 처리는 커밋 이후 리스너에서 수행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AlbumChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        SHARING_ENABLED,
+        SHARING_DISABLED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final Long albumId;
+
+    public static AlbumChangedEvent of(Type type, Long userId, Long albumId) {
+        return new AlbumChangedEvent(type, userId, albumId);
+    }
+}
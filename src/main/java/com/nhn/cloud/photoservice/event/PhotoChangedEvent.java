@@ -0,0 +1,37 @@
+package com.nhn.cloud.photoservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사진 생성/수정/삭제 이벤트.
+ * 트랜잭션 안에서 발행되며, 후속 처리는 커밋 이후 리스너에서 수행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PhotoChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final Long photoId;
+    private final Long albumId;
+    private final Long previousAlbumId;  // 수정 전 앨범 (앨범 없음이면 null, albumId와 다르면 이동)
+
+    public static PhotoChangedEvent created(Long userId, Long photoId, Long albumId) {
+        return new PhotoChangedEvent(Type.CREATED, userId, photoId, albumId, null);
+    }
+
+    public static PhotoChangedEvent updated(Long userId, Long photoId, Long albumId, Long previousAlbumId) {
+        return new PhotoChangedEvent(Type.UPDATED, userId, photoId, albumId, previousAlbumId);
+    }
+
+    public static PhotoChangedEvent deleted(Long userId, Long photoId, Long albumId) {
+        return new PhotoChangedEvent(Type.DELETED, userId, photoId, albumId, null);
+    }
+}
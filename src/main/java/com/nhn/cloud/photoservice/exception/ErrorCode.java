@@ -24,14 +24,25 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User not found"),
     ALBUM_NOT_FOUND(HttpStatus.NOT_FOUND, "Album not found"),
     PHOTO_NOT_FOUND(HttpStatus.NOT_FOUND, "Photo not found"),
+    UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "Upload session not found"),
+    UPLOAD_INTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "Upload intent not found"),
 
     // 409 Conflict
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "Email already exists"),
+    UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "Upload is not complete"),
+
+    // 410 Gone
+    UPLOAD_SESSION_EXPIRED(HttpStatus.GONE, "Upload session expired"),
+    SYNC_CURSOR_EXPIRED(HttpStatus.GONE, "Sync cursor expired"),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error"),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "File upload failed"),
-    FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "File delete failed");
+    FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "File delete failed"),
+
+    // 503 Service Unavailable
+    UPLOAD_CAPACITY_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "Upload capacity exceeded, retry later"),
+    EVENT_STREAM_CAPACITY_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "Too many event streams, retry later");
 
     private final HttpStatus status;
     private final String message;
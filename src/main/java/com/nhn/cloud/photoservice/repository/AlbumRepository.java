@@ -1,19 +1,90 @@
 package com.nhn.cloud.photoservice.repository;
 
 import com.nhn.cloud.photoservice.domain.album.Album;
-import com.nhn.cloud.photoservice.domain.user.User;
+import com.nhn.cloud.photoservice.domain.album.AlbumWithCover;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AlbumRepository extends JpaRepository<Album, Long> {
 
-    List<Album> findByUserOrderByCreatedAtDesc(User user);
+    /**
+     * 앨범 목록 + 커버 사진 키 (idx_albums_user_created 범위 + photos PK 조인, 앨범별 추가 조회 없음)
+     */
+    @Query("SELECT new com.nhn.cloud.photoservice.domain.album.AlbumWithCover(a, p.storageKey, p.thumbnailKey) " +
+            "FROM Album a LEFT JOIN Photo p ON p.id = a.coverPhotoId " +
+            "WHERE a.user.id = :userId " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AlbumWithCover> findPageWithCoverByUserId(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    /**
+     * ID로 지정한 앨범 + 커버 사진 키 (동기화 응답)
+     */
+    @Query("SELECT new com.nhn.cloud.photoservice.domain.album.AlbumWithCover(a, p.storageKey, p.thumbnailKey) " +
+            "FROM Album a LEFT JOIN Photo p ON p.id = a.coverPhotoId " +
+            "WHERE a.id IN :ids AND a.user.id = :userId")
+    List<AlbumWithCover> findWithCoverByIdInAndUserId(@Param("ids") Collection<Long> ids,
+                                                      @Param("userId") Long userId);
 
     Optional<Album> findByShareToken(String shareToken);
 
-    Optional<Album> findByIdAndUser(Long id, User user);
-}
\ No newline at end of file
+    Optional<Album> findByIdAndUserId(Long id, Long userId);
+
+    // --- 앨범 집계: 동시에 같은 앨범에 올려도 값이 유실되지 않도록 읽지 않고 증감 UPDATE로 갱신한다 ---
+
+    @Modifying
+    // MySQL은 SET 절을 왼쪽부터 적용하므로 coverPhotoId를 비교하는 lastPhotoAt을 먼저 갱신한다
+    @Query("UPDATE Album a SET a.photoCount = a.photoCount + :count, a.totalBytes = a.totalBytes + :bytes, " +
+            "a.lastPhotoAt = CASE WHEN a.coverPhotoId IS NULL OR a.coverPhotoId < :photoId " +
+            "THEN :photoAt ELSE a.lastPhotoAt END, " +
+            "a.coverPhotoId = CASE WHEN a.coverPhotoId IS NULL OR a.coverPhotoId < :photoId " +
+            "THEN :photoId ELSE a.coverPhotoId END " +
+            "WHERE a.id = :albumId")
+    int addPhotos(@Param("albumId") Long albumId,
+                  @Param("count") int count,
+                  @Param("bytes") long bytes,
+                  @Param("photoId") Long photoId,
+                  @Param("photoAt") LocalDateTime photoAt);
+
+    @Modifying
+    @Query("UPDATE Album a SET a.photoCount = a.photoCount - :count, a.totalBytes = a.totalBytes - :bytes " +
+            "WHERE a.id = :albumId")
+    int removePhotos(@Param("albumId") Long albumId,
+                     @Param("count") int count,
+                     @Param("bytes") long bytes);
+
+    /**
+     * 커버 사진이 빠진 경우 남은 사진 중 가장 최근 사진으로 교체 (커버가 그대로면 갱신하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Album a SET " +
+            "a.coverPhotoId = (SELECT MAX(p.id) FROM Photo p WHERE p.album.id = :albumId), " +
+            "a.lastPhotoAt = (SELECT MAX(p.createdAt) FROM Photo p WHERE p.album.id = :albumId) " +
+            "WHERE a.id = :albumId AND a.coverPhotoId IN :photoIds")
+    int refreshCover(@Param("albumId") Long albumId, @Param("photoIds") Collection<Long> photoIds);
+
+    /**
+     * 사진 행에서 집계를 다시 계산 (증감 반영 대상과 실제 변경 행 수가 어긋난 경우)
+     */
+    @Modifying
+    @Query("UPDATE Album a SET " +
+            "a.photoCount = (SELECT COUNT(p) FROM Photo p WHERE p.album.id = :albumId), " +
+            "a.totalBytes = (SELECT COALESCE(SUM(p.fileSize), 0) FROM Photo p WHERE p.album.id = :albumId), " +
+            "a.coverPhotoId = (SELECT MAX(p.id) FROM Photo p WHERE p.album.id = :albumId), " +
+            "a.lastPhotoAt = (SELECT MAX(p.createdAt) FROM Photo p WHERE p.album.id = :albumId) " +
+            "WHERE a.id = :albumId")
+    int recalculateStats(@Param("albumId") Long albumId);
+}
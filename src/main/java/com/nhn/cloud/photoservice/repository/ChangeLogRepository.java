@@ -0,0 +1,59 @@
+package com.nhn.cloud.photoservice.repository;
+
+import com.nhn.cloud.photoservice.domain.sync.ChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    /**
+     * 커서 이후 변경 (idx_change_log_user_id 범위 스캔, 아직 확정되지 않은 최근 변경 제외)
+     */
+    @Query("SELECT c FROM ChangeLog c WHERE c.userId = :userId AND c.id > :afterId AND c.createdAt <= :settledBefore " +
+            "ORDER BY c.id ASC")
+    List<ChangeLog> findSettledAfter(@Param("userId") Long userId,
+                                     @Param("afterId") Long afterId,
+                                     @Param("settledBefore") LocalDateTime settledBefore,
+                                     Pageable pageable);
+
+    /**
+     * DB 현재 시각 (created_at 기본값과 같은 시계로 확정 시점을 계산한다)
+     */
+    @Query(value = "SELECT LOCALTIMESTAMP(6)", nativeQuery = true)
+    LocalDateTime currentTimestamp();
+
+    /**
+     * 확정된 마지막 변경 (첫 동기화 커서)
+     */
+    Optional<ChangeLog> findFirstByUserIdAndCreatedAtLessThanEqualOrderByIdDesc(Long userId, LocalDateTime settledBefore);
+
+    // --- 검색 색인 따라 읽기: 모든 사용자의 변경을 PK 순서로 ---
+
+    @Query("SELECT c FROM ChangeLog c WHERE c.id > :afterId AND c.createdAt <= :settledBefore ORDER BY c.id ASC")
+    List<ChangeLog> findAllSettledAfter(@Param("afterId") Long afterId,
+                                        @Param("settledBefore") LocalDateTime settledBefore,
+                                        Pageable pageable);
+
+    Optional<ChangeLog> findFirstByCreatedAtLessThanEqualOrderByIdDesc(LocalDateTime settledBefore);
+
+    // --- 보관 기간 정리: 오래된 행은 PK 앞쪽에 모여 있으므로 PK 순서로 찾는다 ---
+
+    @Query("SELECT c.id FROM ChangeLog c WHERE c.createdAt < :before ORDER BY c.id ASC")
+    List<Long> findIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChangeLog c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
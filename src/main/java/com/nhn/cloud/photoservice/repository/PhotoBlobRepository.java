@@ -0,0 +1,54 @@
+package com.nhn.cloud.photoservice.repository;
+
+import com.nhn.cloud.photoservice.domain.storage.PhotoBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PhotoBlobRepository extends JpaRepository<PhotoBlob, Long> {
+
+    boolean existsByUserIdAndContentHash(Long userId, String contentHash);
+
+    boolean existsByStorageKey(String storageKey);
+
+    /**
+     * 참조 증감은 행을 잠근 뒤 수행하여 마지막 참조 해제와 재사용이 엇갈리지 않게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM PhotoBlob b WHERE b.userId = :userId AND b.contentHash = :contentHash")
+    Optional<PhotoBlob> findByUserIdAndContentHashForUpdate(@Param("userId") Long userId,
+                                                            @Param("contentHash") String contentHash);
+
+    /**
+     * 방금 올린 객체를 참조 1로 등록하고, 같은 내용이 먼저 등록되어 있으면(아직 커밋 전이면 커밋을 기다린 뒤) 그 참조 수를 늘린다.
+     * 예외 없이 한 문장으로 처리되므로 호출한 트랜잭션이 롤백 전용으로 바뀌지 않는다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO photo_blobs (user_id, content_hash, storage_key, file_size, ref_count, created_at, updated_at) " +
+            "VALUES (:userId, :contentHash, :storageKey, :fileSize, 1, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = :now", nativeQuery = true)
+    int insertOrAcquire(@Param("userId") Long userId, @Param("contentHash") String contentHash,
+                        @Param("storageKey") String storageKey, @Param("fileSize") long fileSize,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 내용에 대응하는 객체 키 (잠금 읽기라 다른 트랜잭션이 방금 커밋한 행도 보인다)
+     */
+    @Query(value = "SELECT storage_key FROM photo_blobs WHERE user_id = :userId AND content_hash = :contentHash FOR UPDATE",
+            nativeQuery = true)
+    String findStorageKeyForUpdate(@Param("userId") Long userId, @Param("contentHash") String contentHash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM PhotoBlob b WHERE b.storageKey IN :storageKeys ORDER BY b.id")
+    List<PhotoBlob> findByStorageKeyInForUpdate(@Param("storageKeys") Collection<String> storageKeys);
+}
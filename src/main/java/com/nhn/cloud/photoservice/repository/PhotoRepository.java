@@ -1,22 +1,141 @@
 package com.nhn.cloud.photoservice.repository;
 
 import com.nhn.cloud.photoservice.domain.album.Album;
+import com.nhn.cloud.photoservice.domain.photo.DerivativeStatus;
 import com.nhn.cloud.photoservice.domain.photo.Photo;
-import com.nhn.cloud.photoservice.domain.user.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
-    List<Photo> findByUserOrderByCreatedAtDesc(User user);
+    Optional<Photo> findByIdAndUserId(Long id, Long userId);
 
-    List<Photo> findByAlbumOrderByCreatedAtDesc(Album album);
+    List<Photo> findByIdInAndUserId(Collection<Long> ids, Long userId);
 
-    Optional<Photo> findByIdAndUser(Long id, User user);
+    List<Photo> findByAlbumId(Long albumId);
 
-    List<Photo> findByUserAndAlbumIsNullOrderByCreatedAtDesc(User user);
-}
\ No newline at end of file
+    /**
+     * 일괄 이동/삭제 대상 행 잠금 조회 (동시 요청이 같은 행으로 앨범 집계를 두 번 반영하지 않도록)
+     * 교착을 피하기 위해 항상 ID 순서로 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Photo p WHERE p.id IN :ids AND p.user.id = :userId ORDER BY p.id ASC")
+    List<Photo> findForUpdateByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Photo p WHERE p.album.id = :albumId ORDER BY p.id ASC")
+    List<Photo> findForUpdateByAlbumId(@Param("albumId") Long albumId);
+
+    // --- 일괄 이동/삭제: 소유자 조건을 포함한 단일 UPDATE/DELETE 문 ---
+
+    @Modifying
+    @Query("UPDATE Photo p SET p.album = :album, p.updatedAt = :now WHERE p.id IN :ids AND p.user.id = :userId")
+    int moveAllToAlbum(@Param("ids") Collection<Long> ids,
+                       @Param("userId") Long userId,
+                       @Param("album") Album album,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM Photo p WHERE p.id IN :ids AND p.user.id = :userId")
+    int deleteAllByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // --- Keyset 페이지네이션: (created_at, id) 커서 이후의 행을 최신순으로 조회 ---
+    // 소유자 조건은 user_id 컬럼으로 직접 비교하여 users 조회/조인이 필요 없다.
+
+    @Query("SELECT p FROM Photo p WHERE p.user.id = :userId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findPageByUserId(@Param("userId") Long userId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    @Query("SELECT p FROM Photo p WHERE p.album.id = :albumId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findPageByAlbumId(@Param("albumId") Long albumId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    @Query("SELECT p FROM Photo p WHERE p.user.id = :userId AND p.album IS NULL " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findPageByUserIdAndAlbumIsNull(@Param("userId") Long userId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // --- 촬영일순 Keyset 페이지네이션: (taken_at, id) 커서 (taken_at은 촬영 시각을 모르면 업로드 시각) ---
+
+    @Query("SELECT p FROM Photo p WHERE p.user.id = :userId " +
+            "AND (p.takenAt < :takenAt OR (p.takenAt = :takenAt AND p.id < :id)) " +
+            "ORDER BY p.takenAt DESC, p.id DESC")
+    List<Photo> findPageByUserIdOrderByTakenAt(@Param("userId") Long userId,
+                                               @Param("takenAt") LocalDateTime takenAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Query("SELECT p FROM Photo p WHERE p.album.id = :albumId " +
+            "AND (p.takenAt < :takenAt OR (p.takenAt = :takenAt AND p.id < :id)) " +
+            "ORDER BY p.takenAt DESC, p.id DESC")
+    List<Photo> findPageByAlbumIdOrderByTakenAt(@Param("albumId") Long albumId,
+                                                @Param("takenAt") LocalDateTime takenAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // --- 스토리지 정합성 점검: storage_key 순서 Keyset 순회 (이진 콜레이션이므로 ListObjectsV2 순서와 같다) ---
+
+    // 중복 제거로 여러 행이 같은 키를 가질 수 있어 (storage_key, id) 순서로 순회한다
+    @Query("SELECT p FROM Photo p WHERE p.storageKey > :storageKey OR (p.storageKey = :storageKey AND p.id > :id) " +
+            "ORDER BY p.storageKey ASC, p.id ASC")
+    List<Photo> findPageByStorageKeyAfter(@Param("storageKey") String storageKey, @Param("id") Long id,
+                                          Pageable pageable);
+
+    List<Photo> findByStorageKeyAndIdGreaterThanOrderByIdAsc(String storageKey, Long id);
+
+    // --- 썸네일/미리보기 파생 이미지 ---
+
+    List<Photo> findByDerivativeStatusAndIdGreaterThanOrderByIdAsc(DerivativeStatus status, Long id, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Photo p SET p.thumbnailKey = :thumbnailKey, p.previewKey = :previewKey, " +
+            "p.derivativeStatus = :status WHERE p.id = :id")
+    int updateDerivatives(@Param("id") Long id,
+                          @Param("thumbnailKey") String thumbnailKey,
+                          @Param("previewKey") String previewKey,
+                          @Param("status") DerivativeStatus status);
+
+    // --- 헤더 메타데이터 ---
+
+    List<Photo> findByMetadataExtractedFalseAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 추출한 메타데이터 반영 (촬영 시각을 찾지 못했으면 기존 정렬 키 유지)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Photo p SET p.width = :width, p.height = :height, p.orientation = :orientation, " +
+            "p.cameraModel = :cameraModel, p.takenAt = COALESCE(:takenAt, p.takenAt), p.metadataExtracted = true " +
+            "WHERE p.id = :id")
+    int updateMetadata(@Param("id") Long id,
+                       @Param("width") Integer width,
+                       @Param("height") Integer height,
+                       @Param("orientation") Integer orientation,
+                       @Param("takenAt") LocalDateTime takenAt,
+                       @Param("cameraModel") String cameraModel);
+}
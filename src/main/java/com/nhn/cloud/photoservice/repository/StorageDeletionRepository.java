@@ -0,0 +1,40 @@
+package com.nhn.cloud.photoservice.repository;
+
+import com.nhn.cloud.photoservice.domain.storage.StorageDeletion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    /**
+     * 처리할 차례가 된 행을 잠그며 조회한다.
+     * 잠금 타임아웃 -2는 Hibernate의 SKIP LOCKED로, 다른 인스턴스가 잡고 있는 행은 기다리지 않고 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM StorageDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt ASC, d.id ASC")
+    List<StorageDeletion> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM StorageDeletion d WHERE d.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE StorageDeletion d SET d.nextAttemptAt = :nextAttemptAt, d.lastError = :error WHERE d.id = :id")
+    int scheduleRetry(@Param("id") Long id,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+}
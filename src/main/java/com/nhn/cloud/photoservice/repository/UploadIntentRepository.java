@@ -0,0 +1,31 @@
+package com.nhn.cloud.photoservice.repository;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadIntent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadIntentRepository extends JpaRepository<UploadIntent, Long> {
+
+    /**
+     * finalize와 정리 작업이 같은 의도를 동시에 처리하지 않도록 직렬화한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM UploadIntent i WHERE i.id = :id AND i.user.id = :userId")
+    Optional<UploadIntent> findForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM UploadIntent i WHERE i.id = :id")
+    Optional<UploadIntent> findForUpdate(@Param("id") Long id);
+
+    List<UploadIntent> findByExpiresAtBeforeOrderByExpiresAtAsc(LocalDateTime before, Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package com.nhn.cloud.photoservice.repository;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadSessionPart;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionPartRepository extends JpaRepository<UploadSessionPart, Long> {
+
+    List<UploadSessionPart> findBySessionIdOrderByPartNumberAsc(Long sessionId);
+
+    Optional<UploadSessionPart> findBySessionIdAndPartNumber(Long sessionId, Integer partNumber);
+
+    /**
+     * 청크 수신 기록 (같은 번호를 동시에 재전송해도 유니크 키 충돌 없이 ETag를 교체한다)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO upload_session_parts (session_id, part_number, etag, size) " +
+            "VALUES (:sessionId, :partNumber, :etag, :size) " +
+            "ON DUPLICATE KEY UPDATE etag = VALUES(etag), size = VALUES(size)", nativeQuery = true)
+    int upsert(@Param("sessionId") Long sessionId, @Param("partNumber") int partNumber,
+               @Param("etag") String etag, @Param("size") long size);
+
+    @Modifying
+    @Query("DELETE FROM UploadSessionPart p WHERE p.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") Long sessionId);
+}
@@ -0,0 +1,343 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhn.cloud.photoservice.dto.response.AlbumResponse;
+import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.event.AlbumChangedEvent;
+import com.nhn.cloud.photoservice.event.PhotoChangedEvent;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 앨범 실시간 이벤트(SSE) 배포.
+ * 앨범마다 하나의 구독자 집합을 두고, 커밋된 사진/앨범 변경을 한 번만 조회/직렬화하여 모든 구독자에게 보낸다.
+ * 구독자마다 고정 크기 큐와 전송 작업을 두어 느린 클라이언트가 다른 구독자나 발행 스레드를 막지 않으며,
+ * 큐가 넘치면 해당 연결을 끊는다. (클라이언트는 재연결 후 목록을 다시 조회한다)
+ * 조회/직렬화는 albumEventExecutor, 소켓 쓰기와 응답 종료는 albumEventWriteExecutor에서 실행하여
+ * 쓰기에 묶인 스레드가 이벤트 조회를 막지 않게 한다.
+ * 이벤트는 이 인스턴스에서 커밋된 변경만 전달된다. (SharedAlbumCache 무효화와 같은 범위)
+ */
+@Slf4j
+@Component
+public class AlbumEventBroadcaster implements SmartLifecycle {
+
+    public static final String CONNECTED = "connected";
+    public static final String PHOTO_ADDED = "photo-added";
+    public static final String PHOTO_REMOVED = "photo-removed";
+    public static final String PHOTO_UPDATED = "photo-updated";
+    public static final String ALBUM_UPDATED = "album-updated";
+    public static final String ALBUM_CLOSED = "album-closed";
+
+    private static final Message HEARTBEAT = new Message(null, null, false);
+
+    private final Map<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final PhotoService photoService;
+    private final AlbumService albumService;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor albumEventExecutor;
+    private final AsyncTaskExecutor albumEventWriteExecutor;
+    private final AtomicInteger albumEventConnections;
+    private final Counter albumEventDroppedCounter;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int maxConnections;
+
+    private volatile boolean running = false;
+
+    public AlbumEventBroadcaster(PhotoService photoService,
+                                 AlbumService albumService,
+                                 ObjectMapper objectMapper,
+                                 AsyncTaskExecutor albumEventExecutor,
+                                 AsyncTaskExecutor albumEventWriteExecutor,
+                                 AtomicInteger albumEventConnections,
+                                 Counter albumEventDroppedCounter,
+                                 @Value("${photo-service.album-events.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${photo-service.album-events.queue-capacity:64}") int queueCapacity,
+                                 @Value("${photo-service.album-events.max-connections:10000}") int maxConnections) {
+        this.photoService = photoService;
+        this.albumService = albumService;
+        this.objectMapper = objectMapper;
+        this.albumEventExecutor = albumEventExecutor;
+        this.albumEventWriteExecutor = albumEventWriteExecutor;
+        this.albumEventConnections = albumEventConnections;
+        this.albumEventDroppedCounter = albumEventDroppedCounter;
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * 앨범 이벤트 구독 (shared=true면 공유 링크 구독자, 공유 해제 시 연결이 닫힌다)
+     */
+    public SseEmitter subscribe(Long albumId, boolean shared) {
+        if (!running || albumEventConnections.incrementAndGet() > maxConnections) {
+            if (running) {
+                albumEventConnections.decrementAndGet();
+            }
+            throw new CustomException(ErrorCode.EVENT_STREAM_CAPACITY_EXCEEDED);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(albumId, shared, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        channels.compute(albumId, (id, subscribers) -> {
+            Set<Subscriber> result = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        subscriber.offer(new Message(CONNECTED, "{\"albumId\":" + albumId + "}", false));
+        return emitter;
+    }
+
+    /**
+     * 사진 파생 이미지 생성 완료 등 이벤트 없이 바뀐 사진 알림
+     */
+    public void publishPhotoUpdated(Long userId, Long albumId, Long photoId) {
+        if (hasSubscribers(albumId)) {
+            albumEventExecutor.execute(() -> deliver(PhotoChangedEvent.updated(userId, photoId, albumId, albumId)));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPhotoChanged(PhotoChangedEvent event) {
+        if (hasSubscribers(event.getAlbumId()) || hasSubscribers(event.getPreviousAlbumId())) {
+            albumEventExecutor.execute(() -> deliver(event));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlbumChanged(AlbumChangedEvent event) {
+        if (hasSubscribers(event.getAlbumId())) {
+            albumEventExecutor.execute(() -> deliver(event));
+        }
+    }
+
+    /**
+     * 연결이 끊긴 클라이언트 감지와 프록시 유휴 타임아웃 방지를 위한 주석 이벤트
+     */
+    @Scheduled(fixedDelayString = "${photo-service.album-events.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    private void deliver(PhotoChangedEvent event) {
+        try {
+            Long albumId = event.getAlbumId();
+            Long previousAlbumId = event.getPreviousAlbumId();
+            // '앨범 없음'에서 앨범으로 옮긴 경우도 이동이다 (이전 앨범이 없으면 제거 이벤트만 생략된다)
+            boolean moved = event.getType() == PhotoChangedEvent.Type.UPDATED
+                    && !Objects.equals(previousAlbumId, albumId);
+
+            if (event.getType() == PhotoChangedEvent.Type.DELETED || moved) {
+                Long removedFrom = moved ? previousAlbumId : albumId;
+                broadcast(removedFrom, PHOTO_REMOVED, Map.of("photoId", event.getPhotoId(), "albumId", removedFrom), false, false);
+            }
+            if (event.getType() == PhotoChangedEvent.Type.DELETED || !hasSubscribers(albumId)) {
+                return;
+            }
+
+            List<PhotoResponse> photos = photoService.getPhotosByIds(event.getUserId(), List.of(event.getPhotoId()));
+            if (photos.isEmpty()) {
+                return;  // 그 사이 삭제됨 (삭제 이벤트가 따로 전달된다)
+            }
+            String name = event.getType() == PhotoChangedEvent.Type.CREATED || moved ? PHOTO_ADDED : PHOTO_UPDATED;
+            broadcast(albumId, name, photos.get(0), false, false);
+        } catch (Exception e) {
+            log.warn("Failed to deliver photo event: photoId={}, type={}", event.getPhotoId(), event.getType(), e);
+        }
+    }
+
+    private void deliver(AlbumChangedEvent event) {
+        try {
+            Long albumId = event.getAlbumId();
+            switch (event.getType()) {
+                case UPDATED, SHARING_ENABLED -> {
+                    List<AlbumResponse> albums = albumService.getAlbumsByIds(event.getUserId(), List.of(albumId));
+                    if (!albums.isEmpty()) {
+                        broadcast(albumId, ALBUM_UPDATED, albums.get(0), false, false);
+                    }
+                }
+                case SHARING_DISABLED -> broadcast(albumId, ALBUM_CLOSED, Map.of("albumId", albumId), true, true);
+                case DELETED -> broadcast(albumId, ALBUM_CLOSED, Map.of("albumId", albumId), false, true);
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to deliver album event: albumId={}, type={}", event.getAlbumId(), event.getType(), e);
+        }
+    }
+
+    /**
+     * 한 번 직렬화한 데이터를 앨범의 구독자에게 전달 (last=true면 전송 후 연결 종료)
+     */
+    private void broadcast(Long albumId, String name, Object payload, boolean sharedOnly, boolean last) {
+        Set<Subscriber> subscribers = albumId != null ? channels.get(albumId) : null;
+        if (subscribers == null) {
+            return;
+        }
+
+        Message message;
+        try {
+            message = new Message(name, objectMapper.writeValueAsString(payload), last);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize album event", e);
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (!sharedOnly || subscriber.shared) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    private boolean hasSubscribers(Long albumId) {
+        return albumId != null && channels.containsKey(albumId);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        albumEventConnections.decrementAndGet();
+        channels.computeIfPresent(subscriber.albumId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 구독 해제 후 응답 종료.
+     * 전송 중인 쓰기가 있으면 그 전송 작업이 쓰기를 마친 뒤 종료하므로, 끊긴 구독자가 스레드를 더 붙잡지 않는다.
+     */
+    private void close(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        if (subscriber.draining.compareAndSet(false, true)) {
+            albumEventWriteExecutor.execute(subscriber::drain);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 웹 서버의 graceful shutdown보다 먼저 모든 스트림을 닫아, 열린 SSE 요청이 종료를 지연시키지 않게 한다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            unsubscribe(subscriber);
+            subscriber.emitter.complete();
+        }));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * name이 null이면 heartbeat 주석
+     */
+    private record Message(String name, String data, boolean last) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long albumId;
+        private final boolean shared;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Subscriber(Long albumId, boolean shared, SseEmitter emitter) {
+            this.albumId = albumId;
+            this.shared = shared;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 큐에 넣고 전송 작업이 없으면 시작한다. 큐가 가득 차면 따라오지 못하는 구독자로 보고 연결을 끊는다.
+         */
+        void offer(Message message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                albumEventDroppedCounter.increment();
+                log.debug("Dropping slow album event subscriber: albumId={}", albumId);
+                close(this);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                albumEventWriteExecutor.execute(this::drain);
+            }
+        }
+
+        /**
+         * 큐를 비울 때까지 전송한다. 그 사이 연결이 끊기면(close) 응답을 종료하고 끝낸다. (draining은 내리지 않는다)
+         */
+        private void drain() {
+            try {
+                do {
+                    Message message;
+                    while (!closed.get() && (message = queue.poll()) != null) {
+                        emitter.send(message.toEvent());
+                        if (message.last()) {
+                            unsubscribe(this);
+                        }
+                    }
+                    if (closed.get()) {
+                        emitter.complete();
+                        return;
+                    }
+                    draining.set(false);
+                    // 플래그를 내린 사이 들어온 메시지나 종료 요청은 offer/close 쪽 작업 대신 여기서 이어서 처리한다
+                } while ((!queue.isEmpty() || closed.get()) && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 응답 (컨테이너가 오류 콜백으로 정리한다)
+                unsubscribe(this);
+            }
+        }
+    }
+}
@@ -1,26 +1,32 @@
 package com.nhn.cloud.photoservice.service;
 
+import com.nhn.cloud.photoservice.config.PaginationProperties;
 import com.nhn.cloud.photoservice.domain.album.Album;
+import com.nhn.cloud.photoservice.domain.album.AlbumWithCover;
 import com.nhn.cloud.photoservice.domain.audit.AuditAction;
 import com.nhn.cloud.photoservice.domain.photo.Photo;
-import com.nhn.cloud.photoservice.domain.user.User;
 import com.nhn.cloud.photoservice.dto.request.AlbumCreateRequest;
 import com.nhn.cloud.photoservice.dto.request.AlbumUpdateRequest;
 import com.nhn.cloud.photoservice.dto.response.AlbumResponse;
+import com.nhn.cloud.photoservice.dto.response.CursorPageResponse;
+import com.nhn.cloud.photoservice.event.AlbumChangedEvent;
 import com.nhn.cloud.photoservice.exception.CustomException;
 import com.nhn.cloud.photoservice.exception.ErrorCode;
 import com.nhn.cloud.photoservice.repository.AlbumRepository;
 import com.nhn.cloud.photoservice.repository.UserRepository;
 import com.nhn.cloud.photoservice.util.ClientIpUtil;
+import com.nhn.cloud.photoservice.util.PageCursor;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,16 +40,21 @@ public class AlbumService {
     private final Counter albumShareSuccessCounter;
     private final Counter albumShareFailureCounter;
     private final Timer albumListTimer;
+    private final PaginationProperties paginationProperties;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PhotoService photoService;
+    private final ObjectStorageService objectStorageService;
 
     /**
      * 앨범 생성
      */
     @Transactional
     public AlbumResponse createAlbum(Long userId, AlbumCreateRequest request) {
-        User user = getUserById(userId);
+        UserCache.CachedUser user = userCache.get(userId);
 
         Album album = Album.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .build();
@@ -54,49 +65,73 @@ public class AlbumService {
                 AuditAction.ALBUM_CREATE, "album", savedAlbum.getId(),
                 "title=" + savedAlbum.getTitle(), ClientIpUtil.getClientIp());
         log.info("Album created: {} by user: {}", savedAlbum.getId(), userId);
+        eventPublisher.publishEvent(AlbumChangedEvent.of(AlbumChangedEvent.Type.CREATED, userId, savedAlbum.getId()));
 
         return AlbumResponse.from(savedAlbum);
     }
 
     /**
-     * 내 앨범 목록 조회
+     * 내 앨범 목록 조회 (커서 기반 페이지네이션)
+     * 사진 수/용량/커버는 앨범 행에 유지되는 집계와 커버 사진 조인으로 한 번의 쿼리에 가져온다.
      */
-    public List<AlbumResponse> getMyAlbums(Long userId) {
+    public CursorPageResponse<AlbumResponse> getMyAlbums(Long userId, String cursor, Integer size) {
         return albumListTimer.record(() -> {
-            User user = getUserById(userId);
+            userCache.recordSavedQuery();
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            int pageSize = paginationProperties.resolveSize(size);
 
-            List<Album> albums = albumRepository.findByUserOrderByCreatedAtDesc(user);
+            List<AlbumWithCover> albums = albumRepository.findPageWithCoverByUserId(
+                    userId, pageCursor.getCreatedAt(), pageCursor.getId(), PageRequest.of(0, pageSize + 1));
 
-            return albums.stream()
-                    .map(AlbumResponse::from)
-                    .collect(Collectors.toList());
+            return CursorPageResponse.of(albums, pageSize,
+                    row -> PageCursor.of(row.album().getCreatedAt(), row.album().getId()),
+                    row -> AlbumResponse.from(row.album(), coverUrlOf(row)));
         });
     }
 
+    /**
+     * ID로 지정한 내 앨범 (없는 ID는 빠진다, 동기화 응답용)
+     */
+    public List<AlbumResponse> getAlbumsByIds(Long userId, Collection<Long> albumIds) {
+        if (albumIds.isEmpty()) {
+            return List.of();
+        }
+        return albumRepository.findWithCoverByIdInAndUserId(albumIds, userId).stream()
+                .map(row -> AlbumResponse.from(row.album(), coverUrlOf(row)))
+                .toList();
+    }
+
+    /**
+     * 커버 썸네일 URL (썸네일이 아직 없으면 원본)
+     */
+    private String coverUrlOf(AlbumWithCover row) {
+        String key = row.coverThumbnailKey() != null ? row.coverThumbnailKey() : row.coverStorageKey();
+        return key != null ? objectStorageService.generatePresignedUrl(key) : null;
+    }
+
     /**
      * 앨범 상세 조회
      */
     public AlbumResponse getAlbum(Long userId, Long albumId) {
-        User user = getUserById(userId);
+        userCache.recordSavedQuery();
 
-        Album album = albumRepository.findByIdAndUser(albumId, user)
+        Album album = albumRepository.findByIdAndUserId(albumId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
 
         return AlbumResponse.from(album);
     }
 
     /**
-     * 공유 앨범 조회 (로그인 불필요)
+     * 공유 토큰으로 앨범 ID 조회 (공유 중이 아니면 FORBIDDEN, 실시간 이벤트 구독용)
      */
-    public AlbumResponse getSharedAlbum(String shareToken) {
+    public Long getSharedAlbumId(String shareToken) {
         Album album = albumRepository.findByShareToken(shareToken)
                 .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
 
         if (!album.getIsShared()) {
             throw new CustomException(ErrorCode.FORBIDDEN, "Album is not shared");
         }
-
-        return AlbumResponse.from(album);
+        return album.getId();
     }
 
     /**
@@ -104,14 +139,15 @@ public class AlbumService {
      */
     @Transactional
     public AlbumResponse updateAlbum(Long userId, Long albumId, AlbumUpdateRequest request) {
-        User user = getUserById(userId);
+        userCache.recordSavedQuery();
 
-        Album album = albumRepository.findByIdAndUser(albumId, user)
+        Album album = albumRepository.findByIdAndUserId(albumId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
 
         album.updateInfo(request.getTitle(), request.getDescription());
 
         log.info("Album updated: {} by user: {}", albumId, userId);
+        eventPublisher.publishEvent(AlbumChangedEvent.of(AlbumChangedEvent.Type.UPDATED, userId, albumId));
 
         return AlbumResponse.from(album);
     }
@@ -121,10 +157,10 @@ public class AlbumService {
      */
     @Transactional
     public AlbumResponse enableSharing(Long userId, Long albumId) {
-        User user = getUserById(userId);
+        UserCache.CachedUser user = userCache.get(userId);
 
         try {
-            Album album = albumRepository.findByIdAndUser(albumId, user)
+            Album album = albumRepository.findByIdAndUserId(albumId, userId)
                     .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
 
             album.enableSharing();
@@ -134,6 +170,7 @@ public class AlbumService {
                     AuditAction.ALBUM_SHARE_ENABLE, "album", albumId,
                     "shareToken=" + album.getShareToken(), ClientIpUtil.getClientIp());
             log.info("Album sharing enabled: {} by user: {}", albumId, userId);
+            eventPublisher.publishEvent(AlbumChangedEvent.of(AlbumChangedEvent.Type.SHARING_ENABLED, userId, albumId));
 
             return AlbumResponse.from(album);
         } catch (Exception e) {
@@ -147,9 +184,9 @@ public class AlbumService {
      */
     @Transactional
     public AlbumResponse disableSharing(Long userId, Long albumId) {
-        User user = getUserById(userId);
+        UserCache.CachedUser user = userCache.get(userId);
 
-        Album album = albumRepository.findByIdAndUser(albumId, user)
+        Album album = albumRepository.findByIdAndUserId(albumId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
 
         album.disableSharing();
@@ -158,40 +195,39 @@ public class AlbumService {
                 AuditAction.ALBUM_SHARE_DISABLE, "album", albumId,
                 "Sharing disabled", ClientIpUtil.getClientIp());
         log.info("Album sharing disabled: {} by user: {}", albumId, userId);
+        eventPublisher.publishEvent(AlbumChangedEvent.of(AlbumChangedEvent.Type.SHARING_DISABLED, userId, albumId));
 
         return AlbumResponse.from(album);
     }
 
     /**
      * 앨범 삭제
+     * 기본적으로 사진은 남기고 앨범에서만 제외된다 (사진별 변경 피드도 같은 트랜잭션에서 기록).
+     * deletePhotos면 사진 행을 같은 트랜잭션에서 지우고 객체 삭제를 아웃박스에 예약한다.
      */
     @Transactional
-    public void deleteAlbum(Long userId, Long albumId) {
-        User user = getUserById(userId);
+    public void deleteAlbum(Long userId, Long albumId, boolean deletePhotos) {
+        UserCache.CachedUser user = userCache.get(userId);
 
-        Album album = albumRepository.findByIdAndUser(albumId, user)
+        Album album = albumRepository.findByIdAndUserId(albumId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
 
+        String clientIp = ClientIpUtil.getClientIp();
+        int deletedPhotos = 0;
+        if (deletePhotos) {
+            deletedPhotos = photoService.deleteAlbumPhotos(user, albumId, clientIp);
+        } else {
+            photoService.detachAlbumPhotos(userId, albumId);
+        }
+
         auditLogService.log(userId, user.getEmail(),
                 AuditAction.ALBUM_DELETE, "album", albumId,
-                "title=" + album.getTitle(), ClientIpUtil.getClientIp());
+                "title=" + album.getTitle() + ", deletedPhotos=" + deletedPhotos, clientIp);
 
         albumRepository.delete(album);
 
         log.info("Album deleted: {} by user: {}", albumId, userId);
-    }
-
-    /**
-     * 사용자 조회 헬퍼 메서드
-     */
-    private User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-    }
-
-    public Album getAlbumByShareToken(String shareToken) {
-        return albumRepository.findByShareToken(shareToken)
-                .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
+        eventPublisher.publishEvent(AlbumChangedEvent.of(AlbumChangedEvent.Type.DELETED, userId, albumId));
     }
 
 }
\ No newline at end of file
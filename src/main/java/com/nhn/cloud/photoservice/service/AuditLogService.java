@@ -1,44 +1,31 @@
 package com.nhn.cloud.photoservice.service;
 
 import com.nhn.cloud.photoservice.domain.audit.AuditAction;
-import com.nhn.cloud.photoservice.domain.audit.AuditLog;
-import com.nhn.cloud.photoservice.repository.AuditLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuditLogService {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
     /**
-     * 감사 로그를 비동기로 기록한다.
-     * 별도 트랜잭션으로 실행되어, 메인 비즈니스 로직의 트랜잭션에 영향을 주지 않는다.
+     * 감사 로그를 기록 큐에 넣는다.
+     * 실제 INSERT는 AuditLogWriter가 배치로 수행하므로, 메인 비즈니스 로직의 트랜잭션과 커넥션에 영향을 주지 않는다.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(Long userId, String userEmail, AuditAction action,
                     String targetType, Long targetId, String detail, String ipAddress) {
         try {
-            AuditLog auditLog = AuditLog.builder()
-                    .userId(userId)
-                    .userEmail(userEmail)
-                    .action(action)
-                    .targetType(targetType)
-                    .targetId(targetId)
-                    .detail(detail)
-                    .ipAddress(ipAddress)
-                    .build();
-
-            auditLogRepository.save(auditLog);
+            auditLogWriter.enqueue(new AuditLogWriter.Entry(
+                    userId, userEmail, action, targetType, targetId,
+                    truncate(detail), ipAddress, LocalDateTime.now()));
         } catch (Exception e) {
-            log.error("Failed to save audit log: action={}, userId={}, detail={}",
+            log.error("Failed to enqueue audit log: action={}, userId={}, detail={}",
                     action, userId, detail, e);
         }
     }
@@ -46,10 +33,15 @@ public class AuditLogService {
     /**
      * IP가 없는 경우 (서비스 간 내부 호출 등)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(Long userId, String userEmail, AuditAction action,
                     String targetType, Long targetId, String detail) {
         log(userId, userEmail, action, targetType, targetId, detail, null);
     }
+
+    /**
+     * detail 컬럼 길이(500) 초과 시 잘라낸다. (배치 전체가 실패하지 않도록)
+     */
+    private String truncate(String detail) {
+        return detail != null && detail.length() > 500 ? detail.substring(0, 500) : detail;
+    }
 }
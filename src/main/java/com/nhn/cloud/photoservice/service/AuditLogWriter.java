@@ -0,0 +1,281 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.audit.AuditAction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 감사 로그 배치 기록기.
+ * 요청 스레드는 고정 크기 큐에 이벤트를 넣기만 하고, 전용 스레드가 큐를 비우며
+ * 크기(batch-size) 또는 시간(flush-interval) 기준으로 JDBC 배치 INSERT를 수행한다.
+ * 요청마다 커넥션을 빌리지 않으므로 로그인 폭주 시에도 요청 트래픽과 커넥션 풀을 다투지 않는다.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        DROP,   // 버리고 카운트
+        BLOCK,  // block-timeout 동안 대기 후 실패 시 버림
+        SPILL   // 로컬 파일에 기록
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Entry {
+        private final Long userId;
+        private final String userEmail;
+        private final AuditAction action;
+        private final String targetType;
+        private final Long targetId;
+        private final String detail;
+        private final String ipAddress;
+        private final LocalDateTime createdAt;
+    }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_log (user_id, user_email, action, target_type, target_id, detail, ip_address, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter auditLogDroppedCounter;
+    private final DistributionSummary auditLogBatchSizeSummary;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final Path spillFile;
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private volatile boolean running = false;
+    private Thread writerThread;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          Counter auditLogDroppedCounter,
+                          DistributionSummary auditLogBatchSizeSummary,
+                          @Value("${photo-service.audit.queue-capacity:10000}") int queueCapacity,
+                          @Value("${photo-service.audit.batch-size:200}") int batchSize,
+                          @Value("${photo-service.audit.flush-interval-ms:1000}") long flushIntervalMillis,
+                          @Value("${photo-service.audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                          @Value("${photo-service.audit.block-timeout-ms:100}") long blockTimeoutMillis,
+                          @Value("${photo-service.audit.spill-file:/var/log/photo-service/audit-spill.log}") String spillFile) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditLogDroppedCounter = auditLogDroppedCounter;
+        this.auditLogBatchSizeSummary = auditLogBatchSizeSummary;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.spillFile = Path.of(spillFile);
+
+        Gauge.builder("photo_service.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Number of audit log events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트를 큐에 넣는다. 요청 스레드에서 호출되며 DB에 접근하지 않는다.
+     */
+    public void enqueue(Entry entry) {
+        if (queue.offer(entry)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(entry, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drop(entry);
+            }
+            case SPILL -> spill(List.of(entry));
+            default -> drop(entry);
+        }
+    }
+
+    // --- Writer Thread ---
+
+    private void runLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 배치가 찰 때까지 flush-interval 동안 더 모은다
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    Entry next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 인터럽트 시 모은 배치를 기록하고, 남은 이벤트는 루프 조건에서 계속 비운다
+                running = false;
+                flush(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setObject(1, entry.getUserId());
+                ps.setString(2, entry.getUserEmail());
+                ps.setString(3, entry.getAction().name());
+                ps.setString(4, entry.getTargetType());
+                ps.setObject(5, entry.getTargetId());
+                ps.setString(6, entry.getDetail());
+                ps.setString(7, entry.getIpAddress());
+                ps.setTimestamp(8, Timestamp.valueOf(entry.getCreatedAt()));
+            });
+            auditLogBatchSizeSummary.record(batch.size());
+        } catch (Exception e) {
+            log.error("Failed to write audit log batch (size: {})", batch.size(), e);
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                spill(batch);
+            } else {
+                auditLogDroppedCounter.increment(batch.size());
+            }
+        }
+    }
+
+    private void drop(Entry entry) {
+        auditLogDroppedCounter.increment();
+        log.warn("Audit log queue full, event dropped: action={}, userId={}", entry.getAction(), entry.getUserId());
+    }
+
+    /**
+     * 로컬 파일에 TSV로 기록 (운영자가 나중에 재적재)
+     */
+    private void spill(List<Entry> entries) {
+        // synchronized 안에서 파일 I/O를 하면 가상 스레드가 캐리어에 고정되므로 ReentrantLock 사용
+        spillLock.lock();
+        try {
+            Files.createDirectories(spillFile.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (Entry entry : entries) {
+                    writer.write(String.join("\t",
+                            String.valueOf(entry.getCreatedAt()),
+                            String.valueOf(entry.getUserId()),
+                            String.valueOf(entry.getUserEmail()),
+                            entry.getAction().name(),
+                            String.valueOf(entry.getTargetType()),
+                            String.valueOf(entry.getTargetId()),
+                            sanitize(entry.getDetail()),
+                            String.valueOf(entry.getIpAddress())));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to spill audit log events (count: {})", entries.size(), e);
+            auditLogDroppedCounter.increment(entries.size());
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private String sanitize(String value) {
+        return value == null ? "null" : value.replace('\t', ' ').replace('\n', ' ');
+    }
+
+    // --- Lifecycle ---
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 이벤트를 모두 기록한 뒤 멈춘다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(30_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            List<Entry> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            log.warn("Audit log writer stopped with {} pending events", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버의 graceful shutdown 이후에 멈추도록 낮은 phase를 사용한다.
+     * (phase가 낮을수록 먼저 시작하고 나중에 종료된다)
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
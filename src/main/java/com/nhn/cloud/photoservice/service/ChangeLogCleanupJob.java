@@ -0,0 +1,57 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 변경 피드 정리 작업.
+ * 그보다 오래된 동기화 커서는 SyncService가 410으로 거절하므로, 노드 간 시계 차이를 감안해 1시간 더 보관한다.
+ * 한 주기에 max-batches × batch-size 행까지만 지워 긴 DELETE로 잠금을 오래 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "photo-service.sync.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeLogCleanupJob {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    @Value("${photo-service.sync.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${photo-service.sync.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${photo-service.sync.cleanup.max-batches:50}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${photo-service.sync.cleanup.interval-ms:3600000}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays).minusHours(1);
+
+        int removed = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = changeLogRepository.findIdsCreatedBefore(before, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            removed += changeLogRepository.deleteAllByIdIn(ids);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (removed > 0) {
+            log.info("Removed {} change log rows older than {}", removed, before);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.sync.ChangeEntityType;
+import com.nhn.cloud.photoservice.domain.sync.ChangeLog;
+import com.nhn.cloud.photoservice.domain.sync.ChangeOperation;
+import com.nhn.cloud.photoservice.event.AlbumChangedEvent;
+import com.nhn.cloud.photoservice.event.PhotoChangedEvent;
+import com.nhn.cloud.photoservice.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사진/앨범 변경 이벤트를 변경 피드(change_log)에 기록.
+ * 트랜잭션 안에서 발행된 변경은 모아 두었다가 커밋 직전에 같은 트랜잭션으로 기록하므로,
+ * 롤백되면 피드에도 남지 않고, 한 트랜잭션에서 같은 대상이 여러 번 바뀌면 마지막 작업 한 건만 남는다.
+ * 사진 생성/삭제/이동은 앨범 집계(사진 수, 커버)를 바꾸므로 관련 앨범의 UPSERT도 함께 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogRecorder {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    @EventListener
+    public void onPhotoChanged(PhotoChangedEvent event) {
+        Long userId = event.getUserId();
+        record(userId, ChangeEntityType.PHOTO, event.getPhotoId(),
+                event.getType() == PhotoChangedEvent.Type.DELETED ? ChangeOperation.DELETE : ChangeOperation.UPSERT);
+        if (event.getAlbumId() != null) {
+            record(userId, ChangeEntityType.ALBUM, event.getAlbumId(), ChangeOperation.UPSERT);
+        }
+        if (event.getPreviousAlbumId() != null) {
+            record(userId, ChangeEntityType.ALBUM, event.getPreviousAlbumId(), ChangeOperation.UPSERT);
+        }
+    }
+
+    @EventListener
+    public void onAlbumChanged(AlbumChangedEvent event) {
+        record(event.getUserId(), ChangeEntityType.ALBUM, event.getAlbumId(),
+                event.getType() == AlbumChangedEvent.Type.DELETED ? ChangeOperation.DELETE : ChangeOperation.UPSERT);
+    }
+
+    /**
+     * 변경 기록 (트랜잭션 밖이면 바로 기록: 파생 이미지/메타데이터 갱신 등)
+     */
+    public void record(Long userId, ChangeEntityType type, Long entityId, ChangeOperation operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changeLogRepository.save(new ChangeLog(userId, type, entityId, operation));
+            return;
+        }
+        pending().put(new Key(userId, type, entityId), operation);
+    }
+
+    /**
+     * 현재 트랜잭션에 묶인 미기록 변경 (처음 호출될 때 커밋 직전 기록을 등록한다)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Key, ChangeOperation> pending() {
+        Map<Key, ChangeOperation> changes =
+                (Map<Key, ChangeOperation>) TransactionSynchronizationManager.getResource(this);
+        if (changes != null) {
+            return changes;
+        }
+
+        Map<Key, ChangeOperation> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 변경 순번(ID)은 커밋 직전에 받으므로 번호를 받은 뒤 커밋되기까지의 간격이 짧다 (SyncService 확정 대기 참고)
+                // 쌓여 있는 엔티티 변경을 먼저 내보내, 커밋 시점 flush가 번호를 받은 뒤에 오래 걸리지 않게 한다
+                changeLogRepository.flush();
+                changeLogRepository.saveAll(created.entrySet().stream()
+                        .map(change -> new ChangeLog(change.getKey().userId(), change.getKey().type(),
+                                change.getKey().entityId(), change.getValue()))
+                        .toList());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(ChangeLogRecorder.this);
+            }
+        });
+        return created;
+    }
+
+    private record Key(Long userId, ChangeEntityType type, Long entityId) {
+    }
+}
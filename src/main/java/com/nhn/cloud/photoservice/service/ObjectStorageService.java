@@ -2,32 +2,69 @@ package com.nhn.cloud.photoservice.service;
 
 import com.nhn.cloud.photoservice.exception.CustomException;
 import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.util.ContentHash;
+import com.nhn.cloud.photoservice.util.ImageMetadata;
+import com.nhn.cloud.photoservice.util.ImageMetadataReader;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ObjectStorageService {
 
+    public static final long MAX_FILE_SIZE = 50L * 1024 * 1024;
+    public static final int DELETE_OBJECTS_MAX_KEYS = 1000;  // DeleteObjects 한 요청의 최대 키 수
+    public static final String USER_KEY_PREFIX = "users/";   // 사진 원본/파생 이미지 키 접두사
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final ExecutorService storageBodyExecutor;
     private final S3Presigner s3Presigner;
     private final Timer objectStorageUploadTimer;
+    private final Timer objectStorageUploadPartTimer;
+    private final Counter objectStorageUploadPartRetryCounter;
     private final Timer presignedUrlTimer;
+    private final PresignedUrlCache presignedUrlCache;
+    private final PartBufferPool partBufferPool;
+    private final AtomicLong uploadInFlightBytes;
+    private final AsyncTaskExecutor multipartUploadExecutor;
 
     @Value("${cloud.nhn.object-storage.bucket-name}")
     private String bucketName;
@@ -35,8 +72,15 @@ public class ObjectStorageService {
     @Value("${cloud.nhn.object-storage.presigned-url-expiration}")
     private Long presignedUrlExpiration;
 
+    @Value("${cloud.nhn.object-storage.multipart.threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${cloud.nhn.object-storage.multipart.part-retries:3}")
+    private int partRetries;
+
     /**
      * 파일 업로드
+     * 임계값 이상이면 파트로 나누어 병렬 Multipart Upload를 사용한다.
      */
     public String uploadFile(MultipartFile file, Long userId) {
         validateFile(file);
@@ -45,6 +89,10 @@ public class ObjectStorageService {
         String extension = getFileExtension(originalFilename);
         String storageKey = generateStorageKey(userId, extension);
 
+        if (file.getSize() >= Math.max(multipartThreshold.toBytes(), partBufferPool.getPartSize() + 1L)) {
+            return objectStorageUploadTimer.record(() -> uploadParallelMultipart(file, storageKey));
+        }
+
         return objectStorageUploadTimer.record(() -> {
             try {
                 PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -66,10 +114,441 @@ public class ObjectStorageService {
         });
     }
 
+    /**
+     * 업로드 파일 내용의 SHA-256 (전송 전에 같은 내용의 객체를 찾기 위해 multipart 임시 파일을 한 번 읽는다)
+     */
+    public String contentHash(MultipartFile file) {
+        validateFile(file);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return ContentHash.sha256(inputStream);
+        } catch (IOException e) {
+            log.error("Failed to read upload file", e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 병렬 Multipart Upload
+     * 파트마다 임시 파일의 해당 구간을 읽어 풀에서 동시에 전송하고, 실패한 파트는 개별 재시도한다.
+     * 한 파트라도 최종 실패하면 남은 파트를 취소하고 업로드를 중단(abort)하여 불완전한 파트를 정리한다.
+     */
+    private String uploadParallelMultipart(MultipartFile file, String storageKey) {
+        String uploadId = createMultipartUpload(storageKey, file.getContentType());
+
+        long size = file.getSize();
+        int partSize = partBufferPool.getPartSize();
+        int partCount = (int) ((size + partSize - 1) / partSize);
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>(partCount);
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        try {
+            for (int i = 0; i < partCount; i++) {
+                int partNumber = i + 1;
+                long offset = (long) i * partSize;
+                int length = (int) Math.min(partSize, size - offset);
+
+                CompletableFuture<CompletedPart> part = CompletableFuture.supplyAsync(
+                        () -> uploadFilePart(file, storageKey, uploadId, partNumber, offset, length),
+                        multipartUploadExecutor);
+                part.whenComplete((completed, e) -> {
+                    if (e != null) {
+                        firstFailure.completeExceptionally(e);
+                    }
+                });
+                parts.add(part);
+            }
+
+            // 전부 끝나거나 첫 실패가 나올 때까지 대기
+            CompletableFuture.anyOf(CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)), firstFailure)
+                    .join();
+
+            completeMultipartUpload(storageKey, uploadId, parts.stream().map(CompletableFuture::join).toList());
+
+            log.info("File uploaded successfully: {} (size: {} bytes, parts: {})", storageKey, size, partCount);
+            return storageKey;
+
+        } catch (RuntimeException e) {
+            parts.forEach(part -> part.cancel(false));
+            abortMultipartUpload(storageKey, uploadId);
+
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CustomException customException) {
+                throw customException;
+            }
+            log.error("Failed to upload file: {}", storageKey, cause);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private CompletedPart uploadFilePart(MultipartFile file, String storageKey, String uploadId,
+                                         int partNumber, long offset, int length) {
+        byte[] buffer = partBufferPool.acquire();
+        uploadInFlightBytes.addAndGet(length);
+        try (InputStream inputStream = file.getInputStream()) {
+            inputStream.skipNBytes(offset);
+            if (readFully(inputStream, buffer, length) != length) {
+                throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "Upload file truncated");
+            }
+            return uploadPart(storageKey, uploadId, partNumber, buffer, length);
+
+        } catch (IOException e) {
+            log.error("Failed to read part {} of upload file: {}", partNumber, storageKey, e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        } finally {
+            uploadInFlightBytes.addAndGet(-length);
+            partBufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * 파트 하나를 전송한다. SDK 재시도까지 소진된 일시적 오류(네트워크, 5xx, 스로틀링)는
+     * 업로드 전체를 다시 시작하지 않고 이 파트만 지수 백오프로 다시 보낸다.
+     */
+    private CompletedPart uploadPart(String storageKey, String uploadId, int partNumber, byte[] buffer, int length) {
+        for (int attempt = 1; ; attempt++) {
+            Timer.Sample sample = Timer.start();
+            try {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(storageKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .build(), partBody(buffer, length));
+
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+
+            } catch (SdkException e) {
+                if (attempt > partRetries || !isTransient(e)) {
+                    throw e;
+                }
+                objectStorageUploadPartRetryCounter.increment();
+                log.warn("Retrying part {} of {} (attempt {}): {}", partNumber, storageKey, attempt, e.getMessage());
+                backOff(attempt);
+            } finally {
+                sample.stop(objectStorageUploadPartTimer);
+            }
+        }
+    }
+
+    private boolean isTransient(SdkException e) {
+        if (e instanceof AwsServiceException serviceException) {
+            return serviceException.statusCode() >= 500 || serviceException.isThrottlingException();
+        }
+        return e instanceof SdkClientException;
+    }
+
+    private void backOff(int attempt) {
+        try {
+            Thread.sleep(100L << Math.min(attempt - 1, 6));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 새 객체의 Storage Key (재개 가능 업로드처럼 키를 먼저 정해야 하는 경우)
+     */
+    public String newStorageKey(Long userId, String originalFilename) {
+        return generateStorageKey(userId, getFileExtension(originalFilename));
+    }
+
+    public String createMultipartUpload(String storageKey, String contentType) {
+        return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .contentType(contentType)
+                .build()).uploadId();
+    }
+
+    /**
+     * 외부에서 받은 청크를 Multipart Upload의 파트로 전송하고 ETag를 반환한다.
+     * 청크는 파트 버퍼에 모두 받은 뒤 전송하므로, 클라이언트 연결이 끊겨도 불완전한 파트가 올라가지 않는다.
+     */
+    public String uploadChunk(String storageKey, String uploadId, int partNumber, InputStream inputStream, int length) {
+        if (length > partBufferPool.getPartSize()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Chunk exceeds part size");
+        }
+
+        byte[] buffer = partBufferPool.acquire();
+        uploadInFlightBytes.addAndGet(length);
+        try {
+            if (readFully(inputStream, buffer, length) != length || inputStream.read() >= 0) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Chunk size does not match Content-Length");
+            }
+            return uploadPart(storageKey, uploadId, partNumber, buffer, length).eTag();
+
+        } catch (IOException e) {
+            log.warn("Failed to read chunk {} of {}: {}", partNumber, storageKey, e.getMessage());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "Chunk transfer interrupted");
+        } catch (SdkException e) {
+            log.error("Failed to upload chunk {} of {}", partNumber, storageKey, e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        } finally {
+            uploadInFlightBytes.addAndGet(-length);
+            partBufferPool.release(buffer);
+        }
+    }
+
+    public void completeMultipartUpload(String storageKey, String uploadId, List<CompletedPart> parts) {
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+    }
+
+    /**
+     * 비동기 파일 업로드
+     * 요청 스레드는 전송 시작 후 바로 반환되고, 본문은 별도 실행기에서 읽어 비동기 클라이언트로 흘려보낸다.
+     * multipart 임시 파일은 비동기 요청이 끝날 때까지 유지되므로 컨트롤러는 반환된 future로 응답을 완료해야 한다.
+     */
+    public CompletableFuture<String> uploadFileAsync(MultipartFile file, Long userId) {
+        validateFile(file);
+
+        String storageKey = generateStorageKey(userId, getFileExtension(file.getOriginalFilename()));
+
+        InputStream inputStream;
+        try {
+            inputStream = file.getInputStream();
+        } catch (IOException e) {
+            log.error("Failed to open upload file", e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .build();
+
+        Timer.Sample sample = Timer.start();
+        return s3AsyncClient.putObject(putObjectRequest,
+                        AsyncRequestBody.fromInputStream(inputStream, file.getSize(), storageBodyExecutor))
+                .handle((response, e) -> {
+                    sample.stop(objectStorageUploadTimer);
+                    closeQuietly(inputStream);
+                    if (e != null) {
+                        log.error("Failed to upload file: {}", storageKey, e);
+                        throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+                    }
+                    log.info("File uploaded successfully: {} (size: {} bytes)", storageKey, file.getSize());
+                    return storageKey;
+                });
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("Failed to close upload stream", e);
+        }
+    }
+
+    /**
+     * 스트리밍 업로드
+     * 요청 본문을 디스크나 힙에 전체 적재하지 않고, 파트 크기만큼 읽는 대로 Object Storage로 전송한다.
+     * 첫 파트 안에 끝나면 단일 PUT, 그 이상이면 S3 Multipart Upload를 사용한다.
+     * 읽는 동안 SHA-256과 헤더 메타데이터를 함께 구하여 결과에 담는다.
+     */
+    public UploadedObject uploadStream(InputStream inputStream, String originalFilename,
+                                       String contentType, Long userId) {
+        validateContentType(contentType);
+
+        String storageKey = generateStorageKey(userId, getFileExtension(originalFilename));
+        DigestInputStream digesting = new DigestInputStream(inputStream, ContentHash.newDigest());
+
+        return objectStorageUploadTimer.record(() -> {
+            byte[] buffer = partBufferPool.acquire();
+            try {
+                int read = readFully(digesting, buffer);
+                uploadInFlightBytes.addAndGet(read);
+                // 헤더는 첫 파트 안에 있으므로 추가로 읽지 않고 버퍼에서 바로 해석한다
+                ImageMetadata metadata = ImageMetadataReader.parse(buffer,
+                        Math.min(read, ImageMetadataReader.MAX_HEADER_BYTES));
+
+                UploadedObject uploaded = read < buffer.length
+                        ? putSinglePart(storageKey, contentType, buffer, read)
+                        : putMultipart(storageKey, contentType, digesting, buffer, read);
+
+                log.info("File stream uploaded successfully: {} (size: {} bytes)", storageKey, uploaded.getSize());
+                return new UploadedObject(storageKey, uploaded.getSize(),
+                        ContentHash.toHex(digesting.getMessageDigest()), metadata);
+
+            } catch (IOException e) {
+                log.error("Failed to read upload stream", e);
+                throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+            } finally {
+                partBufferPool.release(buffer);
+            }
+        });
+    }
+
+    private UploadedObject putSinglePart(String storageKey, String contentType, byte[] buffer, int length) {
+        try {
+            if (length == 0) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "File is empty");
+            }
+
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(storageKey)
+                    .contentType(contentType)
+                    .contentLength((long) length)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, partBody(buffer, length));
+            return new UploadedObject(storageKey, length);
+        } finally {
+            uploadInFlightBytes.addAndGet(-length);
+        }
+    }
+
+    private UploadedObject putMultipart(String storageKey, String contentType, InputStream inputStream,
+                                        byte[] buffer, int firstRead) throws IOException {
+        String uploadId;
+        try {
+            uploadId = createMultipartUpload(storageKey, contentType);
+        } catch (RuntimeException e) {
+            // 첫 파트는 아직 전송 전이므로 여기서 진행 중 바이트에서 뺀다
+            uploadInFlightBytes.addAndGet(-firstRead);
+            throw e;
+        }
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+        long totalSize = 0;
+        int read = firstRead;
+
+        try {
+            while (read > 0) {
+                try {
+                    totalSize += read;
+                    if (totalSize > MAX_FILE_SIZE) {
+                        throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED, "File size must not exceed 50MB");
+                    }
+
+                    completedParts.add(uploadPart(storageKey, uploadId, completedParts.size() + 1, buffer, read));
+                } finally {
+                    uploadInFlightBytes.addAndGet(-read);
+                }
+
+                read = readFully(inputStream, buffer);
+                uploadInFlightBytes.addAndGet(read);
+            }
+
+            completeMultipartUpload(storageKey, uploadId, completedParts);
+
+            return new UploadedObject(storageKey, totalSize);
+
+        } catch (RuntimeException | IOException e) {
+            abortMultipartUpload(storageKey, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * Multipart Upload 중단 (실패는 로그만 남긴다)
+     */
+    public void abortMultipartUpload(String storageKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(storageKey)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("Multipart upload aborted: {} (uploadId: {})", storageKey, uploadId);
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload: {} (uploadId: {})", storageKey, uploadId, e);
+        }
+    }
+
+    /**
+     * 버퍼를 복사하지 않고 요청 본문으로 사용 (SDK 재시도 시 처음부터 다시 읽을 수 있음)
+     */
+    private RequestBody partBody(byte[] buffer, int length) {
+        return RequestBody.fromContentProvider(
+                () -> new ByteArrayInputStream(buffer, 0, length), length, "application/octet-stream");
+    }
+
+    /**
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽는다.
+     */
+    private int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        return readFully(inputStream, buffer, buffer.length);
+    }
+
+    private int readFully(InputStream inputStream, byte[] buffer, int length) throws IOException {
+        int total = 0;
+        while (total < length) {
+            int n = inputStream.read(buffer, total, length - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * 바이트 배열 업로드 (썸네일 등 서버에서 생성한 작은 객체)
+     */
+    public void putBytes(String storageKey, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .contentType(contentType)
+                .contentLength((long) bytes.length)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    }
+
+    /**
+     * 객체 읽기 스트림 (호출자가 닫아야 함)
+     */
+    public InputStream openObject(String storageKey) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .build());
+    }
+
+    /**
+     * 객체 앞부분만 읽기 (Range GET, 호출자가 닫아야 함)
+     */
+    public InputStream openObjectHead(String storageKey, int length) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .range("bytes=0-" + (length - 1))
+                .build());
+    }
+
+    /**
+     * 파생 이미지 키 (원본 키의 형제 키)
+     * 예: users/1/photos/abc.jpg -> users/1/photos/abc.jpg.thumb.jpg
+     */
+    public static String derivativeKey(String storageKey, String variant) {
+        return storageKey + "." + variant + ".jpg";
+    }
+
     /**
      * Pre-signed URL 생성 (다운로드용)
+     * 캐시에 유효한 URL이 있으면 재서명하지 않는다.
      */
     public String generatePresignedUrl(String storageKey) {
+        return presignedUrlCache.get(storageKey, this::presignGetObject);
+    }
+
+    private String presignGetObject(String storageKey) {
         return presignedUrlTimer.record(() -> {
             try {
                 GetObjectRequest getObjectRequest = GetObjectRequest.builder()
@@ -104,6 +583,7 @@ public class ObjectStorageService {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            presignedUrlCache.invalidate(storageKey);
             log.info("File deleted successfully: {}", storageKey);
 
         } catch (Exception e) {
@@ -112,31 +592,131 @@ public class ObjectStorageService {
         }
     }
 
+    /**
+     * 일괄 파일 삭제
+     * DeleteObjects(quiet)로 최대 1000개씩 묶어 삭제하고, 삭제하지 못한 키와 사유를 반환한다.
+     * 요청 자체가 실패한 묶음은 전체를 실패로 본다 (없는 키는 S3에서 성공으로 처리된다).
+     */
+    public Map<String, String> deleteFiles(List<String> storageKeys) {
+        Map<String, String> failedKeys = new HashMap<>();
+        for (int from = 0; from < storageKeys.size(); from += DELETE_OBJECTS_MAX_KEYS) {
+            List<String> chunk = storageKeys.subList(from, Math.min(from + DELETE_OBJECTS_MAX_KEYS, storageKeys.size()));
+            Map<String, String> chunkFailures = new HashMap<>();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder()
+                                .objects(chunk.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                                .quiet(true)
+                                .build())
+                        .build());
+                for (S3Error error : response.errors()) {
+                    log.warn("Failed to delete file: {} ({} {})", error.key(), error.code(), error.message());
+                    chunkFailures.put(error.key(), error.code() + ": " + error.message());
+                }
+            } catch (SdkException e) {
+                log.error("Failed to delete {} files in batch", chunk.size(), e);
+                chunk.forEach(key -> chunkFailures.put(key, e.getMessage()));
+            }
+
+            for (String key : chunk) {
+                if (!chunkFailures.containsKey(key)) {
+                    presignedUrlCache.invalidate(key);
+                }
+            }
+            failedKeys.putAll(chunkFailures);
+            log.info("Files deleted in batch: {} of {}", chunk.size() - chunkFailures.size(), chunk.size());
+        }
+        return failedKeys;
+    }
+
+    /**
+     * 접두사 아래 객체를 키(UTF-8 바이트) 순서로 나열한다. 페이지는 순회하는 시점에 하나씩 요청된다.
+     */
+    public ListObjectsV2Iterable listObjects(String prefix, int pageSize) {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .maxKeys(pageSize)
+                .build());
+    }
+
+    /**
+     * 객체 메타데이터 조회 (없으면 empty)
+     */
+    public Optional<HeadObjectResponse> headObject(String storageKey) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(storageKey)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Pre-signed URL 생성 (직접 업로드용 PUT)
+     * Content-Type과 Content-Length가 서명에 포함되므로, 클라이언트는 선언한 형식/크기 그대로만 올릴 수 있다.
+     */
+    public String generatePresignedPutUrl(String storageKey, String contentType, long contentLength,
+                                          Duration expiration) {
+        return presignedUrlTimer.record(() -> {
+            try {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(storageKey)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build();
+
+                PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                        .signatureDuration(expiration)
+                        .putObjectRequest(putObjectRequest)
+                        .build();
+
+                return s3Presigner.presignPutObject(presignRequest).url().toString();
+
+            } catch (Exception e) {
+                log.error("Failed to generate presigned upload URL for key: {}", storageKey, e);
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "Failed to generate upload URL");
+            }
+        });
+    }
+
     /**
      * 파일 유효성 검사
      */
-    private void validateFile(MultipartFile file) {
+    void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "File is empty");
         }
 
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new CustomException(ErrorCode.INVALID_FILE_TYPE, "Only image files are allowed");
-        }
+        validateContentType(file.getContentType());
 
         // 50MB 제한
-        if (file.getSize() > 50 * 1024 * 1024) {
+        if (file.getSize() > MAX_FILE_SIZE) {
             throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED, "File size must not exceed 50MB");
         }
     }
 
+    void validateContentType(String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new CustomException(ErrorCode.INVALID_FILE_TYPE, "Only image files are allowed");
+        }
+    }
+
     /**
      * Storage Key 생성
      */
     private String generateStorageKey(Long userId, String extension) {
         String uuid = UUID.randomUUID().toString();
-        return String.format("users/%d/photos/%s%s", userId, uuid, extension);
+        return String.format(USER_KEY_PREFIX + "%d/photos/%s%s", userId, uuid, extension);
     }
 
     /**
@@ -0,0 +1,71 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스트리밍 업로드용 파트 버퍼 풀.
+ * 동시에 존재할 수 있는 버퍼 수를 제한하여, 업로드가 몰려도 힙 사용량이 partSize * maxParts를 넘지 않는다.
+ * 버퍼는 재사용되므로 대용량 배열 할당이 반복되지 않는다.
+ */
+@Component
+public class PartBufferPool {
+
+    @Getter
+    private final int partSize;
+    private final int maxParts;
+    private final long acquireTimeoutMillis;
+    private final BlockingQueue<byte[]> pool;
+    private final AtomicInteger allocated = new AtomicInteger(0);
+
+    public PartBufferPool(
+            @Value("${cloud.nhn.object-storage.streaming.part-size:8MB}") DataSize partSize,
+            @Value("${cloud.nhn.object-storage.streaming.max-buffered-parts:16}") int maxParts,
+            @Value("${cloud.nhn.object-storage.streaming.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        this.partSize = (int) partSize.toBytes();
+        this.maxParts = maxParts;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.pool = new ArrayBlockingQueue<>(maxParts);
+    }
+
+    /**
+     * 버퍼를 빌린다. 한도에 도달하면 반납될 때까지 대기하고, 시간 초과 시 503으로 응답한다.
+     */
+    public byte[] acquire() {
+        byte[] buffer = pool.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        if (allocated.incrementAndGet() <= maxParts) {
+            return new byte[partSize];
+        }
+        allocated.decrementAndGet();
+
+        try {
+            buffer = pool.poll(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (buffer == null) {
+            throw new CustomException(ErrorCode.UPLOAD_CAPACITY_EXCEEDED);
+        }
+        return buffer;
+    }
+
+    public void release(byte[] buffer) {
+        if (buffer != null) {
+            pool.offer(buffer);
+        }
+    }
+}
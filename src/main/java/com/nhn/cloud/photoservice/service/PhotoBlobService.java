@@ -0,0 +1,109 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.storage.PhotoBlob;
+import com.nhn.cloud.photoservice.repository.PhotoBlobRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 원본 객체 참조 관리 (사용자별 SHA-256 중복 제거).
+ * 같은 사용자가 같은 내용을 다시 올리면 PUT 없이 기존 객체를 재사용하고, 사진 삭제는 마지막 참조가 사라질 때만
+ * 원본과 파생 이미지 삭제를 아웃박스에 예약한다.
+ * 서버가 내용을 보지 않는 경로(Pre-signed PUT, 재개 가능 업로드)의 객체는 참조 행 없이 사진 하나가 단독 소유한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoBlobService {
+
+    private final PhotoBlobRepository photoBlobRepository;
+    private final StorageDeletionOutbox storageDeletionOutbox;
+    private final Counter photoBlobDeduplicatedCounter;
+
+    /**
+     * 같은 내용의 객체가 있으면 참조를 하나 늘리고 그 키를 반환 (없으면 null, 호출한 쪽이 업로드 후 register)
+     */
+    @Transactional
+    public String acquire(Long userId, String contentHash) {
+        // 없는 행을 잠그면 인덱스 간격 잠금이 걸려 같은 사용자의 다른 업로드 등록과 교착될 수 있어, 있을 때만 잠근다
+        if (!photoBlobRepository.existsByUserIdAndContentHash(userId, contentHash)) {
+            return null;
+        }
+        return photoBlobRepository.findByUserIdAndContentHashForUpdate(userId, contentHash)
+                .map(blob -> {
+                    blob.acquire();
+                    photoBlobDeduplicatedCounter.increment();
+                    log.debug("Upload deduplicated: {} (refs: {})", blob.getStorageKey(), blob.getRefCount());
+                    return blob.getStorageKey();
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 방금 올린 객체를 등록하고 사진이 참조할 키를 반환한다.
+     * 같은 내용이 먼저 등록되었으면(스트리밍 업로드, 아직 커밋되지 않은 동시 업로드 포함) 기존 객체의 참조를 늘리고
+     * 방금 올린 객체는 삭제 예약한다. 등록은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장이라 유니크 키 충돌로 실패하지 않는다.
+     */
+    @Transactional
+    public String register(Long userId, String contentHash, String storageKey, long size) {
+        photoBlobRepository.insertOrAcquire(userId, contentHash, storageKey, size, LocalDateTime.now());
+        String blobKey = photoBlobRepository.findStorageKeyForUpdate(userId, contentHash);
+        if (!storageKey.equals(blobKey)) {
+            storageDeletionOutbox.enqueue(List.of(storageKey));
+            photoBlobDeduplicatedCounter.increment();
+            log.debug("Upload deduplicated after transfer: {} -> {}", storageKey, blobKey);
+        }
+        return blobKey;
+    }
+
+    /**
+     * 참조 행이 있는(여러 사진이 공유할 수 있는) 키
+     */
+    public boolean isShared(String storageKey) {
+        return photoBlobRepository.existsByStorageKey(storageKey);
+    }
+
+    /**
+     * 사진이 참조하던 원본 키들의 참조 해제 (같은 키가 여러 번 오면 그만큼 해제)
+     * 참조가 남지 않은 키와 참조 행이 없는 단독 소유 키는 원본/파생 이미지 삭제를 같은 트랜잭션의 아웃박스에 예약한다.
+     */
+    @Transactional
+    public void release(Collection<String> storageKeys) {
+        if (storageKeys.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts = storageKeys.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        Set<String> unreferenced = new LinkedHashSet<>(counts.keySet());
+        List<PhotoBlob> emptied = new ArrayList<>();
+        for (PhotoBlob blob : photoBlobRepository.findByStorageKeyInForUpdate(counts.keySet())) {
+            if (blob.release(counts.get(blob.getStorageKey()).intValue()) > 0) {
+                unreferenced.remove(blob.getStorageKey());
+            } else {
+                emptied.add(blob);
+            }
+        }
+        photoBlobRepository.deleteAll(emptied);
+
+        storageDeletionOutbox.enqueue(unreferenced.stream()
+                .flatMap(key -> Stream.of(key,
+                        ObjectStorageService.derivativeKey(key, PhotoDerivativeService.THUMBNAIL),
+                        ObjectStorageService.derivativeKey(key, PhotoDerivativeService.PREVIEW)))
+                .toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.photo.DerivativeStatus;
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.repository.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 파생 이미지가 없는 기존 사진(PENDING)을 주기적으로 워커 풀에 등록하는 백필 작업.
+ * 워커 풀 큐의 남은 자리만큼만 등록하여 신규 업로드의 생성 작업을 밀어내지 않는다.
+ * 여러 노드에서 동시에 돌 필요가 없으므로 한 노드에서만 활성화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "photo-service.derivatives.backfill.enabled", havingValue = "true")
+public class PhotoDerivativeBackfillJob {
+
+    private final PhotoRepository photoRepository;
+    private final PhotoDerivativeService photoDerivativeService;
+
+    @Value("${photo-service.derivatives.backfill.batch-size:100}")
+    private int batchSize;
+
+    private long lastId = 0;
+
+    @Scheduled(fixedDelayString = "${photo-service.derivatives.backfill.interval-ms:60000}")
+    public void backfill() {
+        // 신규 업로드용 여유분으로 큐의 절반은 남겨둔다
+        int capacity = Math.min(batchSize, photoDerivativeService.remainingCapacity() / 2);
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Photo> photos = photoRepository.findByDerivativeStatusAndIdGreaterThanOrderByIdAsc(
+                DerivativeStatus.PENDING, lastId, PageRequest.of(0, capacity));
+
+        if (photos.isEmpty()) {
+            lastId = 0; // 한 바퀴 완료, 다음 주기에 처음부터 다시 확인
+            return;
+        }
+
+        photos.forEach(photo -> photoDerivativeService.submit(photo.getId()));
+        lastId = photos.get(photos.size() - 1).getId();
+
+        log.info("Derivative backfill submitted {} photos (up to id {})", photos.size(), lastId);
+    }
+}
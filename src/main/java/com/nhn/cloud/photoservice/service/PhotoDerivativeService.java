@@ -0,0 +1,150 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.photo.DerivativeStatus;
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.domain.sync.ChangeEntityType;
+import com.nhn.cloud.photoservice.domain.sync.ChangeOperation;
+import com.nhn.cloud.photoservice.event.PhotoChangedEvent;
+import com.nhn.cloud.photoservice.repository.PhotoRepository;
+import com.nhn.cloud.photoservice.util.ImageMetadata;
+import com.nhn.cloud.photoservice.util.ImageMetadataReader;
+import com.nhn.cloud.photoservice.util.ImageResizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+
+/**
+ * 썸네일/미리보기 파생 이미지 생성.
+ * 업로드 트랜잭션이 커밋된 뒤 전용 워커 풀에서 실행되므로 업로드 요청을 지연시키지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoDerivativeService {
+
+    public static final String THUMBNAIL = "thumb";
+    public static final String PREVIEW = "preview";
+
+    private static final String JPEG = "image/jpeg";
+
+    private final PhotoRepository photoRepository;
+    private final ObjectStorageService objectStorageService;
+    private final ThreadPoolTaskExecutor derivativeExecutor;
+    private final Timer photoDerivativeTimer;
+    private final MeterRegistry meterRegistry;
+    private final SharedAlbumCache sharedAlbumCache;
+    private final ChangeLogRecorder changeLogRecorder;
+    private final AlbumEventBroadcaster albumEventBroadcaster;
+    private final PhotoBlobService photoBlobService;
+
+    @Value("${photo-service.derivatives.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${photo-service.derivatives.preview-size:1280}")
+    private int previewSize;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPhotoChanged(PhotoChangedEvent event) {
+        if (event.getType() == PhotoChangedEvent.Type.CREATED) {
+            submit(event.getPhotoId());
+        }
+    }
+
+    /**
+     * 생성 작업을 워커 풀에 등록한다. (큐가 가득 차면 버려지고 백필에서 재처리)
+     */
+    public void submit(Long photoId) {
+        derivativeExecutor.execute(() -> generate(photoId));
+    }
+
+    /**
+     * 워커 풀 큐의 남은 자리 수 (백필 배치 크기 제한용)
+     */
+    public int remainingCapacity() {
+        return derivativeExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+    }
+
+    void generate(Long photoId) {
+        Photo photo = photoRepository.findById(photoId).orElse(null);
+        if (photo == null || photo.getDerivativeStatus() != DerivativeStatus.PENDING) {
+            return;
+        }
+
+        DerivativeStatus status = photoDerivativeTimer.record(() -> generateAndStore(photo));
+        meterRegistry.counter("photo_service.photo.derivative", "result", status.name()).increment();
+
+        // 공유 앨범 스냅샷, 동기화 클라이언트, 앨범 구독자에 썸네일 URL(앨범은 커버)이 반영되도록 알린다
+        Long userId = photo.getUser().getId();
+        changeLogRecorder.record(userId, ChangeEntityType.PHOTO, photoId, ChangeOperation.UPSERT);
+        if (photo.getAlbum() != null) {
+            sharedAlbumCache.evictAlbum(photo.getAlbum().getId());
+            changeLogRecorder.record(userId, ChangeEntityType.ALBUM, photo.getAlbum().getId(), ChangeOperation.UPSERT);
+            albumEventBroadcaster.publishPhotoUpdated(userId, photo.getAlbum().getId(), photoId);
+        }
+    }
+
+    private DerivativeStatus generateAndStore(Photo photo) {
+        String storageKey = photo.getStorageKey();
+        String thumbnailKey = ObjectStorageService.derivativeKey(storageKey, THUMBNAIL);
+        String previewKey = ObjectStorageService.derivativeKey(storageKey, PREVIEW);
+
+        try {
+            BufferedImage decoded;
+            try (InputStream original = new BufferedInputStream(objectStorageService.openObject(storageKey),
+                    ImageMetadataReader.MAX_HEADER_BYTES)) {
+                // 서버가 내용을 보지 않은 업로드(Pre-signed PUT 등)는 원본을 내려받는 이 시점에 헤더 메타데이터를 채운다
+                if (!photo.isMetadataExtracted()) {
+                    original.mark(ImageMetadataReader.MAX_HEADER_BYTES);
+                    ImageMetadata metadata = ImageMetadataReader.read(original);
+                    original.reset();
+                    photoRepository.updateMetadata(photo.getId(), metadata.width(), metadata.height(),
+                            metadata.orientation(), metadata.takenAt(), metadata.cameraModel());
+                }
+                decoded = ImageResizer.readSubsampled(original, previewSize);
+            }
+
+            if (decoded == null) {
+                photoRepository.updateDerivatives(photo.getId(), null, null, DerivativeStatus.UNSUPPORTED);
+                log.info("Derivatives unsupported for photo: {} ({})", photo.getId(), photo.getContentType());
+                return DerivativeStatus.UNSUPPORTED;
+            }
+
+            BufferedImage preview = ImageResizer.fit(decoded, previewSize);
+            BufferedImage thumbnail = ImageResizer.fit(preview, thumbnailSize);
+
+            objectStorageService.putBytes(previewKey, ImageResizer.toJpeg(preview), JPEG);
+            objectStorageService.putBytes(thumbnailKey, ImageResizer.toJpeg(thumbnail), JPEG);
+
+            int updated = photoRepository.updateDerivatives(
+                    photo.getId(), thumbnailKey, previewKey, DerivativeStatus.READY);
+
+            if (updated == 0) {
+                // 생성 중 사진이 삭제된 경우 방금 올린 파생 이미지를 정리
+                // (중복 제거로 원본을 공유하는 다른 사진이 남아 있으면 같은 파생 키를 쓰고 있으므로 두고, 마지막 참조 해제 시 지운다)
+                if (!photoBlobService.isShared(storageKey)) {
+                    objectStorageService.deleteFile(thumbnailKey);
+                    objectStorageService.deleteFile(previewKey);
+                }
+                return DerivativeStatus.FAILED;
+            }
+
+            log.info("Derivatives generated for photo: {}", photo.getId());
+            return DerivativeStatus.READY;
+
+        } catch (Exception e) {
+            log.error("Failed to generate derivatives for photo: {}", photo.getId(), e);
+            photoRepository.updateDerivatives(photo.getId(), null, null, DerivativeStatus.FAILED);
+            return DerivativeStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.domain.sync.ChangeEntityType;
+import com.nhn.cloud.photoservice.domain.sync.ChangeOperation;
+import com.nhn.cloud.photoservice.repository.PhotoRepository;
+import com.nhn.cloud.photoservice.util.ImageMetadata;
+import com.nhn.cloud.photoservice.util.ImageMetadataReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 메타데이터를 추출하지 않은 기존 사진의 헤더를 주기적으로 읽어 채우는 백필 작업.
+ * 원본 전체가 아니라 앞부분만 Range GET으로 읽고, 한 주기에 batch-size 건만 처리하여 스토리지 부하를 제한한다.
+ * 여러 노드에서 동시에 돌 필요가 없으므로 한 노드에서만 활성화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "photo-service.metadata.backfill.enabled", havingValue = "true")
+public class PhotoMetadataBackfillJob {
+
+    private final PhotoRepository photoRepository;
+    private final ObjectStorageService objectStorageService;
+    private final ChangeLogRecorder changeLogRecorder;
+
+    @Value("${photo-service.metadata.backfill.batch-size:50}")
+    private int batchSize;
+
+    private long lastId = 0;
+
+    @Scheduled(fixedDelayString = "${photo-service.metadata.backfill.interval-ms:10000}")
+    public void backfill() {
+        List<Photo> photos = photoRepository.findByMetadataExtractedFalseAndIdGreaterThanOrderByIdAsc(
+                lastId, PageRequest.of(0, batchSize));
+
+        if (photos.isEmpty()) {
+            lastId = 0; // 한 바퀴 완료, 다음 주기에 처음부터 다시 확인 (실패 건 재시도)
+            return;
+        }
+
+        int extracted = 0;
+        for (Photo photo : photos) {
+            if (extract(photo)) {
+                extracted++;
+            }
+        }
+        lastId = photos.get(photos.size() - 1).getId();
+
+        log.info("Metadata backfill extracted {}/{} photos (up to id {})", extracted, photos.size(), lastId);
+    }
+
+    private boolean extract(Photo photo) {
+        ImageMetadata metadata;
+        try (InputStream head = objectStorageService.openObjectHead(
+                photo.getStorageKey(), ImageMetadataReader.MAX_HEADER_BYTES)) {
+            metadata = ImageMetadataReader.read(head);
+        } catch (NoSuchKeyException e) {
+            // 원본이 없으면 다시 읽어도 소용없으므로 빈 값으로 완료 처리 (행 정리는 정합성 점검 작업 몫)
+            metadata = ImageMetadata.EMPTY;
+        } catch (Exception e) {
+            log.warn("Failed to read metadata for photo: {} ({})", photo.getId(), e.getMessage());
+            return false;
+        }
+
+        photoRepository.updateMetadata(photo.getId(), metadata.width(), metadata.height(),
+                metadata.orientation(), metadata.takenAt(), metadata.cameraModel());
+        changeLogRecorder.record(photo.getUser().getId(), ChangeEntityType.PHOTO, photo.getId(), ChangeOperation.UPSERT);
+        return true;
+    }
+}
@@ -0,0 +1,738 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.album.Album;
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.domain.sync.ChangeEntityType;
+import com.nhn.cloud.photoservice.domain.sync.ChangeLog;
+import com.nhn.cloud.photoservice.event.AlbumChangedEvent;
+import com.nhn.cloud.photoservice.event.PhotoChangedEvent;
+import com.nhn.cloud.photoservice.repository.AlbumRepository;
+import com.nhn.cloud.photoservice.repository.ChangeLogRepository;
+import com.nhn.cloud.photoservice.repository.PhotoRepository;
+import com.nhn.cloud.photoservice.util.SearchTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사진/앨범 제목·설명 전문 검색용 인메모리 역색인 (사용자별 샤드).
+ * 각 샤드는 정렬된 단어 사전을 가지므로 질의 단어는 접두사 범위 조회로 찾는다 (SearchTokenizer 참고).
+ * 앨범 제목/설명이 일치하면 그 앨범의 사진도 결과에 포함된다.
+ * <p>
+ * 변경은 커밋 후 사진/앨범 이벤트로 반영하고, 주기적으로(변경이 있을 때만) 로컬 디스크에 스냅샷을 남긴다.
+ * 기동 시에는 스냅샷을 먼저 적재해 바로 검색에 쓰고, 백그라운드에서 DB를 스트리밍 커서로 읽어 새 색인을 만든 뒤 교체한다.
+ * 다른 노드의 변경은 변경 피드(change_log)를 ID 순서로 주기적으로 따라 읽어 반영하며 (자기 노드 변경도 다시 적용되지만 결과는 같다),
+ * 그 사이 지워진 사진이 남을 수 있으므로 검색 결과는 항상 DB에서 다시 조회해 걸러낸다.
+ */
+@Slf4j
+@Component
+public class PhotoSearchIndex implements SmartLifecycle {
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958;  // "PSIX"
+    private static final int SNAPSHOT_VERSION = 2;         // SearchTokenizer 규칙이 바뀌면 올린다
+
+    private static final String PHOTO_ROWS_SQL = "SELECT id, user_id, album_id, title, description FROM photos";
+    private static final String ALBUM_ROWS_SQL = "SELECT id, user_id, title, description FROM albums";
+
+    private final PhotoRepository photoRepository;
+    private final AlbumRepository albumRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final Path snapshotPath;
+    private final boolean rebuildOnStartup;
+    private final int maxQueryTerms;
+    private final int catchUpBatchSize;
+    private final long settleMillis;
+
+    // 재구성 결과로 통째로 교체되므로 volatile, 교체와 이벤트 반영은 swapLock으로 배제한다
+    private volatile Map<Long, Shard> shards = new ConcurrentHashMap<>();
+    private Map<Long, Shard> rebuilding;
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 색인에 반영된 마지막 변경 피드 ID (-1이면 아직 기준점 없음: 재구성이 끝나면 정해진다)
+    private volatile long changeCursor = -1;
+
+    private volatile boolean dirty = false;
+    private volatile boolean running = false;
+    private Thread rebuildThread;
+
+    public PhotoSearchIndex(PhotoRepository photoRepository,
+                            AlbumRepository albumRepository,
+                            ChangeLogRepository changeLogRepository,
+                            DataSource dataSource,
+                            MeterRegistry meterRegistry,
+                            @Value("${photo-service.search.snapshot-path:/var/lib/photo-service/search-index.bin}") String snapshotPath,
+                            @Value("${photo-service.search.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                            @Value("${photo-service.search.rebuild-fetch-size:-2147483648}") int rebuildFetchSize,
+                            @Value("${photo-service.search.max-query-terms:8}") int maxQueryTerms,
+                            @Value("${photo-service.search.catch-up-batch-size:1000}") int catchUpBatchSize,
+                            @Value("${photo-service.sync.settle-ms:5000}") long settleMillis) {
+        this.photoRepository = photoRepository;
+        this.albumRepository = albumRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.maxQueryTerms = maxQueryTerms;
+        this.catchUpBatchSize = catchUpBatchSize;
+        this.settleMillis = settleMillis;
+
+        // MySQL은 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍한다 (전체를 메모리에 올리지 않음)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(rebuildFetchSize);
+
+        Gauge.builder("photo_service.search.index.documents", this, PhotoSearchIndex::documentCount)
+                .description("Number of photos and albums in the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 질의의 모든 단어가 (사진 또는 그 앨범의) 단어 접두사로 일치하는 사진 ID를 내림차순으로 조회
+     *
+     * @param beforeId 이 ID보다 작은 사진만 (커서)
+     */
+    public List<Long> search(Long userId, List<String> queryTerms, long beforeId, int limit) {
+        Shard shard = shards.get(userId);
+        if (shard == null || queryTerms.isEmpty()) {
+            return List.of();
+        }
+        return shard.search(queryTerms.subList(0, Math.min(queryTerms.size(), maxQueryTerms)), beforeId, limit);
+    }
+
+    /**
+     * DB에 없는 것으로 확인된 사진 제거 (다른 노드에서 삭제된 경우)
+     */
+    public void removePhoto(Long userId, Long photoId) {
+        apply(userId, shard -> shard.removePhoto(photoId, true));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPhotoChanged(PhotoChangedEvent event) {
+        if (event.getType() == PhotoChangedEvent.Type.DELETED) {
+            removePhoto(event.getUserId(), event.getPhotoId());
+            return;
+        }
+
+        // 커밋 직후라 영속성 컨텍스트에 남아 있는 엔티티를 읽는다 (일괄 이동은 UPDATE 문으로 처리되어 엔티티의 앨범이 이전 값이므로 이벤트 값 사용)
+        Photo photo = photoRepository.findById(event.getPhotoId()).orElse(null);
+        if (photo == null) {
+            removePhoto(event.getUserId(), event.getPhotoId());
+            return;
+        }
+        String[] terms = termsOf(photo.getTitle(), photo.getDescription());
+        apply(event.getUserId(), shard -> shard.putPhoto(photo.getId(), event.getAlbumId(), terms, true));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlbumChanged(AlbumChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> {
+                Album album = albumRepository.findById(event.getAlbumId()).orElse(null);
+                if (album == null) {
+                    apply(event.getUserId(), shard -> shard.removeAlbum(event.getAlbumId(), true));
+                    return;
+                }
+                String[] terms = termsOf(album.getTitle(), album.getDescription());
+                apply(event.getUserId(), shard -> shard.putAlbum(album.getId(), terms, true));
+            }
+            case DELETED -> apply(event.getUserId(), shard -> shard.removeAlbum(event.getAlbumId(), true));
+            default -> {
+                // 공유 설정은 검색 대상이 아니다
+            }
+        }
+    }
+
+    /**
+     * 현재 색인과 (재구성 중이면) 새 색인 양쪽에 변경 반영
+     */
+    private void apply(Long userId, Consumer<Shard> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(shards.computeIfAbsent(userId, id -> new Shard(false)));
+            if (rebuilding != null) {
+                change.accept(rebuilding.computeIfAbsent(userId, id -> new Shard(true)));
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        dirty = true;
+    }
+
+    private static String[] termsOf(String title, String description) {
+        List<String> terms = new ArrayList<>(SearchTokenizer.tokenize(title));
+        for (String term : SearchTokenizer.tokenize(description)) {
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private long documentCount() {
+        long count = 0;
+        for (Shard shard : shards.values()) {
+            count += shard.size();
+        }
+        return count;
+    }
+
+    // --- Catch-up ---
+
+    /**
+     * 커서 이후 확정된 변경을 읽어 대상 사진/앨범의 현재 값으로 색인을 고친다 (다른 노드의 변경 반영).
+     * 확정 대기(settle)는 SyncService와 같다: 늦게 커밋된 작은 ID를 건너뛰지 않도록 최근 변경은 다음 주기로 미룬다.
+     */
+    @Scheduled(fixedDelayString = "${photo-service.search.catch-up-interval-ms:30000}")
+    public void catchUp() {
+        if (!running || changeCursor < 0 || isRebuilding()) {
+            return;
+        }
+
+        long cursor = changeCursor;
+        LocalDateTime settledBefore = settledBefore();
+        int applied = 0;
+        List<ChangeLog> changes;
+        do {
+            changes = changeLogRepository.findAllSettledAfter(cursor, settledBefore,
+                    PageRequest.of(0, catchUpBatchSize));
+            if (changes.isEmpty()) {
+                break;
+            }
+            applyChanges(changes);
+            cursor = changes.get(changes.size() - 1).getId();
+            changeCursor = cursor;
+            applied += changes.size();
+        } while (changes.size() == catchUpBatchSize && running);
+
+        if (applied > 0) {
+            log.debug("Search index caught up with {} changes (cursor={})", applied, cursor);
+        }
+    }
+
+    private void applyChanges(List<ChangeLog> changes) {
+        Map<Long, Long> photoOwners = new HashMap<>();
+        Map<Long, Long> albumOwners = new HashMap<>();
+        for (ChangeLog change : changes) {
+            (change.getEntityType() == ChangeEntityType.PHOTO ? photoOwners : albumOwners)
+                    .put(change.getEntityId(), change.getUserId());
+        }
+
+        // 작업 종류와 관계없이 현재 값으로 맞춘다 (DB에 없으면 제거)
+        Map<Long, Album> albums = albumRepository.findAllById(albumOwners.keySet()).stream()
+                .collect(Collectors.toMap(Album::getId, Function.identity()));
+        albumOwners.forEach((albumId, userId) -> {
+            Album album = albums.get(albumId);
+            if (album == null) {
+                apply(userId, shard -> shard.removeAlbum(albumId, true));
+            } else {
+                String[] terms = termsOf(album.getTitle(), album.getDescription());
+                apply(userId, shard -> shard.putAlbum(albumId, terms, true));
+            }
+        });
+
+        Map<Long, Photo> photos = photoRepository.findAllById(photoOwners.keySet()).stream()
+                .collect(Collectors.toMap(Photo::getId, Function.identity()));
+        photoOwners.forEach((photoId, userId) -> {
+            Photo photo = photos.get(photoId);
+            if (photo == null) {
+                apply(userId, shard -> shard.removePhoto(photoId, true));
+            } else {
+                Long albumId = photo.getAlbum() != null ? photo.getAlbum().getId() : null;
+                String[] terms = termsOf(photo.getTitle(), photo.getDescription());
+                apply(userId, shard -> shard.putPhoto(photoId, albumId, terms, true));
+            }
+        });
+    }
+
+    /**
+     * 이 시각 이전에 기록된 변경은 더 작은 ID가 모두 커밋된 것으로 본다 (DB 시각 기준)
+     */
+    private LocalDateTime settledBefore() {
+        return changeLogRepository.currentTimestamp().minusNanos(settleMillis * 1_000_000);
+    }
+
+    /**
+     * 확정된 마지막 변경 ID (재구성 기준점: 이후 변경은 따라 읽기로 반영)
+     */
+    private long settledHead() {
+        return changeLogRepository.findFirstByCreatedAtLessThanEqualOrderByIdDesc(settledBefore())
+                .map(ChangeLog::getId)
+                .orElse(0L);
+    }
+
+    private boolean isRebuilding() {
+        swapLock.readLock().lock();
+        try {
+            return rebuilding != null;
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // --- Rebuild ---
+
+    /**
+     * DB 전체를 스트리밍으로 읽어 새 색인을 만들고 현재 색인과 교체.
+     * 진행 중 들어온 이벤트는 새 색인에도 반영되며, 그 문서는 스트리밍 행(이벤트보다 오래된 값일 수 있음)으로 덮어쓰지 않는다.
+     * 읽기 전에 확정된 변경 피드 위치를 기준점으로 잡아, 그 이후 변경은 교체 후 따라 읽기로 다시 반영한다.
+     */
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        Map<Long, Shard> next = new ConcurrentHashMap<>();
+        long head = settledHead();
+
+        swapLock.writeLock().lock();
+        try {
+            rebuilding = next;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            streamingJdbcTemplate.query(ALBUM_ROWS_SQL, rs -> {
+                String[] terms = termsOf(rs.getString("title"), rs.getString("description"));
+                next.computeIfAbsent(rs.getLong("user_id"), id -> new Shard(true))
+                        .putAlbum(rs.getLong("id"), terms, false);
+            });
+            streamingJdbcTemplate.query(PHOTO_ROWS_SQL, rs -> {
+                long albumId = rs.getLong("album_id");
+                Long album = rs.wasNull() ? null : albumId;
+                String[] terms = termsOf(rs.getString("title"), rs.getString("description"));
+                next.computeIfAbsent(rs.getLong("user_id"), id -> new Shard(true))
+                        .putPhoto(rs.getLong("id"), album, terms, false);
+            });
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            try {
+                rebuilding = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            next.values().forEach(Shard::finishRebuild);
+            shards = next;
+            rebuilding = null;
+            changeCursor = head;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        dirty = true;
+
+        log.info("Search index rebuilt from database: {} documents, {} users ({} ms)",
+                documentCount(), next.size(), System.currentTimeMillis() - started);
+    }
+
+    // --- Snapshot ---
+
+    /**
+     * 변경이 있으면 스냅샷 기록 (임시 파일에 쓴 뒤 교체하므로 기록 중 종료되어도 이전 스냅샷이 남는다)
+     */
+    @Scheduled(fixedDelayString = "${photo-service.search.snapshot-interval-ms:300000}")
+    public void saveSnapshotIfDirty() {
+        if (!dirty || !running) {
+            return;
+        }
+        dirty = false;
+        try {
+            saveSnapshot();
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Failed to save search index snapshot: {} ({})", snapshotPath, e.getMessage());
+        }
+    }
+
+    private void saveSnapshot() throws IOException {
+        Path directory = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "search-index", ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            // 커서를 샤드보다 먼저 읽는다 (샤드가 커서보다 새로운 것은 따라 읽기로 다시 적용해도 같다)
+            out.writeLong(changeCursor);
+            for (Map.Entry<Long, Shard> entry : shards.entrySet()) {
+                out.writeBoolean(true);
+                out.writeLong(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+            out.writeBoolean(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Search index snapshot saved: {}", snapshotPath);
+    }
+
+    /**
+     * 스냅샷 적재 (없거나 형식이 다르면 false)
+     */
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+
+        Map<Long, Shard> loaded = new ConcurrentHashMap<>();
+        long cursor;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.info("Ignoring search index snapshot with an old format: {}", snapshotPath);
+                return false;
+            }
+            cursor = in.readLong();
+            while (in.readBoolean()) {
+                long userId = in.readLong();
+                loaded.put(userId, Shard.readFrom(in));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load search index snapshot: {} ({})", snapshotPath, e.getMessage());
+            return false;
+        }
+
+        shards = loaded;
+        changeCursor = cursor;
+        log.info("Search index snapshot loaded: {} documents, {} users (change cursor={})",
+                documentCount(), loaded.size(), cursor);
+        return true;
+    }
+
+    // --- Lifecycle ---
+
+    @Override
+    public void start() {
+        running = true;
+        boolean loaded = loadSnapshot();
+        if (loaded && !rebuildOnStartup) {
+            return;
+        }
+
+        rebuildThread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild search index from database", e);
+            }
+        }, "search-index-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (rebuildThread != null && rebuildThread.isAlive()) {
+            // 재구성이 끝나지 않았으면 현재 색인(스냅샷 + 이벤트)만 기록한다
+            rebuildThread.interrupt();
+        }
+        try {
+            saveSnapshot();
+        } catch (IOException e) {
+            log.warn("Failed to save search index snapshot on shutdown: {} ({})", snapshotPath, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 사용자별 색인 샤드 (읽기/쓰기 잠금으로 보호)
+     */
+    private static final class Shard {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Set<Long>> photoTerms = new TreeMap<>();
+        private final NavigableMap<String, Set<Long>> albumTerms = new TreeMap<>();
+        private final Map<Long, PhotoDoc> photos = new HashMap<>();
+        private final Map<Long, String[]> albums = new HashMap<>();
+        private final Map<Long, Set<Long>> albumPhotos = new HashMap<>();
+
+        // 재구성 중인 샤드에서만 사용: 이벤트로 바뀐 문서 (스트리밍 행으로 덮어쓰지 않음)
+        private Set<Long> changedPhotos;
+        private Set<Long> changedAlbums;
+
+        Shard(boolean rebuilding) {
+            if (rebuilding) {
+                changedPhotos = new HashSet<>();
+                changedAlbums = new HashSet<>();
+            }
+        }
+
+        private record PhotoDoc(Long albumId, String[] terms) {
+        }
+
+        /**
+         * @param fromEvent false면 재구성 스트리밍 행 (이미 이벤트로 바뀐 문서는 건너뜀)
+         */
+        void putPhoto(long photoId, Long albumId, String[] terms, boolean fromEvent) {
+            lock.writeLock().lock();
+            try {
+                if (!track(changedPhotos, photoId, fromEvent)) {
+                    return;
+                }
+                unindexPhoto(photoId);
+                photos.put(photoId, new PhotoDoc(albumId, terms));
+                for (String term : terms) {
+                    photoTerms.computeIfAbsent(term, t -> new HashSet<>()).add(photoId);
+                }
+                if (albumId != null) {
+                    albumPhotos.computeIfAbsent(albumId, id -> new HashSet<>()).add(photoId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void removePhoto(long photoId, boolean fromEvent) {
+            lock.writeLock().lock();
+            try {
+                if (track(changedPhotos, photoId, fromEvent)) {
+                    unindexPhoto(photoId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void putAlbum(long albumId, String[] terms, boolean fromEvent) {
+            lock.writeLock().lock();
+            try {
+                if (!track(changedAlbums, albumId, fromEvent)) {
+                    return;
+                }
+                unindexAlbum(albumId);
+                albums.put(albumId, terms);
+                for (String term : terms) {
+                    albumTerms.computeIfAbsent(term, t -> new HashSet<>()).add(albumId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * 앨범 제거 (DB와 같이 소속 사진은 앨범 없음으로 남긴다)
+         */
+        void removeAlbum(long albumId, boolean fromEvent) {
+            lock.writeLock().lock();
+            try {
+                if (!track(changedAlbums, albumId, fromEvent)) {
+                    return;
+                }
+                unindexAlbum(albumId);
+                Set<Long> members = albumPhotos.remove(albumId);
+                if (members != null) {
+                    for (Long photoId : members) {
+                        photos.computeIfPresent(photoId, (id, doc) -> new PhotoDoc(null, doc.terms()));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> search(List<String> queryTerms, long beforeId, int limit) {
+            lock.readLock().lock();
+            try {
+                Set<Long> result = null;
+                for (String queryTerm : queryTerms) {
+                    Set<Long> matched = match(queryTerm);
+                    if (result == null) {
+                        result = matched;
+                    } else {
+                        result.retainAll(matched);
+                    }
+                    if (result.isEmpty()) {
+                        return List.of();
+                    }
+                }
+                return result.stream()
+                        .filter(id -> id < beforeId)
+                        .sorted(Comparator.reverseOrder())
+                        .limit(limit)
+                        .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 단어 하나에 대해 사진 자체 또는 소속 앨범이 접두사로 일치하는 사진
+         */
+        private Set<Long> match(String queryTerm) {
+            Set<Long> matched = new HashSet<>();
+            for (String prefix : SearchTokenizer.prefixesOf(queryTerm)) {
+                for (Set<Long> ids : prefixRange(photoTerms, prefix).values()) {
+                    matched.addAll(ids);
+                }
+                for (Set<Long> albumIds : prefixRange(albumTerms, prefix).values()) {
+                    for (Long albumId : albumIds) {
+                        matched.addAll(albumPhotos.getOrDefault(albumId, Set.of()));
+                    }
+                }
+            }
+            return matched;
+        }
+
+        private static NavigableMap<String, Set<Long>> prefixRange(NavigableMap<String, Set<Long>> terms,
+                                                                   String prefix) {
+            return terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+
+        private void unindexPhoto(long photoId) {
+            PhotoDoc previous = photos.remove(photoId);
+            if (previous == null) {
+                return;
+            }
+            removePostings(photoTerms, previous.terms(), photoId);
+            if (previous.albumId() != null) {
+                Set<Long> members = albumPhotos.get(previous.albumId());
+                if (members != null && members.remove(photoId) && members.isEmpty()) {
+                    albumPhotos.remove(previous.albumId());
+                }
+            }
+        }
+
+        private void unindexAlbum(long albumId) {
+            String[] previous = albums.remove(albumId);
+            if (previous != null) {
+                removePostings(albumTerms, previous, albumId);
+            }
+        }
+
+        private static void removePostings(Map<String, Set<Long>> terms, String[] docTerms, long id) {
+            for (String term : docTerms) {
+                Set<Long> postings = terms.get(term);
+                if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                    terms.remove(term);
+                }
+            }
+        }
+
+        /**
+         * 이벤트 변경이면 기록 후 true, 스트리밍 행이면 이벤트로 이미 바뀌지 않았을 때만 true
+         */
+        private static boolean track(Set<Long> changed, long id, boolean fromEvent) {
+            if (changed == null) {
+                return true;
+            }
+            if (fromEvent) {
+                changed.add(id);
+                return true;
+            }
+            return !changed.contains(id);
+        }
+
+        void finishRebuild() {
+            lock.writeLock().lock();
+            try {
+                changedPhotos = null;
+                changedAlbums = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return photos.size() + albums.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            lock.readLock().lock();
+            try {
+                out.writeInt(albums.size());
+                for (Map.Entry<Long, String[]> album : albums.entrySet()) {
+                    out.writeLong(album.getKey());
+                    writeTerms(out, album.getValue());
+                }
+                out.writeInt(photos.size());
+                for (Map.Entry<Long, PhotoDoc> photo : photos.entrySet()) {
+                    out.writeLong(photo.getKey());
+                    out.writeLong(photo.getValue().albumId() != null ? photo.getValue().albumId() : -1L);
+                    writeTerms(out, photo.getValue().terms());
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        static Shard readFrom(DataInputStream in) throws IOException {
+            Shard shard = new Shard(false);
+            int albumCount = in.readInt();
+            for (int i = 0; i < albumCount; i++) {
+                long albumId = in.readLong();
+                shard.putAlbum(albumId, readTerms(in), false);
+            }
+            int photoCount = in.readInt();
+            for (int i = 0; i < photoCount; i++) {
+                long photoId = in.readLong();
+                long albumId = in.readLong();
+                shard.putPhoto(photoId, albumId >= 0 ? albumId : null, readTerms(in), false);
+            }
+            return shard;
+        }
+
+        private static void writeTerms(DataOutputStream out, String[] terms) throws IOException {
+            out.writeShort(terms.length);
+            for (String term : terms) {
+                out.writeUTF(term);
+            }
+        }
+
+        private static String[] readTerms(DataInputStream in) throws IOException {
+            String[] terms = new String[in.readUnsignedShort()];
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = in.readUTF();
+            }
+            return terms;
+        }
+    }
+}
@@ -1,28 +1,57 @@
 package com.nhn.cloud.photoservice.service;
 
+import com.nhn.cloud.photoservice.config.PaginationProperties;
 import com.nhn.cloud.photoservice.domain.album.Album;
 import com.nhn.cloud.photoservice.domain.audit.AuditAction;
 import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.domain.photo.PhotoSort;
 import com.nhn.cloud.photoservice.domain.user.User;
 import com.nhn.cloud.photoservice.dto.request.PhotoUpdateRequest;
 import com.nhn.cloud.photoservice.dto.request.PhotoUploadRequest;
+import com.nhn.cloud.photoservice.dto.response.BatchUploadResponse;
+import com.nhn.cloud.photoservice.dto.response.BulkOperationResponse;
+import com.nhn.cloud.photoservice.dto.response.CursorPageResponse;
 import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.event.PhotoChangedEvent;
 import com.nhn.cloud.photoservice.exception.CustomException;
 import com.nhn.cloud.photoservice.exception.ErrorCode;
 import com.nhn.cloud.photoservice.repository.AlbumRepository;
 import com.nhn.cloud.photoservice.repository.PhotoRepository;
 import com.nhn.cloud.photoservice.repository.UserRepository;
 import com.nhn.cloud.photoservice.util.ClientIpUtil;
+import com.nhn.cloud.photoservice.util.ImageMetadata;
+import com.nhn.cloud.photoservice.util.ImageMetadataReader;
+import com.nhn.cloud.photoservice.util.PageCursor;
+import com.nhn.cloud.photoservice.util.SearchTokenizer;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +60,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PhotoService {
 
+    private static final int AUDIT_MAX_IDS = 20;
+
     private final PhotoRepository photoRepository;
     private final UserRepository userRepository;
     private final AlbumRepository albumRepository;
@@ -40,6 +71,21 @@ public class PhotoService {
     private final Counter photoUploadFailureCounter;
     private final Timer photoUploadTimer;
     private final MeterRegistry meterRegistry;
+    private final PaginationProperties paginationProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCache userCache;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor taskExecutor;
+    private final AsyncTaskExecutor batchUploadExecutor;
+    private final PhotoBlobService photoBlobService;
+    private final PhotoSearchIndex photoSearchIndex;
+    private final Timer photoSearchTimer;
+
+    @Value("${photo-service.batch-upload.max-files:100}")
+    private int batchMaxFiles;
+
+    @Value("${photo-service.bulk.max-photos:1000}")
+    private int bulkMaxPhotos;
 
     /**
      * 사진 업로드
@@ -47,51 +93,44 @@ public class PhotoService {
     @Transactional
     public PhotoResponse uploadPhoto(Long userId, MultipartFile file, PhotoUploadRequest request) {
         return photoUploadTimer.record(() -> {
-            User user = getUserById(userId);
+            UserCache.CachedUser user = userCache.get(userId);
+            Album album = findUploadAlbum(userId, request);
+
+            try {
+                // 같은 내용이 이미 있으면 재사용, 없으면 Object Storage에 파일 업로드
+                String storageKey = storeFile(userId, file);
 
-            // 앨범 검증 (앨범이 지정된 경우)
-            Album album = null;
-            if (request.getAlbumId() != null) {
-                album = albumRepository.findByIdAndUser(request.getAlbumId(), user)
-                        .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
+                return savePhoto(user, album, file.getOriginalFilename(), storageKey,
+                        file.getContentType(), file.getSize(), readMetadata(file), request,
+                        ClientIpUtil.getClientIp());
+            } catch (Exception e) {
+                photoUploadFailureCounter.increment();
+                throw e;
             }
+        });
+    }
+
+    /**
+     * 사진 스트리밍 업로드
+     * 요청 본문을 임시 파일로 스풀하지 않고 Object Storage로 바로 전송한다.
+     */
+    @Transactional
+    public PhotoResponse uploadPhotoStream(Long userId, InputStream inputStream, String originalFilename,
+                                           String contentType, PhotoUploadRequest request) {
+        return photoUploadTimer.record(() -> {
+            UserCache.CachedUser user = userCache.get(userId);
+            Album album = findUploadAlbum(userId, request);
 
             try {
-                // Object Storage에 파일 업로드
-                String storageKey = objectStorageService.uploadFile(file, userId);
-
-                // Photo 엔티티 생성 및 저장
-                Photo photo = Photo.builder()
-                        .user(user)
-                        .album(album)
-                        .originalFilename(file.getOriginalFilename())
-                        .storageKey(storageKey)
-                        .contentType(file.getContentType())
-                        .fileSize(file.getSize())
-                        .title(request.getTitle())
-                        .description(request.getDescription())
-                        .build();
-
-                Photo savedPhoto = photoRepository.save(photo);
-                photoUploadSuccessCounter.increment();
-
-                // 파일 크기 메트릭 기록
-                meterRegistry.summary("photo_service.photo.upload.bytes").record(file.getSize());
-
-                // 감사 로그
-                String detail = String.format("file=%s, size=%d bytes, album=%s",
-                        file.getOriginalFilename(), file.getSize(),
-                        album != null ? album.getTitle() : "none");
-                auditLogService.log(userId, user.getEmail(),
-                        AuditAction.PHOTO_UPLOAD, "photo", savedPhoto.getId(),
-                        detail, ClientIpUtil.getClientIp());
-
-                log.info("Photo uploaded: {} by user: {} (size: {} bytes)", savedPhoto.getId(), userId, file.getSize());
-
-                // Pre-signed URL 생성
-                String downloadUrl = objectStorageService.generatePresignedUrl(storageKey);
-
-                return PhotoResponse.from(savedPhoto, downloadUrl);
+                UploadedObject uploaded = objectStorageService.uploadStream(
+                        inputStream, originalFilename, contentType, userId);
+                // 내용은 전송하면서야 알 수 있으므로, 같은 내용이 이미 있으면 방금 올린 객체 대신 기존 객체를 참조한다
+                String storageKey = photoBlobService.register(userId, uploaded.getContentHash(),
+                        uploaded.getStorageKey(), uploaded.getSize());
+
+                return savePhoto(user, album, originalFilename, storageKey,
+                        contentType, uploaded.getSize(), uploaded.getMetadata(), request,
+                        ClientIpUtil.getClientIp());
             } catch (Exception e) {
                 photoUploadFailureCounter.increment();
                 throw e;
@@ -100,68 +139,367 @@ public class PhotoService {
     }
 
     /**
-     * 내 사진 목록 조회
+     * 일괄 업로드
+     * 파일들을 제한된 병렬도로 Object Storage에 올린 뒤, 성공한 파일의 Photo 행을 한 트랜잭션에서 JDBC 배치로 저장한다.
+     * 사용자/앨범 조회와 감사 로그는 요청당 한 번이며, 파일별 성공/실패를 요청 순서대로 응답한다.
+     * 전송 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
      */
-    public List<PhotoResponse> getMyPhotos(Long userId) {
-        User user = getUserById(userId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchUploadResponse uploadPhotos(Long userId, List<MultipartFile> files, PhotoUploadRequest request) {
+        if (files.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "No files to upload");
+        }
+        if (files.size() > batchMaxFiles) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Too many files in one batch (max " + batchMaxFiles + ")");
+        }
+
+        UserCache.CachedUser user = userCache.get(userId);
+        Album album = findUploadAlbum(userId, request);
+        String clientIp = ClientIpUtil.getClientIp();
 
-        List<Photo> photos = photoRepository.findByUserOrderByCreatedAtDesc(user);
+        List<CompletableFuture<StoredFile>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(
+                        () -> new StoredFile(storeFile(userId, file), readMetadata(file)), batchUploadExecutor))
+                .toList();
+
+        BatchUploadResponse.Item[] results = new BatchUploadResponse.Item[files.size()];
+        List<Integer> uploadedIndexes = new ArrayList<>(files.size());
+        List<String> storageKeys = new ArrayList<>(files.size());
+        List<ImageMetadata> metadata = new ArrayList<>(files.size());
+
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                StoredFile stored = uploads.get(i).join();
+                storageKeys.add(stored.storageKey());
+                metadata.add(stored.metadata());
+                uploadedIndexes.add(i);
+            } catch (CompletionException e) {
+                photoUploadFailureCounter.increment();
+                results[i] = e.getCause() instanceof CustomException customException
+                        ? BatchUploadResponse.Item.failure(i, files.get(i).getOriginalFilename(),
+                        customException.getErrorCode().name(), customException.getMessage())
+                        : BatchUploadResponse.Item.failure(i, files.get(i).getOriginalFilename(),
+                        ErrorCode.FILE_UPLOAD_FAILED.name(), ErrorCode.FILE_UPLOAD_FAILED.getMessage());
+            }
+        }
 
-        return photos.stream()
-                .map(photo -> {
-                    String downloadUrl = objectStorageService.generatePresignedUrl(photo.getStorageKey());
-                    return PhotoResponse.from(photo, downloadUrl);
-                })
-                .collect(Collectors.toList());
+        if (!uploadedIndexes.isEmpty()) {
+            List<Photo> saved;
+            try {
+                saved = transactionTemplate.execute(status ->
+                        savePhotos(user, album, files, uploadedIndexes, storageKeys, metadata, request, clientIp));
+            } catch (RuntimeException e) {
+                photoBlobService.release(storageKeys);
+                throw e;
+            }
+
+            for (int i = 0; i < saved.size(); i++) {
+                int index = uploadedIndexes.get(i);
+                results[index] = BatchUploadResponse.Item.success(index, files.get(index).getOriginalFilename(),
+                        toResponse(saved.get(i)));
+            }
+        }
+
+        return BatchUploadResponse.of(List.of(results));
+    }
+
+    /**
+     * 업로드된 파일들의 Photo 행을 한 번에 저장 (시퀀스 ID이므로 flush 시 JDBC 배치 INSERT)
+     * 감사 로그는 묶음 단위 1건, 파생 이미지 생성을 위한 이벤트는 사진마다 발행한다.
+     */
+    private List<Photo> savePhotos(UserCache.CachedUser user, Album album, List<MultipartFile> files,
+                                   List<Integer> indexes, List<String> storageKeys, List<ImageMetadata> metadata,
+                                   PhotoUploadRequest request, String clientIp) {
+        User owner = userRepository.getReferenceById(user.getId());
+        Album albumRef = album != null ? albumRepository.getReferenceById(album.getId()) : null;
+
+        List<Photo> photos = new ArrayList<>(indexes.size());
+        long totalBytes = 0;
+        for (int i = 0; i < indexes.size(); i++) {
+            MultipartFile file = files.get(indexes.get(i));
+            photos.add(Photo.builder()
+                    .user(owner)
+                    .album(albumRef)
+                    .originalFilename(file.getOriginalFilename())
+                    .storageKey(storageKeys.get(i))
+                    .contentType(file.getContentType())
+                    .fileSize(file.getSize())
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .metadata(metadata.get(i))
+                    .build());
+            totalBytes += file.getSize();
+            meterRegistry.summary("photo_service.photo.upload.bytes").record(file.getSize());
+        }
+
+        List<Photo> saved = photoRepository.saveAll(photos);
+        photoUploadSuccessCounter.increment(saved.size());
+        addToAlbumStats(album != null ? album.getId() : null, saved);
+
+        String detail = String.format("files=%d, failed=%d, size=%d bytes, album=%s, ids=%d..%d",
+                saved.size(), files.size() - saved.size(), totalBytes,
+                album != null ? album.getTitle() : "none",
+                saved.get(0).getId(), saved.get(saved.size() - 1).getId());
+        auditLogService.log(user.getId(), user.getEmail(),
+                AuditAction.PHOTO_BATCH_UPLOAD, "photo", null, detail, clientIp);
+
+        log.info("Photos batch uploaded: {} of {} by user: {} ({} bytes)",
+                saved.size(), files.size(), user.getId(), totalBytes);
+
+        Long albumId = album != null ? album.getId() : null;
+        saved.forEach(photo -> eventPublisher.publishEvent(
+                PhotoChangedEvent.created(user.getId(), photo.getId(), albumId)));
+
+        return saved;
+    }
+
+    /**
+     * 이미 Object Storage에 올라간 객체를 사진으로 등록 (재개 가능 업로드 커밋)
+     */
+    @Transactional
+    public PhotoResponse registerUploadedPhoto(Long userId, String originalFilename, String storageKey,
+                                               String contentType, long fileSize, PhotoUploadRequest request) {
+        UserCache.CachedUser user = userCache.get(userId);
+        Album album = findUploadAlbum(userId, request);
+
+        // 서버가 내용을 보지 않은 객체: 메타데이터는 파생 이미지 생성 시 원본을 내려받으며 추출한다
+        return savePhoto(user, album, originalFilename, storageKey, contentType, fileSize, null, request,
+                ClientIpUtil.getClientIp());
     }
 
     /**
-     * 앨범별 사진 조회
+     * 비동기 사진 업로드
+     * 소유자/앨범 검증까지만 요청 스레드에서 수행하고, 업로드 완료 후 taskExecutor에서 별도 트랜잭션으로 저장한다.
+     * 같은 내용의 객체가 이미 있으면 전송 없이 바로 저장하고, 저장에 실패하면 객체 참조를 해제한다.
      */
-    public List<PhotoResponse> getPhotosByAlbum(Long userId, Long albumId) {
-        User user = getUserById(userId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<PhotoResponse> uploadPhotoAsync(Long userId, MultipartFile file,
+                                                             PhotoUploadRequest request) {
+        UserCache.CachedUser user = userCache.get(userId);
+        Album album = findUploadAlbum(userId, request);
+        String clientIp = ClientIpUtil.getClientIp();
+
+        Timer.Sample sample = Timer.start();
+        String contentHash = objectStorageService.contentHash(file);
+        ImageMetadata metadata = readMetadata(file);
+        String existingKey = photoBlobService.acquire(userId, contentHash);
+        CompletableFuture<String> stored = existingKey != null
+                ? CompletableFuture.completedFuture(existingKey)
+                : objectStorageService.uploadFileAsync(file, userId)
+                        .thenApplyAsync(storageKey -> photoBlobService.register(userId, contentHash, storageKey,
+                                file.getSize()), taskExecutor);
+
+        return stored
+                .thenApplyAsync(storageKey -> {
+                    try {
+                        return transactionTemplate.execute(status -> savePhoto(user, album,
+                                file.getOriginalFilename(), storageKey, file.getContentType(), file.getSize(),
+                                metadata, request, clientIp));
+                    } catch (RuntimeException e) {
+                        photoBlobService.release(List.of(storageKey));
+                        throw e;
+                    }
+                }, taskExecutor)
+                .whenComplete((response, e) -> {
+                    sample.stop(photoUploadTimer);
+                    if (e != null) {
+                        photoUploadFailureCounter.increment();
+                    }
+                });
+    }
 
-        Album album = albumRepository.findByIdAndUser(albumId, user)
+    /**
+     * 원본 저장 (사용자별 SHA-256 중복 제거)
+     * 같은 내용을 이미 올린 적이 있으면 PUT 없이 기존 객체의 참조를 늘리고, 없으면 업로드 후 등록한다.
+     * 반환된 키의 참조 하나를 호출한 쪽이 소유하며, 사진을 저장하지 못하면 release로 돌려놓는다.
+     */
+    private String storeFile(Long userId, MultipartFile file) {
+        String contentHash = objectStorageService.contentHash(file);
+        String storageKey = photoBlobService.acquire(userId, contentHash);
+        if (storageKey != null) {
+            return storageKey;
+        }
+        return photoBlobService.register(userId, contentHash,
+                objectStorageService.uploadFile(file, userId), file.getSize());
+    }
+
+    /**
+     * multipart 임시 파일의 헤더 메타데이터 (읽지 못하면 null: 파생 이미지 생성 시 다시 시도)
+     */
+    private ImageMetadata readMetadata(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ImageMetadataReader.read(inputStream);
+        } catch (IOException e) {
+            log.warn("Failed to read metadata of upload: {}", file.getOriginalFilename(), e);
+            return null;
+        }
+    }
+
+    private record StoredFile(String storageKey, ImageMetadata metadata) {
+    }
+
+    /**
+     * 앨범 검증 (앨범이 지정된 경우)
+     */
+    private Album findUploadAlbum(Long userId, PhotoUploadRequest request) {
+        if (request.getAlbumId() == null) {
+            return null;
+        }
+        return albumRepository.findByIdAndUserId(request.getAlbumId(), userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
+    }
+
+    /**
+     * 업로드된 객체로 Photo 엔티티를 저장하고 메트릭/감사 로그를 기록한다.
+     * 소유자는 프록시 참조로만 연결하여 users SELECT 없이 user_id를 채운다.
+     */
+    private PhotoResponse savePhoto(UserCache.CachedUser user, Album album, String originalFilename, String storageKey,
+                                    String contentType, long fileSize, ImageMetadata metadata,
+                                    PhotoUploadRequest request, String clientIp) {
+        // Photo 엔티티 생성 및 저장
+        Photo photo = Photo.builder()
+                .user(userRepository.getReferenceById(user.getId()))
+                .album(album)
+                .originalFilename(originalFilename)
+                .storageKey(storageKey)
+                .contentType(contentType)
+                .fileSize(fileSize)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .metadata(metadata)
+                .build();
+
+        Photo savedPhoto = photoRepository.save(photo);
+        photoUploadSuccessCounter.increment();
+        addToAlbumStats(album != null ? album.getId() : null, List.of(savedPhoto));
+
+        // 파일 크기 메트릭 기록
+        meterRegistry.summary("photo_service.photo.upload.bytes").record(fileSize);
+
+        // 감사 로그
+        String detail = String.format("file=%s, size=%d bytes, album=%s",
+                originalFilename, fileSize,
+                album != null ? album.getTitle() : "none");
+        auditLogService.log(user.getId(), user.getEmail(),
+                AuditAction.PHOTO_UPLOAD, "photo", savedPhoto.getId(),
+                detail, clientIp);
+
+        log.info("Photo uploaded: {} by user: {} (size: {} bytes)", savedPhoto.getId(), user.getId(), fileSize);
+
+        // 썸네일/미리보기 생성 (커밋 후 백그라운드)
+        eventPublisher.publishEvent(PhotoChangedEvent.created(
+                user.getId(), savedPhoto.getId(), album != null ? album.getId() : null));
+
+        return toResponse(savedPhoto);
+    }
+
+    /**
+     * 내 사진 목록 조회 (커서 기반 페이지네이션, 업로드순 또는 촬영일순)
+     */
+    public CursorPageResponse<PhotoResponse> getMyPhotos(Long userId, String cursor, Integer size, PhotoSort sort) {
+        userCache.recordSavedQuery();
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = paginationProperties.resolveSize(size);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<Photo> photos = sort == PhotoSort.TAKEN
+                ? photoRepository.findPageByUserIdOrderByTakenAt(
+                        userId, pageCursor.getCreatedAt(), pageCursor.getId(), page)
+                : photoRepository.findPageByUserId(
+                        userId, pageCursor.getCreatedAt(), pageCursor.getId(), page);
+
+        return toPhotoPage(photos, pageSize, sort);
+    }
+
+    /**
+     * 앨범별 사진 조회 (커서 기반 페이지네이션)
+     */
+    public CursorPageResponse<PhotoResponse> getPhotosByAlbum(Long userId, Long albumId, String cursor, Integer size,
+                                                              PhotoSort sort) {
+        userCache.recordSavedQuery();
+
+        Album album = albumRepository.findByIdAndUserId(albumId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
 
-        List<Photo> photos = photoRepository.findByAlbumOrderByCreatedAtDesc(album);
+        return getPhotoPageByAlbum(album.getId(), cursor, size, sort);
+    }
+
+    /**
+     * 앨범에 속하지 않은 사진 조회 (커서 기반 페이지네이션)
+     */
+    public CursorPageResponse<PhotoResponse> getPhotosWithoutAlbum(Long userId, String cursor, Integer size) {
+        userCache.recordSavedQuery();
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = paginationProperties.resolveSize(size);
+
+        List<Photo> photos = photoRepository.findPageByUserIdAndAlbumIsNull(
+                userId, pageCursor.getCreatedAt(), pageCursor.getId(), PageRequest.of(0, pageSize + 1));
 
-        return photos.stream()
-                .map(photo -> {
-                    String downloadUrl = objectStorageService.generatePresignedUrl(photo.getStorageKey());
-                    return PhotoResponse.from(photo, downloadUrl);
-                })
-                .collect(Collectors.toList());
+        return toPhotoPage(photos, pageSize, PhotoSort.CREATED);
     }
 
     /**
-     * 앨범에 속하지 않은 사진 조회
+     * 사진 검색 (제목/설명, 소속 앨범 제목/설명의 단어 접두사 일치, 최신순)
+     * 후보는 인메모리 색인에서 고르고 행은 DB에서 다시 읽으므로, 다른 노드에서 삭제된 사진은 빠지고 색인에서도 지운다.
+     * 검색 커서는 id만 사용한다.
      */
-    public List<PhotoResponse> getPhotosWithoutAlbum(Long userId) {
-        User user = getUserById(userId);
+    public CursorPageResponse<PhotoResponse> searchPhotos(Long userId, String query, String cursor, Integer size) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Search query must contain a word");
+        }
+
+        return photoSearchTimer.record(() -> {
+            userCache.recordSavedQuery();
+            Long beforeId = PageCursor.decodeId(cursor);
+            int pageSize = paginationProperties.resolveSize(size);
+
+            List<Long> candidates = photoSearchIndex.search(userId, terms, beforeId, pageSize + 1);
+            boolean hasNext = candidates.size() > pageSize;
+            List<Long> pageIds = hasNext ? candidates.subList(0, pageSize) : candidates;
+
+            Map<Long, Photo> rows = pageIds.isEmpty() ? Map.of()
+                    : photoRepository.findByIdInAndUserId(pageIds, userId).stream()
+                            .collect(Collectors.toMap(Photo::getId, photo -> photo));
+
+            List<PhotoResponse> content = new ArrayList<>(rows.size());
+            for (Long photoId : pageIds) {
+                Photo photo = rows.get(photoId);
+                if (photo == null) {
+                    photoSearchIndex.removePhoto(userId, photoId);
+                } else {
+                    content.add(toResponse(photo));
+                }
+            }
 
-        List<Photo> photos = photoRepository.findByUserAndAlbumIsNullOrderByCreatedAtDesc(user);
+            String nextCursor = hasNext ? PageCursor.encodeId(pageIds.get(pageIds.size() - 1)) : null;
+            return new CursorPageResponse<>(content, nextCursor, hasNext);
+        });
+    }
 
-        return photos.stream()
-                .map(photo -> {
-                    String downloadUrl = objectStorageService.generatePresignedUrl(photo.getStorageKey());
-                    return PhotoResponse.from(photo, downloadUrl);
-                })
-                .collect(Collectors.toList());
+    /**
+     * ID로 지정한 내 사진 (없는 ID는 빠진다, 동기화 응답용)
+     */
+    public List<PhotoResponse> getPhotosByIds(Long userId, Collection<Long> photoIds) {
+        if (photoIds.isEmpty()) {
+            return List.of();
+        }
+        return photoRepository.findByIdInAndUserId(photoIds, userId).stream()
+                .map(this::toResponse)
+                .toList();
     }
 
     /**
      * 사진 상세 조회
      */
     public PhotoResponse getPhoto(Long userId, Long photoId) {
-        User user = getUserById(userId);
+        userCache.recordSavedQuery();
 
-        Photo photo = photoRepository.findByIdAndUser(photoId, user)
+        Photo photo = photoRepository.findByIdAndUserId(photoId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PHOTO_NOT_FOUND));
 
-        String downloadUrl = objectStorageService.generatePresignedUrl(photo.getStorageKey());
-
-        return PhotoResponse.from(photo, downloadUrl);
+        return toResponse(photo);
     }
 
     /**
@@ -169,14 +507,16 @@ public class PhotoService {
      */
     @Transactional
     public PhotoResponse updatePhoto(Long userId, Long photoId, PhotoUpdateRequest request) {
-        User user = getUserById(userId);
+        userCache.recordSavedQuery();
 
-        Photo photo = photoRepository.findByIdAndUser(photoId, user)
+        Photo photo = photoRepository.findByIdAndUserId(photoId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PHOTO_NOT_FOUND));
 
+        Long previousAlbumId = photo.getAlbum() != null ? photo.getAlbum().getId() : null;
+
         // 앨범 변경 (지정된 경우)
         if (request.getAlbumId() != null) {
-            Album album = albumRepository.findByIdAndUser(request.getAlbumId(), user)
+            Album album = albumRepository.findByIdAndUserId(request.getAlbumId(), userId)
                     .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
             photo.moveToAlbum(album);
         }
@@ -184,50 +524,331 @@ public class PhotoService {
         // 사진 정보 업데이트
         photo.updateInfo(request.getTitle(), request.getDescription());
 
+        Long albumId = photo.getAlbum() != null ? photo.getAlbum().getId() : null;
+        if (!Objects.equals(previousAlbumId, albumId)) {
+            removeFromAlbumStats(previousAlbumId, List.of(photo));
+            addToAlbumStats(albumId, List.of(photo));
+        }
+
         log.info("Photo updated: {} by user: {}", photoId, userId);
 
-        String downloadUrl = objectStorageService.generatePresignedUrl(photo.getStorageKey());
+        eventPublisher.publishEvent(PhotoChangedEvent.updated(userId, photoId, albumId, previousAlbumId));
 
-        return PhotoResponse.from(photo, downloadUrl);
+        return toResponse(photo);
     }
 
     /**
      * 사진 삭제
+     * 객체 삭제는 같은 트랜잭션의 아웃박스에 예약하고 커밋 후 StorageDeletionDispatcher가 처리한다.
+     * 같은 원본을 참조하는 다른 사진(중복 업로드)이 남아 있으면 객체는 유지한다.
      */
     @Transactional
     public void deletePhoto(Long userId, Long photoId) {
-        User user = getUserById(userId);
+        UserCache.CachedUser user = userCache.get(userId);
 
-        Photo photo = photoRepository.findByIdAndUser(photoId, user)
+        Photo photo = photoRepository.findByIdAndUserId(photoId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PHOTO_NOT_FOUND));
 
-        // 감사 로그 (삭제 전 정보 기록)
-        String detail = String.format("file=%s, size=%d bytes", photo.getOriginalFilename(), photo.getFileSize());
-        auditLogService.log(userId, user.getEmail(),
-                AuditAction.PHOTO_DELETE, "photo", photoId,
-                detail, ClientIpUtil.getClientIp());
+        // 원본과 파생 이미지 삭제 예약 (같은 내용을 참조하는 다른 사진이 없을 때만)
+        photoBlobService.release(List.of(photo.getStorageKey()));
+
+        removePhoto(user, photo, ClientIpUtil.getClientIp());
+    }
+
+    /**
+     * 원본 객체가 없는 사진 행 삭제 (StorageReconcileJob 복구 모드)
+     * 남아 있을 수 있는 파생 이미지는 참조를 해제하며 아웃박스로 삭제를 예약한다.
+     */
+    @Transactional
+    public void removeDanglingPhoto(Long photoId) {
+        Photo photo = photoRepository.findById(photoId).orElse(null);
+        if (photo == null) {
+            return;
+        }
+
+        photoBlobService.release(List.of(photo.getStorageKey()));
+        photoRepository.delete(photo);
+        removeFromAlbumStats(List.of(photo));
 
-        // Object Storage에서 파일 삭제
-        objectStorageService.deleteFile(photo.getStorageKey());
+        log.warn("Dangling photo removed: {} (missing object: {})", photoId, photo.getStorageKey());
+
+        eventPublisher.publishEvent(PhotoChangedEvent.deleted(photo.getUser().getId(), photo.getId(),
+                photo.getAlbum() != null ? photo.getAlbum().getId() : null));
+    }
+
+    /**
+     * DB 행 삭제와 감사 로그/이벤트 기록 (객체 삭제 이후 호출)
+     */
+    private void removePhoto(UserCache.CachedUser user, Photo photo, String clientIp) {
+        String detail = String.format("file=%s, size=%d bytes", photo.getOriginalFilename(), photo.getFileSize());
+        auditLogService.log(user.getId(), user.getEmail(),
+                AuditAction.PHOTO_DELETE, "photo", photo.getId(),
+                detail, clientIp);
 
-        // DB에서 삭제
         photoRepository.delete(photo);
+        removeFromAlbumStats(List.of(photo));
 
-        log.info("Photo deleted: {} by user: {}", photoId, userId);
+        log.info("Photo deleted: {} by user: {}", photo.getId(), user.getId());
+
+        eventPublisher.publishEvent(PhotoChangedEvent.deleted(user.getId(), photo.getId(),
+                photo.getAlbum() != null ? photo.getAlbum().getId() : null));
     }
 
     /**
-     * 사용자 조회 헬퍼 메서드
+     * 사진 일괄 삭제
+     * 행은 단일 DELETE 문으로 지우고, 참조가 남지 않은 객체는 아웃박스에 예약하여 디스패처가 DeleteObjects로 최대 1000개씩 묶어 지운다.
+     * 없는 사진은 사진별 실패로 응답한다.
      */
-    private User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    @Transactional
+    public BulkOperationResponse deletePhotos(Long userId, List<Long> photoIds) {
+        Set<Long> ids = validateBulkIds(photoIds);
+        UserCache.CachedUser user = userCache.get(userId);
+
+        List<Photo> photos = photoRepository.findForUpdateByIdInAndUserId(ids, userId);
+        List<BulkOperationResponse.Failure> failures = notFoundFailures(ids, photos);
+
+        if (!photos.isEmpty()) {
+            photoBlobService.release(photos.stream().map(Photo::getStorageKey).toList());
+            removePhotos(user, photos, ClientIpUtil.getClientIp());
+        }
+
+        return BulkOperationResponse.of(ids.size(), photos.stream().map(Photo::getId).toList(), failures);
     }
 
-    public List<Photo> getPhotosByAlbumId(Long albumId) {
-        Album album = albumRepository.findById(albumId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
+    /**
+     * 앨범에 속한 사진 전체 삭제 (앨범 삭제와 같은 트랜잭션에서 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int deleteAlbumPhotos(UserCache.CachedUser user, Long albumId, String clientIp) {
+        List<Photo> photos = photoRepository.findForUpdateByAlbumId(albumId);
+        if (photos.isEmpty()) {
+            return 0;
+        }
+
+        photoBlobService.release(photos.stream().map(Photo::getStorageKey).toList());
+        removePhotos(user, photos, clientIp);
+        return photos.size();
+    }
+
+    /**
+     * 앨범에 속한 사진을 앨범에서 제외 (사진은 남기는 앨범 삭제와 같은 트랜잭션에서 호출)
+     * FK의 ON DELETE SET NULL에 맡기면 변경 피드에 남지 않으므로 직접 옮기고 사진별 이벤트를 발행한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int detachAlbumPhotos(Long userId, Long albumId) {
+        List<Long> ids = photoRepository.findForUpdateByAlbumId(albumId).stream().map(Photo::getId).toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int detached = photoRepository.moveAllToAlbum(ids, userId, null, LocalDateTime.now());
+        ids.forEach(id -> eventPublisher.publishEvent(PhotoChangedEvent.updated(userId, id, null, albumId)));
+        return detached;
+    }
+
+    /**
+     * 여러 사진의 DB 행을 단일 DELETE 문으로 삭제하고 감사 로그(묶음 단위 1건)/이벤트(사진별)를 기록한다.
+     */
+    private void removePhotos(UserCache.CachedUser user, List<Photo> photos, String clientIp) {
+        List<Long> ids = photos.stream().map(Photo::getId).toList();
+        int deleted = photoRepository.deleteAllByIdInAndUserId(ids, user.getId());
+        if (deleted == photos.size()) {
+            removeFromAlbumStats(photos);
+        } else {
+            log.warn("Bulk delete removed {} of {} locked photos, recalculating album stats", deleted, photos.size());
+            recalculateAlbumStats(photos.stream().map(this::albumIdOf).toList());
+        }
+
+        long totalBytes = photos.stream().mapToLong(Photo::getFileSize).sum();
+        String detail = String.format("photos=%d, size=%d bytes, ids=%s",
+                deleted, totalBytes, abbreviateIds(ids));
+        auditLogService.log(user.getId(), user.getEmail(),
+                AuditAction.PHOTO_BULK_DELETE, "photo", null, detail, clientIp);
+
+        log.info("Photos deleted in bulk: {} by user: {} ({} bytes)", deleted, user.getId(), totalBytes);
+
+        photos.forEach(photo -> eventPublisher.publishEvent(PhotoChangedEvent.deleted(user.getId(), photo.getId(),
+                photo.getAlbum() != null ? photo.getAlbum().getId() : null)));
+    }
+
+    /**
+     * 사진 일괄 이동
+     * 대상 앨범 소유를 확인한 뒤 단일 UPDATE 문으로 옮긴다 (albumId가 null이면 앨범에서 제외).
+     * 이전 앨범의 집계/캐시 무효화를 위해 대상 행만 한 번 잠금 조회한다.
+     */
+    @Transactional
+    public BulkOperationResponse movePhotos(Long userId, List<Long> photoIds, Long albumId) {
+        Set<Long> ids = validateBulkIds(photoIds);
+        userCache.recordSavedQuery();
+
+        Album album = albumId != null
+                ? albumRepository.findByIdAndUserId(albumId, userId)
+                        .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND))
+                : null;
+
+        List<Photo> photos = photoRepository.findForUpdateByIdInAndUserId(ids, userId);
+        List<BulkOperationResponse.Failure> failures = notFoundFailures(ids, photos);
+        List<Long> movedIds = photos.stream().map(Photo::getId).toList();
+
+        if (!movedIds.isEmpty()) {
+            int moved = photoRepository.moveAllToAlbum(movedIds, userId, album, LocalDateTime.now());
+
+            // 이미 대상 앨범에 있던 사진은 집계에 영향이 없다 (조회한 엔티티는 이동 전 앨범을 가리킴)
+            List<Photo> changed = photos.stream()
+                    .filter(photo -> !Objects.equals(photo.getAlbum() != null ? photo.getAlbum().getId() : null, albumId))
+                    .toList();
+            if (moved == photos.size()) {
+                removeFromAlbumStats(changed);
+                addToAlbumStats(albumId, changed);
+            } else {
+                log.warn("Bulk move updated {} of {} locked photos, recalculating album stats", moved, photos.size());
+                List<Long> albumIds = new ArrayList<>(changed.stream().map(this::albumIdOf).toList());
+                albumIds.add(albumId);
+                recalculateAlbumStats(albumIds);
+            }
+
+            log.info("Photos moved in bulk: {} to album: {} by user: {}", moved, albumId, userId);
+
+            for (Photo photo : photos) {
+                eventPublisher.publishEvent(PhotoChangedEvent.updated(userId, photo.getId(), albumId,
+                        photo.getAlbum() != null ? photo.getAlbum().getId() : null));
+            }
+        }
+
+        return BulkOperationResponse.of(ids.size(), movedIds, failures);
+    }
+
+    /**
+     * 앨범 집계에 사진 추가 반영 (사진 엔티티 저장 이후 호출)
+     * 커버는 가장 최근(ID가 가장 큰) 사진이다.
+     */
+    private void addToAlbumStats(Long albumId, List<Photo> photos) {
+        if (albumId == null || photos.isEmpty()) {
+            return;
+        }
+        Photo latest = photos.stream().max(Comparator.comparing(Photo::getId)).orElseThrow();
+        albumRepository.addPhotos(albumId, photos.size(), photos.stream().mapToLong(Photo::getFileSize).sum(),
+                latest.getId(), latest.getCreatedAt());
+    }
+
+    /**
+     * 앨범 집계에서 사진 제외 반영 (사진의 현재 앨범 기준으로 묶어서)
+     */
+    private void removeFromAlbumStats(List<Photo> photos) {
+        Map<Long, List<Photo>> byAlbum = photos.stream()
+                .filter(photo -> photo.getAlbum() != null)
+                .collect(Collectors.groupingBy(photo -> photo.getAlbum().getId()));
+        byAlbum.forEach(this::removeFromAlbumStats);
+    }
+
+    private void removeFromAlbumStats(Long albumId, List<Photo> photos) {
+        if (albumId == null || photos.isEmpty()) {
+            return;
+        }
+        // 커버 재계산 서브쿼리가 삭제/이동 전 행을 보지 않도록 보류 중인 변경을 먼저 반영
+        photoRepository.flush();
+        albumRepository.removePhotos(albumId, photos.size(), photos.stream().mapToLong(Photo::getFileSize).sum());
+        albumRepository.refreshCover(albumId, photos.stream().map(Photo::getId).toList());
+    }
+
+    /**
+     * 사진 행에서 앨범 집계 재계산 (변경 행 수가 잠금 조회 결과와 어긋나 증감을 신뢰할 수 없을 때)
+     */
+    private void recalculateAlbumStats(Collection<Long> albumIds) {
+        photoRepository.flush();
+        albumIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(albumRepository::recalculateStats);
+    }
+
+    private Long albumIdOf(Photo photo) {
+        return photo.getAlbum() != null ? photo.getAlbum().getId() : null;
+    }
+
+    /**
+     * 중복을 제거하고 (요청 순서 유지) 최대 개수를 확인한다.
+     */
+    private Set<Long> validateBulkIds(List<Long> photoIds) {
+        Set<Long> ids = new LinkedHashSet<>(photoIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "No photos specified");
+        }
+        if (ids.size() > bulkMaxPhotos) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Too many photos in one request (max " + bulkMaxPhotos + ")");
+        }
+        return ids;
+    }
+
+    private List<BulkOperationResponse.Failure> notFoundFailures(Set<Long> ids, List<Photo> found) {
+        Set<Long> foundIds = new HashSet<>();
+        found.forEach(photo -> foundIds.add(photo.getId()));
+
+        List<BulkOperationResponse.Failure> failures = new ArrayList<>();
+        for (Long id : ids) {
+            if (!foundIds.contains(id)) {
+                failures.add(new BulkOperationResponse.Failure(id,
+                        ErrorCode.PHOTO_NOT_FOUND.name(), ErrorCode.PHOTO_NOT_FOUND.getMessage()));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 감사 로그 상세에 넣을 ID 목록 (앞부분만)
+     */
+    private static String abbreviateIds(List<Long> ids) {
+        if (ids.size() <= AUDIT_MAX_IDS) {
+            return ids.toString();
+        }
+        return ids.subList(0, AUDIT_MAX_IDS) + "+" + (ids.size() - AUDIT_MAX_IDS);
+    }
+
+    /**
+     * 공유 앨범 사진 조회 (로그인 불필요, 커서 기반 페이지네이션)
+     */
+    public CursorPageResponse<PhotoResponse> getSharedAlbumPhotos(Long albumId, String cursor, Integer size) {
+        return getPhotoPageByAlbum(albumId, cursor, size, PhotoSort.CREATED);
+    }
+
+    private CursorPageResponse<PhotoResponse> getPhotoPageByAlbum(Long albumId, String cursor, Integer size,
+                                                                  PhotoSort sort) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = paginationProperties.resolveSize(size);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<Photo> photos = sort == PhotoSort.TAKEN
+                ? photoRepository.findPageByAlbumIdOrderByTakenAt(
+                        albumId, pageCursor.getCreatedAt(), pageCursor.getId(), page)
+                : photoRepository.findPageByAlbumId(
+                        albumId, pageCursor.getCreatedAt(), pageCursor.getId(), page);
+
+        return toPhotoPage(photos, pageSize, sort);
+    }
+
+    /**
+     * 커서는 정렬 키와 같은 (시각, id) 쌍으로 만든다
+     */
+    private CursorPageResponse<PhotoResponse> toPhotoPage(List<Photo> photos, int pageSize, PhotoSort sort) {
+        return CursorPageResponse.of(photos, pageSize,
+                photo -> PageCursor.of(sort == PhotoSort.TAKEN ? photo.getTakenAt() : photo.getCreatedAt(),
+                        photo.getId()),
+                this::toResponse);
+    }
+
+    /**
+     * Pre-signed URL을 붙여 응답으로 변환 (파생 이미지가 아직 없으면 해당 URL은 null)
+     */
+    private PhotoResponse toResponse(Photo photo) {
+        return PhotoResponse.from(photo,
+                objectStorageService.generatePresignedUrl(photo.getStorageKey()),
+                presignIfPresent(photo.getThumbnailKey()),
+                presignIfPresent(photo.getPreviewKey()));
+    }
 
-        return photoRepository.findByAlbumOrderByCreatedAtDesc(album);
+    private String presignIfPresent(String storageKey) {
+        return storageKey != null ? objectStorageService.generatePresignedUrl(storageKey) : null;
     }
-}
\ No newline at end of file
+}
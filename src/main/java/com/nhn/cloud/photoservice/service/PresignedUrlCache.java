@@ -0,0 +1,72 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Storage Key 단위 Pre-signed URL 캐시.
+ * 목록 조회마다 사진 수만큼 서명을 반복하지 않도록, 한 번 서명한 URL을 TTL 동안 재사용한다.
+ * TTL은 URL 만료 시간의 절반을 넘지 않도록 제한하여, 캐시에서 꺼낸 URL이 항상 충분한 유효 시간을 갖게 한다.
+ */
+@Slf4j
+@Component
+public class PresignedUrlCache {
+
+    private final Cache<String, String> cache;
+    private final Counter presignedUrlCacheHitCounter;
+    private final Counter presignedUrlCacheMissCounter;
+
+    public PresignedUrlCache(
+            @Value("${cloud.nhn.object-storage.presigned-url-expiration}") long presignedUrlExpiration,
+            @Value("${cloud.nhn.object-storage.presigned-url-cache.ttl:1800}") long ttlSeconds,
+            @Value("${cloud.nhn.object-storage.presigned-url-cache.max-size:100000}") long maxSize,
+            Counter presignedUrlCacheHitCounter,
+            Counter presignedUrlCacheMissCounter,
+            Counter presignedUrlCacheEvictionCounter) {
+        this.presignedUrlCacheHitCounter = presignedUrlCacheHitCounter;
+        this.presignedUrlCacheMissCounter = presignedUrlCacheMissCounter;
+
+        long maxTtl = presignedUrlExpiration / 2;
+        if (ttlSeconds > maxTtl) {
+            log.warn("Presigned URL cache TTL {}s exceeds half of URL expiration {}s, clamping to {}s",
+                    ttlSeconds, presignedUrlExpiration, maxTtl);
+            ttlSeconds = maxTtl;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .evictionListener((String key, String url, RemovalCause cause) ->
+                        presignedUrlCacheEvictionCounter.increment())
+                .build();
+    }
+
+    /**
+     * 캐시된 URL을 반환하고, 없으면 signer로 서명하여 저장한다.
+     */
+    public String get(String storageKey, Function<String, String> signer) {
+        String cached = cache.getIfPresent(storageKey);
+        if (cached != null) {
+            presignedUrlCacheHitCounter.increment();
+            return cached;
+        }
+
+        presignedUrlCacheMissCounter.increment();
+        return cache.get(storageKey, signer);
+    }
+
+    /**
+     * 객체 삭제 시 캐시에서 제거
+     */
+    public void invalidate(String storageKey) {
+        cache.invalidate(storageKey);
+    }
+}
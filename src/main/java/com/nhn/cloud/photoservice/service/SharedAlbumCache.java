@@ -0,0 +1,199 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.nhn.cloud.photoservice.config.PaginationProperties;
+import com.nhn.cloud.photoservice.domain.album.Album;
+import com.nhn.cloud.photoservice.dto.response.AlbumResponse;
+import com.nhn.cloud.photoservice.event.AlbumChangedEvent;
+import com.nhn.cloud.photoservice.event.PhotoChangedEvent;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.repository.AlbumRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공유 앨범 응답 스냅샷 캐시 (키: 공유 토큰).
+ * 앨범 정보와 사진 페이지를 직렬화된 JSON 바이트와 강한 ETag로 보관하여,
+ * 반복 조회 시 DB 조회, URL 서명, 직렬화를 모두 생략하고 If-None-Match에는 304로 응답할 수 있게 한다.
+ * 앨범/사진 변경은 커밋 후 이벤트로 해당 앨범의 스냅샷 전체를 제거한다.
+ * TTL은 스냅샷에 담긴 Pre-signed URL이 만료되기 전에 교체되도록 짧게 유지한다.
+ */
+@Component
+public class SharedAlbumCache {
+
+    private final Cache<String, Snapshot> cache;
+    private final Map<Long, String> tokenByAlbumId = new ConcurrentHashMap<>();
+    // 앨범별 마지막 무효화 순번 (적재 중에 들어온 무효화를 놓치지 않도록, 스냅샷 TTL 동안만 보관)
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Cache<Long, Long> invalidatedAt;
+    private final AlbumRepository albumRepository;
+    private final PhotoService photoService;
+    private final PaginationProperties paginationProperties;
+    private final ObjectMapper objectMapper;
+    private final Counter sharedAlbumCacheHitCounter;
+    private final Counter sharedAlbumCacheMissCounter;
+    private final int maxPagesPerAlbum;
+
+    public SharedAlbumCache(AlbumRepository albumRepository,
+                            PhotoService photoService,
+                            PaginationProperties paginationProperties,
+                            ObjectMapper objectMapper,
+                            Counter sharedAlbumCacheHitCounter,
+                            Counter sharedAlbumCacheMissCounter,
+                            @Value("${photo-service.shared-album-cache.ttl:300}") long ttlSeconds,
+                            @Value("${photo-service.shared-album-cache.max-size:10000}") long maxSize,
+                            @Value("${photo-service.shared-album-cache.max-pages:20}") int maxPagesPerAlbum) {
+        this.albumRepository = albumRepository;
+        this.photoService = photoService;
+        this.paginationProperties = paginationProperties;
+        this.objectMapper = objectMapper;
+        this.sharedAlbumCacheHitCounter = sharedAlbumCacheHitCounter;
+        this.sharedAlbumCacheMissCounter = sharedAlbumCacheMissCounter;
+        this.maxPagesPerAlbum = maxPagesPerAlbum;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                // 크기/TTL로 빠진 스냅샷의 역색인 정리 (같은 키 잠금 안에서 실행되므로 재적재와 경합하지 않는다)
+                .evictionListener((String token, Snapshot snapshot, RemovalCause cause) -> {
+                    if (snapshot != null) {
+                        tokenByAlbumId.remove(snapshot.albumId, token);
+                    }
+                })
+                .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 공유 앨범 정보 응답
+     */
+    public CachedResponse getAlbum(String shareToken) {
+        Snapshot snapshot = cache.getIfPresent(shareToken);
+        if (snapshot != null) {
+            sharedAlbumCacheHitCounter.increment();
+            return snapshot.album;
+        }
+
+        sharedAlbumCacheMissCounter.increment();
+        return cache.get(shareToken, this::load).album;
+    }
+
+    /**
+     * 공유 앨범 사진 페이지 응답
+     */
+    public CachedResponse getPhotos(String shareToken, String cursor, Integer size) {
+        Snapshot snapshot = cache.get(shareToken, this::load);
+        int pageSize = paginationProperties.resolveSize(size);
+        String pageKey = (cursor != null ? cursor : "") + "|" + pageSize;
+
+        CachedResponse page = snapshot.pages.get(pageKey);
+        if (page != null) {
+            sharedAlbumCacheHitCounter.increment();
+            return page;
+        }
+
+        sharedAlbumCacheMissCounter.increment();
+        page = serialize(photoService.getSharedAlbumPhotos(snapshot.albumId, cursor, pageSize));
+        // 스냅샷이 이미 무효화되었다면 여기 저장된 페이지는 스냅샷과 함께 버려진다
+        if (snapshot.pages.size() < maxPagesPerAlbum) {
+            snapshot.pages.putIfAbsent(pageKey, page);
+        }
+        return page;
+    }
+
+    /**
+     * 앨범의 스냅샷 제거 (공유 중이 아니거나 캐시에 없으면 무시)
+     */
+    public void evictAlbum(Long albumId) {
+        if (albumId == null) {
+            return;
+        }
+        // 역색인보다 먼저 순번을 올려, 아직 역색인에 등록되지 않은 적재도 무효화를 알아챌 수 있게 한다
+        invalidatedAt.put(albumId, invalidations.incrementAndGet());
+        String shareToken = tokenByAlbumId.remove(albumId);
+        if (shareToken != null) {
+            cache.invalidate(shareToken);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlbumChanged(AlbumChangedEvent event) {
+        evictAlbum(event.getAlbumId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPhotoChanged(PhotoChangedEvent event) {
+        evictAlbum(event.getAlbumId());
+        evictAlbum(event.getPreviousAlbumId());
+    }
+
+    /**
+     * 스냅샷 적재
+     * 조회 후 역색인에 등록하기 전에 커밋된 변경의 무효화는 역색인으로 찾을 수 없으므로, 조회 전 순번과 비교하여
+     * 그 사이에 무효화되었으면 등록 이후에 다시 읽는다. (등록 이후의 무효화는 같은 키의 적재가 끝난 뒤 스냅샷을 지운다)
+     */
+    private Snapshot load(String shareToken) {
+        long readAt = invalidations.get();
+        Album album = findSharedAlbum(shareToken);
+        tokenByAlbumId.put(album.getId(), shareToken);
+
+        Long invalidated = invalidatedAt.getIfPresent(album.getId());
+        if (invalidated != null && invalidated > readAt) {
+            album = findSharedAlbum(shareToken);
+        }
+        return new Snapshot(album.getId(), serialize(AlbumResponse.from(album)), new ConcurrentHashMap<>());
+    }
+
+    private Album findSharedAlbum(String shareToken) {
+        Album album = albumRepository.findByShareToken(shareToken)
+                .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
+
+        if (!album.getIsShared()) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "Album is not shared");
+        }
+        return album;
+    }
+
+    private CachedResponse serialize(Object response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return new CachedResponse(body, "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "Failed to serialize shared album");
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedResponse {
+        private final byte[] body;
+        private final String etag;
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final Long albumId;
+        private final CachedResponse album;
+        private final Map<String, CachedResponse> pages;
+    }
+}
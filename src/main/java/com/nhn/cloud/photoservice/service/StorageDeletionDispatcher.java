@@ -0,0 +1,118 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.storage.StorageDeletion;
+import com.nhn.cloud.photoservice.repository.StorageDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 객체 삭제 아웃박스 처리 작업.
+ * 짧은 트랜잭션으로 차례가 된 행을 SKIP LOCKED로 가져가 임대를 걸고, 트랜잭션 밖에서 DeleteObjects로 묶어 지운 뒤
+ * 성공한 행은 삭제하고 실패한 행은 지수 백오프로 다시 예약한다. 여러 인스턴스가 동시에 실행해도 행이 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "photo-service.storage-deletions.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class StorageDeletionDispatcher {
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final ObjectStorageService objectStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter storageDeletionDeletedCounter;
+    private final Counter storageDeletionRetriedCounter;
+
+    @Value("${photo-service.storage-deletions.dispatcher.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${photo-service.storage-deletions.dispatcher.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${photo-service.storage-deletions.dispatcher.initial-backoff-ms:5000}")
+    private long initialBackoffMillis;
+
+    @Value("${photo-service.storage-deletions.dispatcher.max-backoff-ms:3600000}")
+    private long maxBackoffMillis;
+
+    /**
+     * 쌓인 행이 배치 크기보다 적어질 때까지 연속으로 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${photo-service.storage-deletions.dispatcher.interval-ms:2000}")
+    public void dispatch() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+    }
+
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StorageDeletion> claimed = transactionTemplate.execute(status -> {
+            List<StorageDeletion> due = storageDeletionRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            due.forEach(deletion -> deletion.claim(now.plusSeconds(leaseSeconds)));
+            return due;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, String> failedKeys = objectStorageService.deleteFiles(
+                claimed.stream().map(StorageDeletion::getStorageKey).toList());
+
+        List<Long> deletedIds = new ArrayList<>(claimed.size());
+        List<StorageDeletion> failed = new ArrayList<>();
+        for (StorageDeletion deletion : claimed) {
+            if (failedKeys.containsKey(deletion.getStorageKey())) {
+                failed.add(deletion);
+            } else {
+                deletedIds.add(deletion.getId());
+            }
+        }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deletedIds.isEmpty()) {
+                storageDeletionRepository.deleteAllByIdIn(deletedIds);
+            }
+            for (StorageDeletion deletion : failed) {
+                storageDeletionRepository.scheduleRetry(deletion.getId(),
+                        finishedAt.plusNanos(backoffMillis(deletion.getAttempts()) * 1_000_000),
+                        truncate(failedKeys.get(deletion.getStorageKey())));
+            }
+        });
+
+        storageDeletionDeletedCounter.increment(deletedIds.size());
+        storageDeletionRetriedCounter.increment(failed.size());
+        if (!failed.isEmpty()) {
+            log.warn("Storage deletions failed and rescheduled: {} of {} (max attempts so far: {})",
+                    failed.size(), claimed.size(),
+                    failed.stream().mapToInt(StorageDeletion::getAttempts).max().orElse(0));
+        }
+        log.info("Storage deletions dispatched: {} deleted, {} rescheduled", deletedIds.size(), failed.size());
+        return claimed.size();
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간 (초기값에서 두 배씩, 최대값에서 멈춤)
+     */
+    private long backoffMillis(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(initialBackoffMillis << exponent, maxBackoffMillis);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
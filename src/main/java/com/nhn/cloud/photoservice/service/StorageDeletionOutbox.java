@@ -0,0 +1,34 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.storage.StorageDeletion;
+import com.nhn.cloud.photoservice.repository.StorageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 객체 삭제 예약.
+ * 호출한 트랜잭션에 아웃박스 행으로 함께 기록되므로, 롤백되면 삭제도 예약되지 않고 커밋되면 반드시 처리된다.
+ * 요청 경로에서는 Object Storage를 호출하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StorageDeletionOutbox {
+
+    private final StorageDeletionRepository storageDeletionRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> storageKeys) {
+        if (storageKeys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        storageDeletionRepository.saveAll(storageKeys.stream()
+                .map(key -> new StorageDeletion(key, now))
+                .toList());
+    }
+}
@@ -0,0 +1,302 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.photo.DerivativeStatus;
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.repository.PhotoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * 스토리지 정합성 점검 작업.
+ * ListObjectsV2 페이지와 photos.storage_key Keyset 페이지를 같은 키 순서로 나란히 읽으며 병합하므로,
+ * 버킷/테이블 크기와 관계없이 양쪽 한 페이지씩만 메모리에 둔다.
+ * - 고아 객체: 어떤 사진도 참조하지 않는 객체 (업로드 후 저장 실패, 사용자 탈퇴 등)
+ * - 누락 원본: 객체가 없는 사진 행 / 누락 파생 이미지: 썸네일/미리보기 객체만 없는 행
+ * 기본은 보고만 하며, 복구 옵션을 켜면 고아 객체는 삭제 아웃박스로 보내고, 파생 이미지는 재생성 대기로 되돌리고,
+ * 원본이 없는 행은 HEAD로 한 번 더 확인한 뒤 삭제한다.
+ * 진행 중인 업로드와 경합하지 않도록 유예 시간보다 최근의 객체/행은 건너뛰고, S3/DB 페이지 요청은 초당 횟수를 제한한다.
+ * 여러 노드에서 동시에 돌 필요가 없으므로 한 노드에서만 활성화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "photo-service.storage-reconcile.enabled", havingValue = "true")
+public class StorageReconcileJob {
+
+    private static final int MAX_LOGGED_FINDINGS = 100;
+
+    private final ObjectStorageService objectStorageService;
+    private final PhotoRepository photoRepository;
+    private final PhotoService photoService;
+    private final StorageDeletionOutbox storageDeletionOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${photo-service.storage-reconcile.page-size:1000}")
+    private int pageSize;
+
+    @Value("${photo-service.storage-reconcile.pages-per-second:5}")
+    private double pagesPerSecond;
+
+    @Value("${photo-service.storage-reconcile.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${photo-service.storage-reconcile.repair-orphans:false}")
+    private boolean repairOrphans;
+
+    @Value("${photo-service.storage-reconcile.repair-derivatives:false}")
+    private boolean repairDerivatives;
+
+    @Value("${photo-service.storage-reconcile.repair-dangling-rows:false}")
+    private boolean repairDanglingRows;
+
+    @Scheduled(cron = "${photo-service.storage-reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        Report report = new Report();
+        try {
+            run(report);
+        } catch (CancellationException e) {
+            log.warn("Storage reconciliation interrupted");
+        }
+        log.info("Storage reconciliation finished in {} s: {} objects, {} key references, {} orphan objects "
+                        + "({} bytes), {} missing originals, {} missing derivatives, {} recent entries skipped",
+                Duration.ofNanos(System.nanoTime() - started).toSeconds(), report.objects, report.references,
+                report.orphans, report.orphanBytes, report.missingOriginals, report.missingDerivatives,
+                report.skippedRecent);
+    }
+
+    void run(Report report) {
+        Pacer pacer = new Pacer(pagesPerSecond);
+        Instant objectCutoff = Instant.now().minus(Duration.ofHours(graceHours));
+        LocalDateTime rowCutoff = LocalDateTime.now().minusHours(graceHours);
+
+        Iterator<S3Object> objects = listObjects(pacer);
+        Iterator<KeyReference> references = keyReferences(pacer);
+        List<String> orphanKeys = new ArrayList<>();
+        Long lastRepairedPhotoId = null;
+
+        S3Object object = objects.hasNext() ? objects.next() : null;
+        KeyReference reference = references.hasNext() ? references.next() : null;
+
+        while (object != null || reference != null) {
+            int order = object == null ? 1 : reference == null ? -1 : object.key().compareTo(reference.key());
+
+            if (order == 0) {
+                // 중복 제거로 같은 키를 참조하는 행(과 그 파생 이미지 키)은 모두 이 객체와 짝지어진다
+                report.objects++;
+                String key = object.key();
+                do {
+                    report.references++;
+                    reference = references.hasNext() ? references.next() : null;
+                } while (reference != null && reference.key().equals(key));
+                object = objects.hasNext() ? objects.next() : null;
+
+            } else if (order < 0) {
+                // 나열된 객체를 참조하는 행이 없음
+                report.objects++;
+                if (object.lastModified().isAfter(objectCutoff)) {
+                    report.skippedRecent++;
+                } else {
+                    report.orphans++;
+                    report.orphanBytes += object.size();
+                    finding(report, "orphan_object", "Orphan object: {} ({} bytes, modified {})",
+                            object.key(), object.size(), object.lastModified());
+                    if (repairOrphans) {
+                        orphanKeys.add(object.key());
+                        if (orphanKeys.size() >= pageSize) {
+                            enqueueDeletions(orphanKeys);
+                        }
+                    }
+                }
+                object = objects.hasNext() ? objects.next() : null;
+
+            } else {
+                // 행이 참조하는 객체가 나열되지 않음
+                report.references++;
+                if (reference.createdAt().isAfter(rowCutoff)) {
+                    report.skippedRecent++;
+                } else if (reference.derivative()) {
+                    report.missingDerivatives++;
+                    finding(report, "missing_derivative", "Missing derivative of photo {}: {}",
+                            reference.photoId(), reference.key());
+                    if (repairDerivatives && !reference.photoId().equals(lastRepairedPhotoId)) {
+                        photoRepository.updateDerivatives(reference.photoId(), null, null, DerivativeStatus.PENDING);
+                        lastRepairedPhotoId = reference.photoId();
+                    }
+                } else {
+                    report.missingOriginals++;
+                    finding(report, "missing_original", "Missing original of photo {}: {}",
+                            reference.photoId(), reference.key());
+                    if (repairDanglingRows && objectStorageService.headObject(reference.key()).isEmpty()) {
+                        photoService.removeDanglingPhoto(reference.photoId());
+                    }
+                }
+                reference = references.hasNext() ? references.next() : null;
+            }
+        }
+
+        if (!orphanKeys.isEmpty()) {
+            enqueueDeletions(orphanKeys);
+        }
+    }
+
+    /**
+     * 사진 키 접두사 아래의 객체를 키 순서로 한 페이지씩 나열
+     */
+    private Iterator<S3Object> listObjects(Pacer pacer) {
+        Iterator<ListObjectsV2Response> pages = objectStorageService
+                .listObjects(ObjectStorageService.USER_KEY_PREFIX, pageSize).iterator();
+        return new PagedIterator<>() {
+            @Override
+            protected List<S3Object> nextPage() {
+                pacer.acquire();
+                return pages.hasNext() ? pages.next().contents() : List.of();
+            }
+        };
+    }
+
+    /**
+     * 사진 행을 (storage_key, id) 순서로 한 페이지씩 읽어 원본/파생 이미지 키를 키 순서로 펼친다.
+     * 파생 이미지 키는 원본 키 뒤에 접미사를 붙인 형제 키이므로 다음 키의 원본 키보다 항상 앞선다.
+     * 같은 키를 공유하는 행이 페이지 경계에 걸치면 그 키의 파생 이미지 키 뒤에 원본 키가 다시 나오게 되므로,
+     * 페이지 마지막 키를 공유하는 나머지 행까지 함께 읽는다.
+     */
+    private Iterator<KeyReference> keyReferences(Pacer pacer) {
+        return new PagedIterator<>() {
+            private String lastKey = "";
+            private Long lastId = 0L;
+
+            @Override
+            protected List<KeyReference> nextPage() {
+                pacer.acquire();
+                List<Photo> photos = new ArrayList<>(
+                        photoRepository.findPageByStorageKeyAfter(lastKey, lastId, PageRequest.of(0, pageSize)));
+                if (photos.isEmpty()) {
+                    return List.of();
+                }
+                Photo last = photos.get(photos.size() - 1);
+                if (photos.size() == pageSize) {
+                    photos.addAll(photoRepository.findByStorageKeyAndIdGreaterThanOrderByIdAsc(
+                            last.getStorageKey(), last.getId()));
+                    last = photos.get(photos.size() - 1);
+                }
+                lastKey = last.getStorageKey();
+                lastId = last.getId();
+
+                List<KeyReference> references = new ArrayList<>(photos.size() * 3);
+                for (Photo photo : photos) {
+                    references.add(new KeyReference(photo.getStorageKey(), photo.getId(), photo.getCreatedAt(), false));
+                    if (photo.getThumbnailKey() != null) {
+                        references.add(new KeyReference(photo.getThumbnailKey(), photo.getId(), photo.getCreatedAt(), true));
+                    }
+                    if (photo.getPreviewKey() != null) {
+                        references.add(new KeyReference(photo.getPreviewKey(), photo.getId(), photo.getCreatedAt(), true));
+                    }
+                }
+                references.sort(Comparator.comparing(KeyReference::key));
+                return references;
+            }
+        };
+    }
+
+    private void enqueueDeletions(List<String> keys) {
+        transactionTemplate.executeWithoutResult(status -> storageDeletionOutbox.enqueue(keys));
+        log.info("Orphan objects scheduled for deletion: {}", keys.size());
+        keys.clear();
+    }
+
+    private void finding(Report report, String type, String message, Object... args) {
+        meterRegistry.counter("photo_service.storage.reconcile", "finding", type).increment();
+        if (report.logged++ < MAX_LOGGED_FINDINGS) {
+            log.warn(message, args);
+        }
+    }
+
+    private record KeyReference(String key, Long photoId, LocalDateTime createdAt, boolean derivative) {
+    }
+
+    static final class Report {
+        long objects;
+        long references;
+        long orphans;
+        long orphanBytes;
+        long missingOriginals;
+        long missingDerivatives;
+        long skippedRecent;
+        int logged;
+    }
+
+    /**
+     * 페이지 단위로 읽어오는 반복자 (빈 페이지를 받으면 끝)
+     */
+    private abstract static class PagedIterator<T> implements Iterator<T> {
+        private Iterator<T> page = Collections.emptyIterator();
+        private boolean exhausted;
+
+        protected abstract List<T> nextPage();
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !exhausted) {
+                List<T> next = nextPage();
+                exhausted = next.isEmpty();
+                page = next.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+
+    /**
+     * 초당 요청 수 제한 (요청 사이 최소 간격만큼 대기)
+     */
+    private static final class Pacer {
+        private final long intervalNanos;
+        private long nextAt = System.nanoTime();
+
+        Pacer(double perSecond) {
+            this.intervalNanos = perSecond > 0 ? (long) (1_000_000_000L / perSecond) : 0;
+        }
+
+        void acquire() {
+            long wait = nextAt - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(Duration.ofNanos(wait));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException();
+                }
+            }
+            nextAt = Math.max(nextAt, System.nanoTime()) + intervalNanos;
+        }
+    }
+}
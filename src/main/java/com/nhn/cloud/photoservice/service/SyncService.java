@@ -0,0 +1,131 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.sync.ChangeEntityType;
+import com.nhn.cloud.photoservice.domain.sync.ChangeLog;
+import com.nhn.cloud.photoservice.domain.sync.ChangeOperation;
+import com.nhn.cloud.photoservice.dto.response.AlbumResponse;
+import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.dto.response.SyncResponse;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.repository.ChangeLogRepository;
+import com.nhn.cloud.photoservice.util.PageCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 변경 피드 기반 증분 동기화.
+ * 커서는 (발급 시각, 마지막 변경 ID)이며, 응답 비용은 라이브러리 크기가 아니라 커서 이후 변경 수에 비례한다.
+ * <p>
+ * 변경 ID는 INSERT 시점에 정해지고 커밋은 그 뒤이므로, 방금 기록된 변경은 더 작은 ID가 아직 커밋 전일 수 있다.
+ * settle 시간보다 최근 변경은 다음 요청으로 미뤄 늦게 커밋된 작은 ID를 커서가 건너뛰지 않게 한다.
+ * 변경 기록 시각과 확정 시점은 모두 DB 시각으로 계산하므로 노드 간 시계 차이가 settle 시간을 깎아 먹지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final PhotoService photoService;
+    private final AlbumService albumService;
+
+    @Value("${photo-service.sync.page-size:500}")
+    private int pageSize;
+
+    @Value("${photo-service.sync.settle-ms:5000}")
+    private long settleMillis;
+
+    @Value("${photo-service.sync.retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * since 이후 변경 조회 (since가 없으면 현재 위치의 커서만 발급)
+     * 보관 기간보다 오래된 커서는 그 사이 변경이 정리되었을 수 있으므로 410으로 전체 재동기화를 요구한다.
+     */
+    public SyncResponse sync(Long userId, String since) {
+        LocalDateTime now = changeLogRepository.currentTimestamp();
+        LocalDateTime settledBefore = now.minusNanos(settleMillis * 1_000_000);
+
+        if (since == null || since.isBlank()) {
+            long head = changeLogRepository.findFirstByUserIdAndCreatedAtLessThanEqualOrderByIdDesc(userId, settledBefore)
+                    .map(ChangeLog::getId)
+                    .orElse(0L);
+            return SyncResponse.reset(PageCursor.of(settledBefore, head).encode());
+        }
+
+        PageCursor cursor = PageCursor.decode(since);
+        if (cursor.getCreatedAt().isBefore(now.minusDays(retentionDays))) {
+            throw new CustomException(ErrorCode.SYNC_CURSOR_EXPIRED, "Sync cursor is older than " + retentionDays + " days");
+        }
+
+        List<ChangeLog> rows = changeLogRepository.findSettledAfter(
+                userId, cursor.getId(), settledBefore, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<ChangeLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        if (page.isEmpty()) {
+            return new SyncResponse(List.of(), PageCursor.of(settledBefore, cursor.getId()).encode(), false, false);
+        }
+
+        ChangeLog last = page.get(page.size() - 1);
+        // 남은 변경이 있으면 그 변경들이 정리 대상이 되는 시점을 기준으로 만료되도록 마지막 변경 시각을 쓴다
+        LocalDateTime issuedAt = hasMore ? last.getCreatedAt() : settledBefore;
+
+        return new SyncResponse(toChanges(userId, page), PageCursor.of(issuedAt, last.getId()).encode(),
+                hasMore, false);
+    }
+
+    /**
+     * 같은 대상의 변경은 마지막 1건으로 합치고, UPSERT는 현재 값을 붙인다 (그 사이 지워졌으면 DELETE로 보낸다)
+     */
+    private List<SyncResponse.Change> toChanges(Long userId, List<ChangeLog> page) {
+        Map<String, ChangeLog> latest = new LinkedHashMap<>();
+        for (ChangeLog change : page) {
+            String key = change.getEntityType() + ":" + change.getEntityId();
+            latest.remove(key);
+            latest.put(key, change);
+        }
+
+        List<Long> photoIds = idsOf(latest.values(), ChangeEntityType.PHOTO);
+        List<Long> albumIds = idsOf(latest.values(), ChangeEntityType.ALBUM);
+        Map<Long, PhotoResponse> photos = photoService.getPhotosByIds(userId, photoIds).stream()
+                .collect(Collectors.toMap(PhotoResponse::getId, Function.identity()));
+        Map<Long, AlbumResponse> albums = albumService.getAlbumsByIds(userId, albumIds).stream()
+                .collect(Collectors.toMap(AlbumResponse::getId, Function.identity()));
+
+        List<SyncResponse.Change> changes = new ArrayList<>(latest.size());
+        for (ChangeLog change : latest.values()) {
+            Long id = change.getEntityId();
+            PhotoResponse photo = change.getEntityType() == ChangeEntityType.PHOTO ? photos.get(id) : null;
+            AlbumResponse album = change.getEntityType() == ChangeEntityType.ALBUM ? albums.get(id) : null;
+            boolean deleted = change.getOperation() == ChangeOperation.DELETE || (photo == null && album == null);
+
+            changes.add(new SyncResponse.Change(change.getEntityType(), id,
+                    deleted ? ChangeOperation.DELETE : ChangeOperation.UPSERT,
+                    deleted ? null : photo, deleted ? null : album));
+        }
+        return changes;
+    }
+
+    private static List<Long> idsOf(Iterable<ChangeLog> changes, ChangeEntityType type) {
+        List<Long> ids = new ArrayList<>();
+        for (ChangeLog change : changes) {
+            if (change.getEntityType() == type && change.getOperation() == ChangeOperation.UPSERT) {
+                ids.add(change.getEntityId());
+            }
+        }
+        return ids;
+    }
+}
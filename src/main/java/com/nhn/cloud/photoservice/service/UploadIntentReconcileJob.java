@@ -0,0 +1,54 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadIntent;
+import com.nhn.cloud.photoservice.repository.UploadIntentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업로드 URL이 만료된 뒤에도 finalize되지 않은 직접 업로드 의도 정리 작업.
+ * URL 만료 직전에 시작된 업로드가 끝날 수 있도록 유예 시간이 지난 의도만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "photo-service.upload-intents.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class UploadIntentReconcileJob {
+
+    private final UploadIntentRepository uploadIntentRepository;
+    private final UploadIntentService uploadIntentService;
+
+    @Value("${photo-service.upload-intents.reconcile.grace-minutes:60}")
+    private long graceMinutes;
+
+    @Value("${photo-service.upload-intents.reconcile.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${photo-service.upload-intents.reconcile.interval-ms:600000}")
+    public void reconcile() {
+        List<UploadIntent> expired = uploadIntentRepository.findByExpiresAtBeforeOrderByExpiresAtAsc(
+                LocalDateTime.now().minusMinutes(graceMinutes), PageRequest.of(0, batchSize));
+
+        int reconciled = 0;
+        for (UploadIntent intent : expired) {
+            try {
+                uploadIntentService.reconcile(intent.getId());
+                reconciled++;
+            } catch (Exception e) {
+                log.warn("Failed to reconcile upload intent: {}", intent.getId(), e);
+            }
+        }
+
+        if (reconciled > 0) {
+            log.info("Reconciled {} expired upload intents", reconciled);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadIntent;
+import com.nhn.cloud.photoservice.domain.upload.UploadIntentStatus;
+import com.nhn.cloud.photoservice.dto.request.PhotoUploadRequest;
+import com.nhn.cloud.photoservice.dto.request.UploadIntentCreateRequest;
+import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.dto.response.UploadIntentResponse;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.repository.AlbumRepository;
+import com.nhn.cloud.photoservice.repository.UploadIntentRepository;
+import com.nhn.cloud.photoservice.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 직접 업로드 (2단계).
+ * 1. 의도 생성: 형식/크기가 서명된 Pre-signed PUT URL 발급 → 클라이언트가 Object Storage로 직접 업로드
+ * 2. finalize: HEAD로 객체 존재/크기/형식을 확인한 뒤 기존 업로드와 같은 경로로 사진을 생성
+ * 바이트가 애플리케이션 노드를 거치지 않으므로 업로드 처리량이 노드 NIC/힙에 묶이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UploadIntentService {
+
+    private final UploadIntentRepository uploadIntentRepository;
+    private final UserRepository userRepository;
+    private final AlbumRepository albumRepository;
+    private final ObjectStorageService objectStorageService;
+    private final PhotoService photoService;
+    private final StorageDeletionOutbox storageDeletionOutbox;
+    private final UserCache userCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter uploadIntentFinalizedCounter;
+    private final Counter uploadIntentAbandonedCounter;
+
+    @Value("${photo-service.upload-intents.url-expiration-seconds:900}")
+    private long urlExpirationSeconds;
+
+    /**
+     * 업로드 의도 생성 및 업로드 URL 발급
+     */
+    @Transactional
+    public UploadIntentResponse createIntent(Long userId, UploadIntentCreateRequest request) {
+        userCache.get(userId);
+        objectStorageService.validateContentType(request.getContentType());
+
+        if (request.getFileSize() > ObjectStorageService.MAX_FILE_SIZE) {
+            throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED, "File size must not exceed 50MB");
+        }
+        if (request.getAlbumId() != null) {
+            albumRepository.findByIdAndUserId(request.getAlbumId(), userId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
+        }
+
+        Duration expiration = Duration.ofSeconds(urlExpirationSeconds);
+        UploadIntent intent = uploadIntentRepository.save(UploadIntent.builder()
+                .user(userRepository.getReferenceById(userId))
+                .albumId(request.getAlbumId())
+                .originalFilename(request.getFilename())
+                .contentType(request.getContentType())
+                .fileSize(request.getFileSize())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .storageKey(objectStorageService.newStorageKey(userId, request.getFilename()))
+                .expiresAt(LocalDateTime.now().plus(expiration))
+                .build());
+
+        String uploadUrl = objectStorageService.generatePresignedPutUrl(
+                intent.getStorageKey(), intent.getContentType(), intent.getFileSize(), expiration);
+
+        log.info("Upload intent created: {} by user: {} (size: {} bytes)", intent.getId(), userId, intent.getFileSize());
+        return UploadIntentResponse.from(intent, uploadUrl);
+    }
+
+    /**
+     * finalize: 객체를 확인하고 사진을 생성한다.
+     * 응답을 받지 못한 클라이언트가 다시 요청하면 이미 생성된 사진을 돌려준다.
+     * 선언과 다른 객체는 의도 행 삭제와 객체 삭제 예약을 커밋한 뒤 오류로 응답한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PhotoResponse finalizeIntent(Long userId, Long intentId) {
+        PhotoResponse photo = transactionTemplate.execute(status -> finalizeLocked(userId, intentId));
+        if (photo == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Uploaded object does not match the declared size or type");
+        }
+        return photo;
+    }
+
+    /**
+     * 의도 잠금 후 finalize (객체가 선언과 달라 거부했으면 null)
+     */
+    private PhotoResponse finalizeLocked(Long userId, Long intentId) {
+        UploadIntent intent = uploadIntentRepository.findForUpdate(intentId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_INTENT_NOT_FOUND));
+
+        if (intent.getStatus() == UploadIntentStatus.FINALIZED) {
+            return photoService.getPhoto(userId, intent.getPhotoId());
+        }
+
+        HeadObjectResponse head = objectStorageService.headObject(intent.getStorageKey())
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_INCOMPLETE, "Object has not been uploaded yet"));
+
+        if (!intent.getFileSize().equals(head.contentLength())
+                || !intent.getContentType().equalsIgnoreCase(head.contentType())) {
+            // 서명 조건을 우회한 객체는 사진으로 만들지 않고 지운다
+            storageDeletionOutbox.enqueue(List.of(intent.getStorageKey()));
+            uploadIntentRepository.delete(intent);
+            log.warn("Upload intent {} rejected: declared {} bytes {}, stored {} bytes {}", intentId,
+                    intent.getFileSize(), intent.getContentType(), head.contentLength(), head.contentType());
+            return null;
+        }
+
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setAlbumId(intent.getAlbumId());
+        request.setTitle(intent.getTitle());
+        request.setDescription(intent.getDescription());
+
+        PhotoResponse photo = photoService.registerUploadedPhoto(userId, intent.getOriginalFilename(),
+                intent.getStorageKey(), intent.getContentType(), head.contentLength(), request);
+
+        intent.finalizeWith(photo.getId());
+        uploadIntentFinalizedCounter.increment();
+
+        log.info("Upload intent finalized: {} -> photo: {}", intentId, photo.getId());
+        return photo;
+    }
+
+    /**
+     * finalize되지 않은 채 만료된 의도 정리 (UploadIntentReconcileJob에서 호출)
+     * 올라와 있을 수 있는 객체는 어떤 사진도 참조하지 않으므로 삭제를 예약한다. finalize된 의도는 행만 지운다.
+     */
+    @Transactional
+    public void reconcile(Long intentId) {
+        UploadIntent intent = uploadIntentRepository.findForUpdate(intentId).orElse(null);
+        if (intent == null) {
+            return;
+        }
+
+        if (intent.getStatus() == UploadIntentStatus.PENDING) {
+            // 객체가 올라오지 않았어도 삭제는 성공으로 처리되므로 HEAD 없이 예약한다
+            storageDeletionOutbox.enqueue(List.of(intent.getStorageKey()));
+            uploadIntentAbandonedCounter.increment();
+            log.info("Abandoned upload intent removed: {} (key: {})", intentId, intent.getStorageKey());
+        }
+        uploadIntentRepository.delete(intent);
+    }
+}
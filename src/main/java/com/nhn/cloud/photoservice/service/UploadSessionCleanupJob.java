@@ -0,0 +1,52 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadSession;
+import com.nhn.cloud.photoservice.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 업로드 세션 정리 작업.
+ * 버려진 세션의 Multipart Upload를 중단하여 Object Storage에 남은 파트를 지우고, 세션/청크 행을 삭제한다.
+ * 커밋된 세션도 만료 시각이 지나면 함께 삭제된다 (커밋 재요청 응답용으로만 보관).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "photo-service.upload-sessions.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class UploadSessionCleanupJob {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionService uploadSessionService;
+
+    @Value("${photo-service.upload-sessions.cleanup.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${photo-service.upload-sessions.cleanup.interval-ms:600000}")
+    public void cleanup() {
+        List<UploadSession> expired = uploadSessionRepository.findByExpiresAtBeforeOrderByExpiresAtAsc(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+
+        int removed = 0;
+        for (UploadSession session : expired) {
+            try {
+                uploadSessionService.removeExpired(session);
+                removed++;
+            } catch (Exception e) {
+                log.warn("Failed to remove expired upload session: {}", session.getId(), e);
+            }
+        }
+
+        if (removed > 0) {
+            log.info("Removed {} expired upload sessions", removed);
+        }
+    }
+}
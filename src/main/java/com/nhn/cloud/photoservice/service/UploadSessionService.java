@@ -0,0 +1,289 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.upload.UploadSession;
+import com.nhn.cloud.photoservice.domain.upload.UploadSessionPart;
+import com.nhn.cloud.photoservice.domain.upload.UploadSessionStatus;
+import com.nhn.cloud.photoservice.dto.request.PhotoUploadRequest;
+import com.nhn.cloud.photoservice.dto.request.UploadSessionCreateRequest;
+import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.dto.response.UploadSessionResponse;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.repository.AlbumRepository;
+import com.nhn.cloud.photoservice.repository.UploadSessionPartRepository;
+import com.nhn.cloud.photoservice.repository.UploadSessionRepository;
+import com.nhn.cloud.photoservice.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 재개 가능 업로드 (세션 생성 → 번호 붙은 청크 PUT → 수신 현황 조회 → 커밋).
+ * 세션은 S3 Multipart Upload 하나에 대응하고 청크는 곧바로 파트로 전송되므로,
+ * 연결이 끊겨도 이미 받은 청크는 다시 보낼 필요가 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UploadSessionService {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionPartRepository uploadSessionPartRepository;
+    private final UserRepository userRepository;
+    private final AlbumRepository albumRepository;
+    private final ObjectStorageService objectStorageService;
+    private final PhotoService photoService;
+    private final PartBufferPool partBufferPool;
+    private final UserCache userCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter uploadSessionCompletedCounter;
+    private final Counter uploadSessionExpiredCounter;
+
+    @Value("${photo-service.upload-sessions.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 업로드 세션 생성 (청크 크기는 서버 파트 크기로 고정)
+     */
+    @Transactional
+    public UploadSessionResponse createSession(Long userId, UploadSessionCreateRequest request) {
+        userCache.get(userId);
+        objectStorageService.validateContentType(request.getContentType());
+
+        if (request.getFileSize() > ObjectStorageService.MAX_FILE_SIZE) {
+            throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED, "File size must not exceed 50MB");
+        }
+        if (request.getAlbumId() != null) {
+            albumRepository.findByIdAndUserId(request.getAlbumId(), userId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.ALBUM_NOT_FOUND));
+        }
+
+        String storageKey = objectStorageService.newStorageKey(userId, request.getFilename());
+        String uploadId = objectStorageService.createMultipartUpload(storageKey, request.getContentType());
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .user(userRepository.getReferenceById(userId))
+                .albumId(request.getAlbumId())
+                .originalFilename(request.getFilename())
+                .contentType(request.getContentType())
+                .fileSize(request.getFileSize())
+                .chunkSize(partBufferPool.getPartSize())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .storageKey(storageKey)
+                .uploadId(uploadId)
+                .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                .build());
+
+        log.info("Upload session created: {} by user: {} (size: {} bytes, chunks: {})",
+                session.getId(), userId, session.getFileSize(), session.getTotalChunks());
+
+        return UploadSessionResponse.from(session, List.of());
+    }
+
+    /**
+     * 청크 수신
+     * 청크 전송 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다 (조회/저장은 각각 짧은 트랜잭션).
+     * 같은 번호를 다시 보내면 파트를 덮어쓴다. (동시 재전송도 upsert 한 번으로 기록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadSessionResponse uploadChunk(Long userId, Long sessionId, int partNumber,
+                                             InputStream inputStream, long contentLength) {
+        UploadSession session = findActiveSession(userId, sessionId);
+
+        if (partNumber < 1 || partNumber > session.getTotalChunks()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Chunk number must be between 1 and " + session.getTotalChunks());
+        }
+        long expectedSize = session.expectedChunkSize(partNumber);
+        if (contentLength != expectedSize) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("Chunk %d must be %d bytes", partNumber, expectedSize));
+        }
+
+        String etag = objectStorageService.uploadChunk(session.getStorageKey(), session.getUploadId(),
+                partNumber, inputStream, (int) expectedSize);
+
+        uploadSessionPartRepository.upsert(sessionId, partNumber, etag, expectedSize);
+
+        return UploadSessionResponse.from(session,
+                uploadSessionPartRepository.findBySessionIdOrderByPartNumberAsc(sessionId));
+    }
+
+    /**
+     * 수신 현황 조회 (재개 시 missingChunks만 다시 보내면 된다)
+     */
+    public UploadSessionResponse getSession(Long userId, Long sessionId) {
+        UploadSession session = uploadSessionRepository.findByIdAndUserId(sessionId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+        ensureNotExpired(session);
+
+        return UploadSessionResponse.from(session,
+                uploadSessionPartRepository.findBySessionIdOrderByPartNumberAsc(sessionId));
+    }
+
+    /**
+     * 커밋: 기존 업로드와 같은 경로로 사진/감사 로그를 기록한 뒤 Multipart Upload를 완료한다.
+     * 사진 등록(앨범 검증, INSERT)이 실패하면 S3는 건드리지 않으므로 세션을 그대로 다시 커밋할 수 있고,
+     * S3 완료가 실패하면 사진 등록이 롤백된다.
+     * 응답을 받지 못한 클라이언트가 다시 커밋하면 이미 생성된 사진을 돌려준다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PhotoResponse completeSession(Long userId, Long sessionId) {
+        PhotoResponse photo = transactionTemplate.execute(status -> {
+            PhotoResponse completed = completeLocked(userId, sessionId);
+            if (completed == null) {
+                status.setRollbackOnly();
+            }
+            return completed;
+        });
+        if (photo != null) {
+            return photo;
+        }
+
+        // Multipart Upload가 사라졌고 완성된 객체도 없다: 사진 등록은 롤백되었으므로 세션만 실패로 기록
+        transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.findForUpdate(sessionId, userId)
+                .filter(session -> session.getStatus() == UploadSessionStatus.ACTIVE)
+                .ifPresent(UploadSession::fail));
+        log.warn("Upload session failed, multipart upload no longer exists: {}", sessionId);
+        throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "Upload session failed, start a new session");
+    }
+
+    /**
+     * 세션 잠금 후 커밋 (Multipart Upload도 완성된 객체도 없으면 null)
+     */
+    private PhotoResponse completeLocked(Long userId, Long sessionId) {
+        UploadSession session = uploadSessionRepository.findForUpdate(sessionId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        if (session.getStatus() == UploadSessionStatus.COMPLETED) {
+            return photoService.getPhoto(userId, session.getPhotoId());
+        }
+        if (session.getStatus() == UploadSessionStatus.FAILED) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "Upload session failed, start a new session");
+        }
+        ensureNotExpired(session);
+
+        List<UploadSessionPart> parts = uploadSessionPartRepository.findBySessionIdOrderByPartNumberAsc(sessionId);
+        if (parts.size() != session.getTotalChunks()) {
+            throw new CustomException(ErrorCode.UPLOAD_INCOMPLETE,
+                    String.format("Received %d of %d chunks", parts.size(), session.getTotalChunks()));
+        }
+
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setAlbumId(session.getAlbumId());
+        request.setTitle(session.getTitle());
+        request.setDescription(session.getDescription());
+
+        PhotoResponse photo = photoService.registerUploadedPhoto(userId, session.getOriginalFilename(),
+                session.getStorageKey(), session.getContentType(), session.getFileSize(), request);
+        // INSERT 오류가 S3 완료 뒤에 드러나지 않도록 먼저 반영
+        uploadSessionRepository.flush();
+
+        if (!completeMultipartUpload(session, parts)) {
+            return null;
+        }
+
+        session.complete(photo.getId());
+        uploadSessionPartRepository.deleteBySessionId(sessionId);
+        uploadSessionCompletedCounter.increment();
+
+        log.info("Upload session completed: {} -> photo: {}", sessionId, photo.getId());
+        return photo;
+    }
+
+    /**
+     * Multipart Upload 완료. 이전 커밋이 S3 완료 후 롤백된 경우 uploadId는 사라졌지만 객체는 이미 완성되어 있으므로
+     * NoSuchUpload면 객체 크기로 확인한다. (둘 다 없으면 false)
+     */
+    private boolean completeMultipartUpload(UploadSession session, List<UploadSessionPart> parts) {
+        try {
+            objectStorageService.completeMultipartUpload(session.getStorageKey(), session.getUploadId(),
+                    parts.stream()
+                            .map(part -> CompletedPart.builder()
+                                    .partNumber(part.getPartNumber())
+                                    .eTag(part.getEtag())
+                                    .build())
+                            .toList());
+            return true;
+        } catch (S3Exception e) {
+            if (!"NoSuchUpload".equals(e.awsErrorDetails() != null ? e.awsErrorDetails().errorCode() : null)) {
+                log.error("Failed to complete upload session: {}", session.getId(), e);
+                throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
+        } catch (SdkException e) {
+            log.error("Failed to complete upload session: {}", session.getId(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        Optional<HeadObjectResponse> object = objectStorageService.headObject(session.getStorageKey());
+        if (object.isPresent() && session.getFileSize().equals(object.get().contentLength())) {
+            log.info("Upload session {} was already assembled by an earlier commit", session.getId());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 업로드 중단 (이미 올라간 파트도 함께 정리)
+     */
+    @Transactional
+    public void abortSession(Long userId, Long sessionId) {
+        UploadSession session = uploadSessionRepository.findForUpdate(sessionId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        remove(session);
+        log.info("Upload session aborted: {} by user: {}", sessionId, userId);
+    }
+
+    /**
+     * 만료된 세션 정리 (UploadSessionCleanupJob에서 호출)
+     */
+    @Transactional
+    public void removeExpired(UploadSession session) {
+        if (session.getStatus() == UploadSessionStatus.ACTIVE) {
+            uploadSessionExpiredCounter.increment();
+        }
+        remove(session);
+    }
+
+    private void remove(UploadSession session) {
+        if (session.getStatus() == UploadSessionStatus.ACTIVE) {
+            objectStorageService.abortMultipartUpload(session.getStorageKey(), session.getUploadId());
+        }
+        uploadSessionPartRepository.deleteBySessionId(session.getId());
+        uploadSessionRepository.delete(session);
+    }
+
+    private UploadSession findActiveSession(Long userId, Long sessionId) {
+        UploadSession session = uploadSessionRepository.findByIdAndUserId(sessionId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        if (session.getStatus() != UploadSessionStatus.ACTIVE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Upload session is no longer active");
+        }
+        ensureNotExpired(session);
+        return session;
+    }
+
+    private void ensureNotExpired(UploadSession session) {
+        if (session.getStatus() == UploadSessionStatus.ACTIVE && session.isExpired(LocalDateTime.now())) {
+            throw new CustomException(ErrorCode.UPLOAD_SESSION_EXPIRED);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.util.ImageMetadata;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Object Storage에 저장된 객체 정보
+ */
+@Getter
+@AllArgsConstructor
+public class UploadedObject {
+    private final String storageKey;
+    private final long size;
+    private final String contentHash;  // 전송 중 계산한 SHA-256 (계산하지 않은 경로는 null)
+    private final ImageMetadata metadata;  // 첫 파트 버퍼에서 읽은 헤더 메타데이터 (읽지 않은 경로는 null)
+
+    public UploadedObject(String storageKey, long size) {
+        this(storageKey, size, null, null);
+    }
+}
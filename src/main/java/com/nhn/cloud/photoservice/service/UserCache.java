@@ -0,0 +1,104 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhn.cloud.photoservice.domain.user.User;
+import com.nhn.cloud.photoservice.domain.user.UserRole;
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import com.nhn.cloud.photoservice.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 ID 단위 캐시.
+ * 서비스 메서드마다 반복되던 users PK 조회를 줄이기 위해, 감사 로그 등에 필요한 최소 정보만 보관한다.
+ * 사용자 엔티티가 수정/삭제되면 {@link UserCacheEvictionListener}가 즉시 제거한다.
+ */
+@Component
+public class UserCache {
+
+    /**
+     * 요청 단위로 절약한 users 조회 수를 담는 요청 속성 (ActiveUserFilter에서 기록)
+     */
+    public static final String QUERIES_SAVED_ATTRIBUTE = UserCache.class.getName() + ".QUERIES_SAVED";
+
+    private final Cache<Long, CachedUser> cache;
+    private final UserRepository userRepository;
+    private final Counter userCacheHitCounter;
+    private final Counter userCacheMissCounter;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${photo-service.user-cache.ttl:300}") long ttlSeconds,
+                     @Value("${photo-service.user-cache.max-size:50000}") long maxSize,
+                     Counter userCacheHitCounter,
+                     Counter userCacheMissCounter) {
+        this.userRepository = userRepository;
+        this.userCacheHitCounter = userCacheHitCounter;
+        this.userCacheMissCounter = userCacheMissCounter;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시된 사용자를 반환하고, 없으면 DB에서 조회하여 저장한다.
+     */
+    public CachedUser get(Long userId) {
+        CachedUser cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            userCacheHitCounter.increment();
+            recordSavedQuery();
+            return cached;
+        }
+
+        userCacheMissCounter.increment();
+        CachedUser loaded = userRepository.findById(userId)
+                .map(CachedUser::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        cache.put(userId, loaded);
+        return loaded;
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * users 조회 없이 userId만으로 처리한 경우 호출하여, 요청 단위 절약 횟수에 반영한다.
+     */
+    public void recordSavedQuery() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        AtomicInteger saved = (AtomicInteger) attributes.getAttribute(
+                QUERIES_SAVED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (saved == null) {
+            saved = new AtomicInteger();
+            attributes.setAttribute(QUERIES_SAVED_ATTRIBUTE, saved, RequestAttributes.SCOPE_REQUEST);
+        }
+        saved.incrementAndGet();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedUser {
+        private final Long id;
+        private final String email;
+        private final UserRole role;
+
+        static CachedUser from(User user) {
+            return new CachedUser(user.getId(), user.getEmail(), user.getRole());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티 변경 시 {@link UserCache}에서 해당 사용자를 제거하는 Hibernate 이벤트 리스너.
+ * 도메인 엔티티가 서비스 계층에 의존하지 않도록 HibernateListenerConfig에서 등록한다.
+ * 커밋 전 다른 요청이 옛 값을 다시 적재할 수 있으므로 트랜잭션 완료 후 한 번 더 제거한다.
+ * JPQL 벌크 UPDATE는 리스너를 거치지 않으므로, 사용 시 직접 evict 해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener implements PostUpdateEventListener, PostDeleteEventListener {
+
+    // EntityManagerFactory 생성 중 주입되므로 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<UserCache> userCacheProvider;
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User user) {
+            onUserChanged(user.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User user) {
+            onUserChanged(user.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onUserChanged(Long userId) {
+        UserCache userCache = userCacheProvider.getObject();
+        userCache.evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userCache.evict(userId);
+                }
+            });
+        }
+    }
+}
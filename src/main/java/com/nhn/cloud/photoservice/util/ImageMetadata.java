@@ -0,0 +1,21 @@
+package com.nhn.cloud.photoservice.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 이미지 헤더에서 읽은 메타데이터 (찾지 못한 항목은 null)
+ *
+ * @param width       저장된 픽셀 폭 (방향 보정 전)
+ * @param height      저장된 픽셀 높이 (방향 보정 전)
+ * @param orientation EXIF 방향 값 1~8 (HEIC는 irot 회전을 같은 값으로 환산)
+ * @param takenAt     촬영 시각 (카메라 현지 시각, 시간대 없음)
+ * @param cameraModel 카메라 모델명
+ */
+public record ImageMetadata(Integer width, Integer height, Integer orientation,
+                            LocalDateTime takenAt, String cameraModel) {
+
+    /**
+     * 읽기를 시도했지만 아무것도 찾지 못한 경우 (지원하지 않는 포맷, 손상된 헤더)
+     */
+    public static final ImageMetadata EMPTY = new ImageMetadata(null, null, null, null, null);
+}
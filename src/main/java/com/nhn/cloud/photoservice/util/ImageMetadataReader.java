@@ -0,0 +1,555 @@
+package com.nhn.cloud.photoservice.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JPEG/PNG/HEIC 헤더에서 크기, 방향, 촬영 시각, 카메라 모델을 읽는다.
+ * 픽셀 데이터는 디코딩하지 않고 앞부분 헤더 바이트(MAX_HEADER_BYTES 이하)만 해석한다.
+ * <ul>
+ *     <li>JPEG: APP1 EXIF 세그먼트와 SOF 마커 (SOS 이후는 읽지 않음)</li>
+ *     <li>PNG: IHDR과 eXIf 청크 (IDAT 이전까지)</li>
+ *     <li>HEIC/AVIF: meta 박스의 ispe/irot 속성과 Exif 항목 (Exif 항목이 헤더 범위 밖이면 생략)</li>
+ * </ul>
+ * 헤더가 잘리거나 손상되어도 예외를 던지지 않고 그때까지 읽은 값만 반환한다.
+ */
+public final class ImageMetadataReader {
+
+    /**
+     * 읽는 헤더 최대 크기 (JPEG EXIF 세그먼트는 64KB 이하, HEIC meta 박스도 보통 파일 앞쪽에 있다)
+     */
+    public static final int MAX_HEADER_BYTES = 256 * 1024;
+
+    private static final int MAX_CAMERA_MODEL_LENGTH = 100;
+    private static final int MAX_ASCII_LENGTH = 256;
+
+    private static final DateTimeFormatter EXIF_DATE_TIME = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final Set<String> HEIF_BRANDS = Set.of("heic", "heix", "hevc", "heim", "heis", "mif1", "msf1", "avif");
+
+    // TIFF/EXIF 태그
+    private static final int TAG_MODEL = 0x0110;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_DATE_TIME_DIGITIZED = 0x9004;
+
+    private ImageMetadataReader() {
+    }
+
+    /**
+     * 스트림 앞부분만 읽어 해석한다 (나머지는 읽지 않으며 스트림은 호출한 쪽에서 닫는다)
+     */
+    public static ImageMetadata read(InputStream inputStream) throws IOException {
+        byte[] header = inputStream.readNBytes(MAX_HEADER_BYTES);
+        return parse(header, header.length);
+    }
+
+    /**
+     * 이미 메모리에 있는 앞부분 바이트를 해석한다 (스트리밍 업로드의 첫 파트 버퍼)
+     */
+    public static ImageMetadata parse(byte[] data, int length) {
+        Bytes bytes = new Bytes(data, Math.min(length, data.length));
+        Fields fields = new Fields();
+        try {
+            if (bytes.length() >= 4 && bytes.u8(0) == 0xFF && bytes.u8(1) == 0xD8) {
+                parseJpeg(bytes, fields);
+            } else if (bytes.matches(0, PNG_SIGNATURE)) {
+                parsePng(bytes, fields);
+            } else if (bytes.length() >= 12 && "ftyp".equals(bytes.fourCc(4))) {
+                parseHeif(bytes, fields);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 헤더가 읽은 범위 밖으로 이어지거나 손상됨: 그때까지 읽은 값만 사용
+        }
+        return fields.toMetadata();
+    }
+
+    // --- JPEG ---
+
+    private static void parseJpeg(Bytes b, Fields f) {
+        int pos = 2;
+        boolean exifRead = false;
+        while (pos + 4 <= b.length()) {
+            if (b.u8(pos) != 0xFF) {
+                return;
+            }
+            int marker = b.u8(pos + 1);
+            if (marker == 0xFF) {
+                pos++;  // 채움 바이트
+                continue;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                pos += 2;  // 길이 없는 마커
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                return;  // EOI/SOS: 이후는 압축 데이터
+            }
+
+            int segment = pos + 4;
+            int next = pos + 2 + b.u16(pos + 2, false);
+
+            if (marker == 0xE1 && !exifRead && b.matches(segment, EXIF_HEADER)) {
+                exifRead = true;
+                parseTiff(b, segment + EXIF_HEADER.length, f);
+            } else if (isStartOfFrame(marker)) {
+                f.height = b.u16(segment + 1, false);
+                f.width = b.u16(segment + 3, false);
+                return;  // EXIF는 프레임 헤더 앞에 온다
+            }
+            pos = next;
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    // --- PNG ---
+
+    private static void parsePng(Bytes b, Fields f) {
+        int pos = PNG_SIGNATURE.length;
+        while (pos + 8 <= b.length()) {
+            int chunkLength = position(b.u32(pos, false));
+            String type = b.fourCc(pos + 4);
+            int data = pos + 8;
+
+            switch (type) {
+                case "IHDR" -> {
+                    f.width = position(b.u32(data, false));
+                    f.height = position(b.u32(data + 4, false));
+                }
+                case "eXIf" -> parseTiff(b, data, f);
+                case "IDAT", "IEND" -> {
+                    return;
+                }
+                default -> {
+                }
+            }
+            pos = data + chunkLength + 4;  // CRC
+        }
+    }
+
+    // --- HEIF (ISO BMFF) ---
+
+    private static void parseHeif(Bytes b, Fields f) {
+        List<Box> top = boxes(b, 0, b.length());
+        if (top.isEmpty() || !isHeifBrand(b, top.get(0))) {
+            return;
+        }
+        for (Box box : top) {
+            if ("meta".equals(box.type())) {
+                parseMeta(b, box.payload() + 4, box.end(), f);  // FullBox: version/flags
+                return;
+            }
+        }
+    }
+
+    private static boolean isHeifBrand(Bytes b, Box ftyp) {
+        if (HEIF_BRANDS.contains(b.fourCc(ftyp.payload()))) {
+            return true;
+        }
+        for (int pos = ftyp.payload() + 8; pos + 4 <= ftyp.end(); pos += 4) {
+            if (HEIF_BRANDS.contains(b.fourCc(pos))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void parseMeta(Bytes b, int from, int to, Fields f) {
+        long primaryItem = -1;
+        long exifItem = -1;
+        Box iloc = null;
+        Box iprp = null;
+
+        for (Box box : boxes(b, from, to)) {
+            switch (box.type()) {
+                case "pitm" -> primaryItem = b.u8(box.payload()) == 0
+                        ? b.u16(box.payload() + 4, false)
+                        : b.u32(box.payload() + 4, false);
+                case "iinf" -> exifItem = findExifItem(b, box);
+                case "iloc" -> iloc = box;
+                case "iprp" -> iprp = box;
+                default -> {
+                }
+            }
+        }
+
+        if (exifItem >= 0 && iloc != null) {
+            long[] extent = findItemExtent(b, iloc, exifItem);
+            if (extent != null && extent[0] + 4 <= b.length()) {
+                // Exif 항목: TIFF 헤더까지의 오프셋(4바이트) 뒤에 TIFF 데이터
+                int item = position(extent[0]);
+                parseTiff(b, item + 4 + position(b.u32(item, false)), f);
+            }
+        }
+
+        // HEIF는 irot으로 회전을 표시하고 디코더가 적용하므로 EXIF 방향 대신 irot을 쓴다
+        f.orientation = 1;
+        if (iprp != null) {
+            parseItemProperties(b, iprp, primaryItem, f);
+        }
+    }
+
+    private static long findExifItem(Bytes b, Box iinf) {
+        int version = b.u8(iinf.payload());
+        int entries = iinf.payload() + 4 + (version == 0 ? 2 : 4);
+        for (Box infe : boxes(b, entries, iinf.end())) {
+            if (!"infe".equals(infe.type())) {
+                continue;
+            }
+            int infeVersion = b.u8(infe.payload());
+            if (infeVersion < 2) {
+                continue;
+            }
+            int pos = infe.payload() + 4;
+            long itemId = infeVersion == 2 ? b.u16(pos, false) : b.u32(pos, false);
+            pos += (infeVersion == 2 ? 2 : 4) + 2;  // item_protection_index
+            if ("Exif".equals(b.fourCc(pos))) {
+                return itemId;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * iloc에서 항목의 첫 구간 (파일 오프셋, 길이). 파일 오프셋 방식이 아니면 null
+     */
+    private static long[] findItemExtent(Bytes b, Box iloc, long itemId) {
+        int pos = iloc.payload();
+        int version = b.u8(pos);
+        pos += 4;
+        int offsetSize = b.u8(pos) >> 4;
+        int lengthSize = b.u8(pos) & 0x0F;
+        int baseOffsetSize = b.u8(pos + 1) >> 4;
+        int indexSize = version == 1 || version == 2 ? b.u8(pos + 1) & 0x0F : 0;
+        pos += 2;
+
+        long itemCount = version < 2 ? b.u16(pos, false) : b.u32(pos, false);
+        pos += version < 2 ? 2 : 4;
+
+        for (long i = 0; i < itemCount; i++) {
+            long id = version < 2 ? b.u16(pos, false) : b.u32(pos, false);
+            pos += version < 2 ? 2 : 4;
+            int constructionMethod = 0;
+            if (version == 1 || version == 2) {
+                constructionMethod = b.u16(pos, false) & 0x0F;
+                pos += 2;
+            }
+            pos += 2;  // data_reference_index
+            long baseOffset = b.uN(pos, baseOffsetSize);
+            pos += baseOffsetSize;
+            int extentCount = b.u16(pos, false);
+            pos += 2;
+
+            long[] first = null;
+            for (int e = 0; e < extentCount; e++) {
+                pos += indexSize;
+                long offset = b.uN(pos, offsetSize);
+                pos += offsetSize;
+                long length = b.uN(pos, lengthSize);
+                pos += lengthSize;
+                if (first == null) {
+                    first = new long[]{baseOffset + offset, length};
+                }
+            }
+            if (id == itemId) {
+                return constructionMethod == 0 ? first : null;
+            }
+        }
+        return null;
+    }
+
+    private static void parseItemProperties(Bytes b, Box iprp, long primaryItem, Fields f) {
+        List<Box> properties = List.of();
+        List<Integer> primaryProperties = new ArrayList<>();
+
+        for (Box box : boxes(b, iprp.payload(), iprp.end())) {
+            if ("ipco".equals(box.type())) {
+                properties = boxes(b, box.payload(), box.end());
+            } else if ("ipma".equals(box.type())) {
+                collectAssociations(b, box, primaryItem, primaryProperties);
+            }
+        }
+
+        if (primaryProperties.isEmpty()) {
+            // 대표 항목을 알 수 없으면 가장 큰 ispe를 사용
+            for (Box property : properties) {
+                if ("ispe".equals(property.type())) {
+                    applySpatialExtent(b, property, f, true);
+                }
+            }
+            return;
+        }
+
+        for (int index : primaryProperties) {
+            if (index < 1 || index > properties.size()) {
+                continue;
+            }
+            Box property = properties.get(index - 1);  // 속성 인덱스는 1부터
+            switch (property.type()) {
+                case "ispe" -> applySpatialExtent(b, property, f, false);
+                case "irot" -> f.orientation = switch (b.u8(property.payload()) & 0x03) {
+                    case 1 -> 8;  // 반시계 90도
+                    case 2 -> 3;
+                    case 3 -> 6;  // 반시계 270도 = 시계 90도
+                    default -> 1;
+                };
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static void collectAssociations(Bytes b, Box ipma, long itemId, List<Integer> indexes) {
+        int pos = ipma.payload();
+        int version = b.u8(pos);
+        boolean wideIndex = (b.u8(pos + 3) & 0x01) != 0;
+        pos += 4;
+
+        long entryCount = b.u32(pos, false);
+        pos += 4;
+        for (long i = 0; i < entryCount; i++) {
+            long id = version < 1 ? b.u16(pos, false) : b.u32(pos, false);
+            pos += version < 1 ? 2 : 4;
+            int associationCount = b.u8(pos++);
+            for (int j = 0; j < associationCount; j++) {
+                int index = wideIndex ? b.u16(pos, false) & 0x7FFF : b.u8(pos) & 0x7F;
+                pos += wideIndex ? 2 : 1;
+                if (id == itemId) {
+                    indexes.add(index);
+                }
+            }
+            if (id == itemId) {
+                return;
+            }
+        }
+    }
+
+    private static void applySpatialExtent(Bytes b, Box ispe, Fields f, boolean keepLargest) {
+        int width = position(b.u32(ispe.payload() + 4, false));
+        int height = position(b.u32(ispe.payload() + 8, false));
+        if (!keepLargest || f.width == null || (long) width * height > (long) f.width * f.height) {
+            f.width = width;
+            f.height = height;
+        }
+    }
+
+    /**
+     * from~to 구간의 박스 목록 (마지막 박스가 읽은 범위 밖으로 이어지면 범위 안까지만)
+     */
+    private static List<Box> boxes(Bytes b, int from, int to) {
+        List<Box> boxes = new ArrayList<>();
+        int limit = Math.min(to, b.length());
+        int pos = from;
+        while (pos + 8 <= limit) {
+            long size = b.u32(pos, false);
+            String type = b.fourCc(pos + 4);
+            int header = 8;
+            if (size == 1) {
+                size = b.u64(pos + 8);
+                header = 16;
+            } else if (size == 0) {
+                size = to - pos;
+            }
+            if (size < header) {
+                break;
+            }
+            long end = pos + size;
+            boxes.add(new Box(type, pos + header, (int) Math.min(end, limit)));
+            if (end >= limit) {
+                break;
+            }
+            pos = (int) end;
+        }
+        return boxes;
+    }
+
+    private record Box(String type, int payload, int end) {
+    }
+
+    // --- TIFF (EXIF) ---
+
+    private static void parseTiff(Bytes b, int tiff, Fields f) {
+        boolean littleEndian;
+        int byteOrder = b.u16(tiff, false);
+        if (byteOrder == 0x4949) {
+            littleEndian = true;
+        } else if (byteOrder == 0x4D4D) {
+            littleEndian = false;
+        } else {
+            return;
+        }
+        if (b.u16(tiff + 2, littleEndian) != 42) {
+            return;
+        }
+
+        long exifIfd = readIfd(b, tiff, tiff + position(b.u32(tiff + 4, littleEndian)), littleEndian, f);
+        if (exifIfd > 0) {
+            readIfd(b, tiff, tiff + position(exifIfd), littleEndian, f);
+        }
+    }
+
+    /**
+     * IFD 항목을 읽고 EXIF 하위 IFD 오프셋을 반환한다 (없으면 0)
+     */
+    private static long readIfd(Bytes b, int tiff, int ifd, boolean le, Fields f) {
+        int count = b.u16(ifd, le);
+        long exifIfd = 0;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            try {
+                switch (b.u16(entry, le)) {
+                    case TAG_ORIENTATION -> {
+                        int orientation = b.u16(entry + 8, le);
+                        f.orientation = orientation >= 1 && orientation <= 8 ? orientation : null;
+                    }
+                    case TAG_MODEL -> f.cameraModel = truncate(asciiValue(b, tiff, entry, le));
+                    case TAG_DATE_TIME -> f.dateTime = parseDateTime(asciiValue(b, tiff, entry, le));
+                    case TAG_DATE_TIME_ORIGINAL -> f.dateTimeOriginal = parseDateTime(asciiValue(b, tiff, entry, le));
+                    case TAG_DATE_TIME_DIGITIZED -> f.dateTimeDigitized = parseDateTime(asciiValue(b, tiff, entry, le));
+                    case TAG_EXIF_IFD -> exifIfd = b.u32(entry + 8, le);
+                    default -> {
+                    }
+                }
+            } catch (IndexOutOfBoundsException e) {
+                // 값이 읽은 범위 밖에 있는 항목만 건너뛴다
+            }
+        }
+        return exifIfd;
+    }
+
+    private static String asciiValue(Bytes b, int tiff, int entry, boolean le) {
+        int count = (int) Math.min(b.u32(entry + 4, le), MAX_ASCII_LENGTH);
+        int value = count <= 4 ? entry + 8 : tiff + position(b.u32(entry + 8, le));
+        return b.ascii(value, count);
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.length() < 19 || value.startsWith("0000")) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.substring(0, 19), EXIF_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return value.length() > MAX_CAMERA_MODEL_LENGTH ? value.substring(0, MAX_CAMERA_MODEL_LENGTH) : value;
+    }
+
+    private static int position(long value) {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("Offset out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * 읽은 헤더 범위 안에서만 값을 읽는다 (범위를 벗어나면 IndexOutOfBoundsException)
+     */
+    private record Bytes(byte[] data, int length) {
+
+        int u8(int pos) {
+            check(pos, 1);
+            return data[pos] & 0xFF;
+        }
+
+        int u16(int pos, boolean littleEndian) {
+            check(pos, 2);
+            int b0 = data[pos] & 0xFF;
+            int b1 = data[pos + 1] & 0xFF;
+            return littleEndian ? b0 | b1 << 8 : b0 << 8 | b1;
+        }
+
+        long u32(int pos, boolean littleEndian) {
+            check(pos, 4);
+            long value = 0;
+            for (int i = 0; i < 4; i++) {
+                int shift = littleEndian ? i * 8 : (3 - i) * 8;
+                value |= (long) (data[pos + i] & 0xFF) << shift;
+            }
+            return value;
+        }
+
+        long u64(int pos) {
+            return uN(pos, 8);
+        }
+
+        /**
+         * 빅엔디언 가변 길이 정수 (size 0이면 0)
+         */
+        long uN(int pos, int size) {
+            check(pos, size);
+            long value = 0;
+            for (int i = 0; i < size; i++) {
+                value = value << 8 | (data[pos + i] & 0xFF);
+            }
+            return value;
+        }
+
+        String fourCc(int pos) {
+            check(pos, 4);
+            return new String(data, pos, 4, StandardCharsets.ISO_8859_1);
+        }
+
+        boolean matches(int pos, byte[] expected) {
+            if (pos < 0 || pos > length - expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (data[pos + i] != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        String ascii(int pos, int count) {
+            check(pos, count);
+            int end = pos;
+            while (end < pos + count && data[end] != 0) {
+                end++;
+            }
+            return new String(data, pos, end - pos, StandardCharsets.UTF_8).trim();
+        }
+
+        private void check(int pos, int size) {
+            if (pos < 0 || size < 0 || pos > length - size) {
+                throw new IndexOutOfBoundsException("Header offset out of range: " + pos);
+            }
+        }
+    }
+
+    private static final class Fields {
+        Integer width;
+        Integer height;
+        Integer orientation;
+        LocalDateTime dateTimeOriginal;
+        LocalDateTime dateTimeDigitized;
+        LocalDateTime dateTime;
+        String cameraModel;
+
+        ImageMetadata toMetadata() {
+            LocalDateTime takenAt = dateTimeOriginal != null ? dateTimeOriginal
+                    : dateTimeDigitized != null ? dateTimeDigitized : dateTime;
+            return new ImageMetadata(width, height, orientation, takenAt, cameraModel);
+        }
+    }
+}
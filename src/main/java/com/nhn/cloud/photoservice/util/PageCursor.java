@@ -0,0 +1,89 @@
+package com.nhn.cloud.photoservice.util;
+
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기반 Keyset 페이지네이션 커서.
+ * 순서가 id만으로 정해지는 목록(검색)은 id만 담은 커서를 쓴다 ({@link #encodeId}, {@link #decodeId}).
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    // 첫 페이지 조회 시 사용하는 상한 값 (모든 행보다 뒤에 위치)
+    private static final PageCursor FIRST =
+            new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 비어 있으면 첫 페이지 커서를 반환한다.
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Invalid cursor");
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * id만 담은 커서 문자열
+     */
+    public static String encodeId(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * id만 담은 커서를 해석한다. 비어 있으면 모든 id보다 큰 값을 반환한다.
+     * 이전에 발급한 (created_at, id) 커서도 id 부분만 읽어 받아 준다.
+     */
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST.id;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(raw.substring(raw.indexOf(SEPARATOR) + 1));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "Invalid cursor");
+        }
+    }
+}
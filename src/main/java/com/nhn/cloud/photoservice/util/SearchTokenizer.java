@@ -0,0 +1,68 @@
+package com.nhn.cloud.photoservice.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 색인/질의 공통 토큰 분석기.
+ * 문자/숫자가 아닌 문자로 단어를 나누고, NFKD 분해 후 결합 부호를 지우고 소문자로 바꾼다.
+ * 한글 음절은 초성/중성/종성 자모로 분해되므로 "서" 같은 음절 앞부분이나 "ㅅ" 같은 낱자도 접두사로 일치한다.
+ */
+public final class SearchTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARK = Pattern.compile("\\p{M}+");
+
+    private static final int MAX_TERM_LENGTH = 64;
+
+    // 종성 자모(U+11A8~) → 같은 소리의 초성 자모 (겹받침은 제외, 없으면 0)
+    private static final char[] FINAL_TO_INITIAL = {
+            'ᄀ', 'ᄁ', 0, 'ᄂ', 0, 0, 'ᄃ', 'ᄅ', 0, 0, 0, 0, 0, 0, 0,
+            'ᄆ', 'ᄇ', 0, 'ᄉ', 'ᄊ', 'ᄋ', 'ᄌ', 'ᄎ', 'ᄏ',
+            'ᄐ', 'ᄑ', 'ᄒ'
+    };
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 텍스트를 중복 없는 정규화된 단어 목록으로 분해 (등장 순서 유지)
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = COMBINING_MARK.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : SEPARATOR.split(normalized)) {
+            if (!term.isEmpty()) {
+                terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 질의 단어 하나가 일치시킬 접두사 목록.
+     * 입력 중인 한글은 마지막 받침이 다음 음절의 초성일 수 있으므로 ("성" → "서울") 그 경우도 함께 찾는다.
+     */
+    public static List<String> prefixesOf(String term) {
+        char last = term.charAt(term.length() - 1);
+        if (last >= 'ᆨ' && last < 'ᆨ' + FINAL_TO_INITIAL.length) {
+            char initial = FINAL_TO_INITIAL[last - 'ᆨ'];
+            if (initial != 0) {
+                return List.of(term, term.substring(0, term.length() - 1) + initial);
+            }
+        }
+        return List.of(term);
+    }
+}
@@ -26,10 +26,14 @@ CREATE TABLE IF NOT EXISTS albums (
     description VARCHAR(500),
     share_token VARCHAR(36) UNIQUE,
     is_shared BOOLEAN NOT NULL DEFAULT FALSE,
+    photo_count INT NOT NULL DEFAULT 0,
+    total_bytes BIGINT NOT NULL DEFAULT 0,
+    cover_photo_id BIGINT,
+    last_photo_at DATETIME(6),
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_user_id (user_id),
+    INDEX idx_albums_user_created (user_id, created_at, id),
     INDEX idx_share_token (share_token)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -39,19 +43,42 @@ CREATE TABLE IF NOT EXISTS photos (
                                       user_id BIGINT NOT NULL,
                                       album_id BIGINT,
                                       original_filename VARCHAR(200) NOT NULL,
-    storage_key VARCHAR(500) NOT NULL,
+    storage_key VARCHAR(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
     content_type VARCHAR(50) NOT NULL,
     file_size BIGINT NOT NULL,
     title VARCHAR(100),
     description VARCHAR(500),
+    thumbnail_key VARCHAR(520),
+    preview_key VARCHAR(520),
+    derivative_status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    width INT,
+    height INT,
+    orientation INT,
+    taken_at DATETIME(6) NOT NULL,
+    camera_model VARCHAR(100),
+    metadata_extracted BOOLEAN NOT NULL DEFAULT FALSE,
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE SET NULL,
-    INDEX idx_user_id (user_id),
-    INDEX idx_album_id (album_id)
+    INDEX idx_photos_user_created (user_id, created_at, id),
+    INDEX idx_photos_user_album_created (user_id, album_id, created_at, id),
+    INDEX idx_photos_album_created (album_id, created_at, id),
+    INDEX idx_photos_derivative_status (derivative_status, id),
+    INDEX idx_photos_user_taken (user_id, taken_at, id),
+    INDEX idx_photos_album_taken (album_id, taken_at, id),
+    INDEX idx_photos_metadata_extracted (metadata_extracted, id),
+    INDEX idx_photos_storage_key (storage_key)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Photos ID 시퀀스 (MySQL에는 시퀀스가 없어 Hibernate가 테이블로 흉내낸다, allocationSize 50)
+-- pooled 최적화기는 처음 읽은 값 V가 초기값(1)이 아니면 V-49 ~ V를 할당하므로, 기존 최대 ID + 50 + 1로 채운다.
+CREATE TABLE IF NOT EXISTS photos_seq (
+    next_val BIGINT
+    ) ENGINE=InnoDB;
+INSERT INTO photos_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM photos WHERE NOT EXISTS (SELECT 1 FROM photos_seq);
+
 -- Audit Log 테이블
 CREATE TABLE IF NOT EXISTS audit_log (
                                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -68,6 +95,157 @@ CREATE TABLE IF NOT EXISTS audit_log (
     INDEX idx_audit_created_at (created_at)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 재개 가능 업로드 세션 (S3 Multipart Upload 1건에 대응)
+CREATE TABLE IF NOT EXISTS upload_sessions (
+                                               id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                               user_id BIGINT NOT NULL,
+                                               album_id BIGINT,
+                                               original_filename VARCHAR(200) NOT NULL,
+    content_type VARCHAR(50) NOT NULL,
+    file_size BIGINT NOT NULL,
+    chunk_size INT NOT NULL,
+    title VARCHAR(100),
+    description VARCHAR(500),
+    storage_key VARCHAR(500) NOT NULL,
+    upload_id VARCHAR(1024) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    photo_id BIGINT,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_upload_sessions_expires (expires_at, id)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 업로드 세션에 수신된 청크 (S3 파트 ETag)
+CREATE TABLE IF NOT EXISTS upload_session_parts (
+                                                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                    session_id BIGINT NOT NULL,
+                                                    part_number INT NOT NULL,
+                                                    etag VARCHAR(100) NOT NULL,
+    size BIGINT NOT NULL,
+    UNIQUE KEY uk_upload_session_parts (session_id, part_number),
+    FOREIGN KEY (session_id) REFERENCES upload_sessions(id) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 직접 업로드 의도 (Pre-signed PUT URL 발급 ~ finalize)
+CREATE TABLE IF NOT EXISTS upload_intents (
+                                              id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                              user_id BIGINT NOT NULL,
+                                              album_id BIGINT,
+                                              original_filename VARCHAR(200) NOT NULL,
+    content_type VARCHAR(50) NOT NULL,
+    file_size BIGINT NOT NULL,
+    title VARCHAR(100),
+    description VARCHAR(500),
+    storage_key VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    photo_id BIGINT,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_upload_intents_expires (expires_at, id)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 객체 삭제 아웃박스 (사진/앨범 삭제 트랜잭션에 함께 기록, StorageDeletionDispatcher가 처리)
+-- 사용자 행이 지워져도 객체 삭제는 남아 있어야 하므로 외래 키를 두지 않는다.
+CREATE TABLE IF NOT EXISTS storage_deletions (
+                                                 id BIGINT PRIMARY KEY,
+                                                 storage_key VARCHAR(520) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    INDEX idx_storage_deletions_next_attempt (next_attempt_at, id)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Storage deletions ID 시퀀스 (allocationSize 50, 일괄 삭제 시 JDBC 배치 INSERT)
+CREATE TABLE IF NOT EXISTS storage_deletions_seq (
+    next_val BIGINT
+    ) ENGINE=InnoDB;
+INSERT INTO storage_deletions_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM storage_deletions_seq);
+
+-- 원본 객체 참조 (사용자별 SHA-256 중복 제거, 참조 수가 0이 되면 행 삭제 후 객체 삭제 예약)
+-- 행이 없는 storage_key는 사진 하나가 단독 소유한다 (Pre-signed PUT/재개 가능 업로드, 기존 사진).
+CREATE TABLE IF NOT EXISTS photo_blobs (
+                                           id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                           user_id BIGINT NOT NULL,
+                                           content_hash CHAR(64) NOT NULL,
+    storage_key VARCHAR(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    file_size BIGINT NOT NULL,
+    ref_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_photo_blobs_user_hash (user_id, content_hash),
+    UNIQUE KEY uk_photo_blobs_storage_key (storage_key)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 변경 피드 테이블 (증분 동기화, ID가 변경 순번)
+CREATE TABLE IF NOT EXISTS change_log (
+                                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                          user_id BIGINT NOT NULL,
+                                          entity_type VARCHAR(10) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_change_log_user_id (user_id, id)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 DB 마이그레이션: 변경 피드 기록 시각을 DB 시각으로 (애플리케이션은 created_at을 넣지 않는다)
+-- ALTER TABLE change_log MODIFY created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- 기존 DB 마이그레이션: Keyset 페이지네이션용 복합 인덱스
+-- (created_at, id) 커서 조건이 단일 인덱스 범위 스캔으로 처리된다.
+-- ALTER TABLE albums ADD INDEX idx_albums_user_created (user_id, created_at, id), DROP INDEX idx_user_id;
+-- ALTER TABLE photos ADD INDEX idx_photos_user_created (user_id, created_at, id),
+--                    ADD INDEX idx_photos_user_album_created (user_id, album_id, created_at, id),
+--                    ADD INDEX idx_photos_album_created (album_id, created_at, id),
+--                    DROP INDEX idx_user_id, DROP INDEX idx_album_id;
+
+-- 기존 DB 마이그레이션: 썸네일/미리보기 파생 이미지 (기존 행은 PENDING으로 백필 대상)
+-- ALTER TABLE photos ADD COLUMN thumbnail_key VARCHAR(520) AFTER description,
+--                    ADD COLUMN preview_key VARCHAR(520) AFTER thumbnail_key,
+--                    ADD COLUMN derivative_status VARCHAR(20) NOT NULL DEFAULT 'PENDING' AFTER preview_key,
+--                    ADD INDEX idx_photos_derivative_status (derivative_status, id);
+
+-- 기존 DB 마이그레이션: photos ID를 IDENTITY에서 시퀀스로 전환 (일괄 업로드 JDBC 배치 INSERT)
+-- 위 photos_seq 생성/초기화 구문이 기존 최대 ID + allocationSize(50) + 1로 채워, 첫 할당 구간이 기존 ID와 겹치지 않게 한다.
+-- (allocationSize를 바꾸면 이 값도 함께 바꿔야 한다)
+-- photos.id의 AUTO_INCREMENT 속성은 그대로 두어도 무방하다 (애플리케이션이 ID를 직접 지정).
+
+-- 기존 DB 마이그레이션: 스토리지 정합성 점검 (storage_key 순서 Keyset 순회)
+-- ListObjectsV2와 같은 바이트 순서로 정렬되도록 이진 콜레이션으로 바꾸고 인덱스를 추가한다.
+-- ALTER TABLE photos MODIFY storage_key VARCHAR(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+--                    ADD INDEX idx_photos_storage_key (storage_key);
+
+-- 기존 DB 마이그레이션: 앨범 집계 (사진 수/용량/커버를 앨범 행에 유지하여 목록을 단일 쿼리로 조회)
+-- ALTER TABLE albums ADD COLUMN photo_count INT NOT NULL DEFAULT 0 AFTER is_shared,
+--                    ADD COLUMN total_bytes BIGINT NOT NULL DEFAULT 0 AFTER photo_count,
+--                    ADD COLUMN cover_photo_id BIGINT AFTER total_bytes,
+--                    ADD COLUMN last_photo_at DATETIME(6) AFTER cover_photo_id;
+-- UPDATE albums a SET
+--     a.photo_count = (SELECT COUNT(*) FROM photos p WHERE p.album_id = a.id),
+--     a.total_bytes = (SELECT COALESCE(SUM(p.file_size), 0) FROM photos p WHERE p.album_id = a.id),
+--     a.cover_photo_id = (SELECT MAX(p.id) FROM photos p WHERE p.album_id = a.id),
+--     a.last_photo_at = (SELECT MAX(p.created_at) FROM photos p WHERE p.album_id = a.id);
+
+-- 기존 DB 마이그레이션: 이미지 헤더 메타데이터 (기존 행은 업로드 시각을 촬영 시각으로 채우고 백필 대상)
+-- ALTER TABLE photos ADD COLUMN width INT AFTER derivative_status,
+--                    ADD COLUMN height INT AFTER width,
+--                    ADD COLUMN orientation INT AFTER height,
+--                    ADD COLUMN taken_at DATETIME(6) AFTER orientation,
+--                    ADD COLUMN camera_model VARCHAR(100) AFTER taken_at,
+--                    ADD COLUMN metadata_extracted BOOLEAN NOT NULL DEFAULT FALSE AFTER camera_model;
+-- UPDATE photos SET taken_at = created_at;
+-- ALTER TABLE photos MODIFY taken_at DATETIME(6) NOT NULL,
+--                    ADD INDEX idx_photos_user_taken (user_id, taken_at, id),
+--                    ADD INDEX idx_photos_album_taken (album_id, taken_at, id),
+--                    ADD INDEX idx_photos_metadata_extracted (metadata_extracted, id);
+
 -- 샘플 데이터 (테스트용, 선택사항)
 -- 비밀번호: "password123" (BCrypt 해시)
 INSERT INTO users (email, name, password, role, is_active) VALUES
@@ -0,0 +1,35 @@
+package com.nhn.cloud.photoservice.domain.photo;
+
+import com.nhn.cloud.photoservice.exception.CustomException;
+import com.nhn.cloud.photoservice.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhotoSortTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  "})
+    void defaultsToUploadOrder(String value) {
+        assertThat(PhotoSort.from(value)).isEqualTo(PhotoSort.CREATED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"taken", "TAKEN", " Taken "})
+    void parsesCaseInsensitively(String value) {
+        assertThat(PhotoSort.from(value)).isEqualTo(PhotoSort.TAKEN);
+    }
+
+    @Test
+    void rejectsUnknownSort() {
+        assertThatThrownBy(() -> PhotoSort.from("size"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
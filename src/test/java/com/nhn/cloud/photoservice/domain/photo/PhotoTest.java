@@ -0,0 +1,46 @@
+package com.nhn.cloud.photoservice.domain.photo;
+
+import com.nhn.cloud.photoservice.util.ImageMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhotoTest {
+
+    @Test
+    void usesCaptureTimeFromMetadata() {
+        LocalDateTime takenAt = LocalDateTime.of(2019, 8, 15, 10, 0);
+
+        Photo photo = Photo.builder()
+                .metadata(new ImageMetadata(4032, 3024, 6, takenAt, "Galaxy S24"))
+                .build();
+
+        assertThat(photo.getTakenAt()).isEqualTo(takenAt);
+        assertThat(photo.isMetadataExtracted()).isTrue();
+    }
+
+    @Test
+    void fallsBackToUploadTimeWithoutCaptureTime() {
+        LocalDateTime before = LocalDateTime.now();
+
+        Photo photo = Photo.builder()
+                .metadata(new ImageMetadata(800, 600, null, null, null))
+                .build();
+
+        assertThat(photo.getTakenAt()).isBetween(before, LocalDateTime.now());
+        assertThat(photo.isMetadataExtracted()).isTrue();
+    }
+
+    @Test
+    void fallsBackToUploadTimeWithoutMetadata() {
+        LocalDateTime before = LocalDateTime.now();
+
+        Photo photo = Photo.builder().build();
+
+        // 메타데이터는 나중에 추출된다 (PhotoMetadataBackfillJob)
+        assertThat(photo.getTakenAt()).isBetween(before, LocalDateTime.now());
+        assertThat(photo.isMetadataExtracted()).isFalse();
+    }
+}
@@ -0,0 +1,132 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.config.PaginationProperties;
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.domain.photo.PhotoSort;
+import com.nhn.cloud.photoservice.dto.response.CursorPageResponse;
+import com.nhn.cloud.photoservice.dto.response.PhotoResponse;
+import com.nhn.cloud.photoservice.repository.PhotoRepository;
+import com.nhn.cloud.photoservice.util.ImageMetadata;
+import com.nhn.cloud.photoservice.util.PageCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 사진 목록 Keyset 페이지네이션: 정렬 기준별 조회 쿼리와 다음 커서
+ */
+@ExtendWith(MockitoExtension.class)
+class PhotoServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime FIRST_PAGE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private ObjectStorageService objectStorageService;
+
+    @Mock
+    private UserCache userCache;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @InjectMocks
+    private PhotoService photoService;
+
+    @Test
+    void takenOrderFirstPageUsesTakenAtKeysetAndCursor() {
+        // 업로드 시각과 촬영 시각이 다른 사진: 커서는 촬영 시각으로 만든다
+        Photo newest = photo(30L, LocalDateTime.of(2024, 5, 1, 12, 0), LocalDateTime.of(2024, 1, 1, 0, 0));
+        Photo middle = photo(10L, LocalDateTime.of(2023, 7, 1, 9, 0), LocalDateTime.of(2024, 1, 2, 0, 0));
+        Photo extra = photo(20L, LocalDateTime.of(2022, 3, 1, 8, 0), LocalDateTime.of(2024, 1, 3, 0, 0));
+        given(photoRepository.findPageByUserIdOrderByTakenAt(USER_ID, FIRST_PAGE_TIME, Long.MAX_VALUE,
+                PageRequest.of(0, 3)))
+                .willReturn(List.of(newest, middle, extra));
+
+        CursorPageResponse<PhotoResponse> page = photoService.getMyPhotos(USER_ID, null, 2, PhotoSort.TAKEN);
+
+        assertThat(page.getContent()).extracting(PhotoResponse::getId).containsExactly(30L, 10L);
+        assertThat(page.isHasNext()).isTrue();
+        PageCursor next = PageCursor.decode(page.getNextCursor());
+        assertThat(next.getCreatedAt()).isEqualTo(middle.getTakenAt());
+        assertThat(next.getId()).isEqualTo(10L);
+        verify(photoRepository, never()).findPageByUserId(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    void takenOrderNextPageContinuesFromCursor() {
+        LocalDateTime takenAt = LocalDateTime.of(2023, 7, 1, 9, 0);
+        Photo last = photo(5L, LocalDateTime.of(2023, 7, 1, 9, 0), LocalDateTime.of(2024, 1, 4, 0, 0));
+        given(photoRepository.findPageByUserIdOrderByTakenAt(USER_ID, takenAt, 10L, PageRequest.of(0, 3)))
+                .willReturn(List.of(last));
+
+        CursorPageResponse<PhotoResponse> page =
+                photoService.getMyPhotos(USER_ID, PageCursor.of(takenAt, 10L).encode(), 2, PhotoSort.TAKEN);
+
+        assertThat(page.getContent()).extracting(PhotoResponse::getId).containsExactly(5L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void takenOrderPlacesPhotosWithoutCaptureTimeByUploadTime() {
+        LocalDateTime uploadStarted = LocalDateTime.now();
+        // 헤더에 촬영 시각이 없는 사진: 생성 시점(업로드 시각)이 taken_at이 된다
+        Photo withoutCaptureTime = photo(7L, null, LocalDateTime.of(2024, 1, 5, 0, 0));
+        LocalDateTime uploadFinished = LocalDateTime.now();
+        Photo extra = photo(6L, LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 4, 0, 0));
+        given(photoRepository.findPageByUserIdOrderByTakenAt(USER_ID, FIRST_PAGE_TIME, Long.MAX_VALUE,
+                PageRequest.of(0, 2)))
+                .willReturn(List.of(withoutCaptureTime, extra));
+
+        CursorPageResponse<PhotoResponse> page = photoService.getMyPhotos(USER_ID, null, 1, PhotoSort.TAKEN);
+
+        // taken_at은 업로드 시점에 채워지므로 커서도 그 값을 이어 받는다
+        assertThat(withoutCaptureTime.getTakenAt()).isBetween(uploadStarted, uploadFinished);
+        assertThat(page.getContent().get(0).getTakenAt()).isEqualTo(withoutCaptureTime.getTakenAt());
+        assertThat(PageCursor.decode(page.getNextCursor()).getCreatedAt()).isEqualTo(withoutCaptureTime.getTakenAt());
+    }
+
+    @Test
+    void uploadOrderUsesCreatedAtKeysetAndCursor() {
+        Photo newest = photo(30L, LocalDateTime.of(2024, 5, 1, 12, 0), LocalDateTime.of(2024, 1, 3, 0, 0));
+        Photo extra = photo(20L, LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0));
+        given(photoRepository.findPageByUserId(USER_ID, FIRST_PAGE_TIME, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .willReturn(List.of(newest, extra));
+
+        CursorPageResponse<PhotoResponse> page = photoService.getMyPhotos(USER_ID, null, 1, PhotoSort.CREATED);
+
+        PageCursor next = PageCursor.decode(page.getNextCursor());
+        assertThat(next.getCreatedAt()).isEqualTo(newest.getCreatedAt());
+        assertThat(next.getId()).isEqualTo(30L);
+        verify(photoRepository, never()).findPageByUserIdOrderByTakenAt(anyLong(), any(), anyLong(), any());
+    }
+
+    private static Photo photo(Long id, LocalDateTime takenAt, LocalDateTime createdAt) {
+        Photo photo = Photo.builder()
+                .storageKey("users/1/photos/" + id + ".jpg")
+                .metadata(new ImageMetadata(100, 100, 1, takenAt, null))
+                .build();
+        ReflectionTestUtils.setField(photo, "id", id);
+        ReflectionTestUtils.setField(photo, "createdAt", createdAt);
+        return photo;
+    }
+}
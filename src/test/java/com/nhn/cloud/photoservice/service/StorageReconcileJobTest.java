@@ -0,0 +1,197 @@
+package com.nhn.cloud.photoservice.service;
+
+import com.nhn.cloud.photoservice.domain.photo.Photo;
+import com.nhn.cloud.photoservice.repository.PhotoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 스토리지 정합성 점검: 객체 나열 페이지와 storage_key Keyset 페이지의 병합
+ * 페이지 크기를 2로 줄여 같은 키를 공유하는 행이 페이지 경계에 걸치게 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class StorageReconcileJobTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final Instant OLD_OBJECT = Instant.now().minus(Duration.ofDays(2));
+    private static final LocalDateTime OLD_ROW = LocalDateTime.now().minusDays(2);
+
+    @Mock
+    private ObjectStorageService objectStorageService;
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private PhotoService photoService;
+
+    @Mock
+    private StorageDeletionOutbox storageDeletionOutbox;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private StorageReconcileJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new StorageReconcileJob(objectStorageService, photoRepository, photoService,
+                storageDeletionOutbox, transactionTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(job, "pageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(job, "pagesPerSecond", 0.0);
+        ReflectionTestUtils.setField(job, "graceHours", 24L);
+    }
+
+    @Test
+    void rowsSharingKeyAcrossPageBoundaryAllMatchOneObject() {
+        // 첫 페이지(2행)가 b.jpg를 공유하는 행 사이에서 끊긴다
+        rows(photo(1L, "users/1/photos/a.jpg", true, OLD_ROW),
+                photo(2L, "users/1/photos/b.jpg", true, OLD_ROW),
+                photo(3L, "users/1/photos/b.jpg", true, OLD_ROW),
+                photo(4L, "users/1/photos/c.jpg", true, OLD_ROW));
+        objects(withDerivatives("users/1/photos/a.jpg", "users/1/photos/b.jpg", "users/1/photos/c.jpg"));
+
+        StorageReconcileJob.Report report = run();
+
+        assertThat(report.objects).isEqualTo(9);
+        assertThat(report.references).isEqualTo(12);
+        assertThat(report.orphans).isZero();
+        assertThat(report.missingOriginals).isZero();
+        assertThat(report.missingDerivatives).isZero();
+        verify(photoRepository).findByStorageKeyAndIdGreaterThanOrderByIdAsc("users/1/photos/b.jpg", 2L);
+    }
+
+    @Test
+    void derivativeKeysAreMergedBetweenOriginals() {
+        // a.jpg는 파생 이미지가 없는 행인데 썸네일 객체가 남아 있고, b.jpg는 미리보기 객체가 없다
+        rows(photo(1L, "users/1/photos/a.jpg", false, OLD_ROW),
+                photo(2L, "users/1/photos/b.jpg", true, OLD_ROW));
+        objects(object("users/1/photos/a.jpg", OLD_OBJECT),
+                object("users/1/photos/a.jpg.thumb.jpg", OLD_OBJECT),
+                object("users/1/photos/b.jpg", OLD_OBJECT),
+                object("users/1/photos/b.jpg.thumb.jpg", OLD_OBJECT));
+
+        StorageReconcileJob.Report report = run();
+
+        assertThat(report.orphans).isEqualTo(1);
+        assertThat(report.orphanBytes).isEqualTo(100);
+        assertThat(report.missingDerivatives).isEqualTo(1);
+        assertThat(report.missingOriginals).isZero();
+    }
+
+    @Test
+    void entriesWithinGraceWindowAreSkipped() {
+        LocalDateTime recentRow = LocalDateTime.now().minusMinutes(5);
+        rows(photo(1L, "users/1/photos/a.jpg", false, OLD_ROW),
+                photo(2L, "users/1/photos/b.jpg", false, recentRow),
+                photo(3L, "users/1/photos/d.jpg", false, OLD_ROW));
+        objects(object("users/1/photos/a.jpg", OLD_OBJECT),
+                object("users/1/photos/c.jpg", Instant.now().minusSeconds(60)),
+                object("users/1/photos/e.jpg", OLD_OBJECT));
+
+        StorageReconcileJob.Report report = run();
+
+        // 최근 행 b.jpg(업로드 중)와 최근 객체 c.jpg(저장 전)는 건너뛰고, 오래된 d.jpg 행과 e.jpg 객체만 보고한다
+        assertThat(report.skippedRecent).isEqualTo(2);
+        assertThat(report.missingOriginals).isEqualTo(1);
+        assertThat(report.orphans).isEqualTo(1);
+    }
+
+    private StorageReconcileJob.Report run() {
+        StorageReconcileJob.Report report = new StorageReconcileJob.Report();
+        job.run(report);
+        return report;
+    }
+
+    /**
+     * photos 테이블 대역: (storage_key, id) 순서 Keyset 조회
+     */
+    private void rows(Photo... photos) {
+        List<Photo> table = new ArrayList<>(List.of(photos));
+        table.sort(Comparator.comparing(Photo::getStorageKey).thenComparing(Photo::getId));
+
+        given(photoRepository.findPageByStorageKeyAfter(anyString(), anyLong(), any())).willAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            Long id = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            return table.stream()
+                    .filter(photo -> photo.getStorageKey().compareTo(key) > 0
+                            || (photo.getStorageKey().equals(key) && photo.getId() > id))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        given(photoRepository.findByStorageKeyAndIdGreaterThanOrderByIdAsc(anyString(), anyLong()))
+                .willAnswer(invocation -> table.stream()
+                        .filter(photo -> photo.getStorageKey().equals(invocation.getArgument(0))
+                                && photo.getId() > (Long) invocation.getArgument(1))
+                        .toList());
+    }
+
+    /**
+     * ListObjectsV2 대역: 키 순서로 PAGE_SIZE개씩 나눈 페이지
+     */
+    private void objects(S3Object... objects) {
+        List<ListObjectsV2Response> pages = new ArrayList<>();
+        for (int from = 0; from < objects.length; from += PAGE_SIZE) {
+            pages.add(ListObjectsV2Response.builder()
+                    .contents(List.of(objects).subList(from, Math.min(from + PAGE_SIZE, objects.length)))
+                    .build());
+        }
+        ListObjectsV2Iterable iterable = mock(ListObjectsV2Iterable.class);
+        given(iterable.iterator()).willAnswer(invocation -> pages.iterator());
+        given(objectStorageService.listObjects(anyString(), anyInt())).willReturn(iterable);
+    }
+
+    private static S3Object[] withDerivatives(String... storageKeys) {
+        List<S3Object> objects = new ArrayList<>();
+        for (String storageKey : storageKeys) {
+            objects.add(object(storageKey, OLD_OBJECT));
+            objects.add(object(ObjectStorageService.derivativeKey(storageKey, PhotoDerivativeService.PREVIEW), OLD_OBJECT));
+            objects.add(object(ObjectStorageService.derivativeKey(storageKey, PhotoDerivativeService.THUMBNAIL), OLD_OBJECT));
+        }
+        return objects.toArray(S3Object[]::new);
+    }
+
+    private static S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).size(100L).lastModified(lastModified).build();
+    }
+
+    private static Photo photo(Long id, String storageKey, boolean withDerivatives, LocalDateTime createdAt) {
+        Photo photo = Photo.builder().storageKey(storageKey).build();
+        ReflectionTestUtils.setField(photo, "id", id);
+        ReflectionTestUtils.setField(photo, "createdAt", createdAt);
+        if (withDerivatives) {
+            ReflectionTestUtils.setField(photo, "thumbnailKey",
+                    ObjectStorageService.derivativeKey(storageKey, PhotoDerivativeService.THUMBNAIL));
+            ReflectionTestUtils.setField(photo, "previewKey",
+                    ObjectStorageService.derivativeKey(storageKey, PhotoDerivativeService.PREVIEW));
+        }
+        return photo;
+    }
+}
@@ -0,0 +1,338 @@
+package com.nhn.cloud.photoservice.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class ImageMetadataReaderTest {
+
+    private static final int TAG_MODEL = 0x0110;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_DATE_TIME_DIGITIZED = 0x9004;
+
+    private static final LocalDateTime TAKEN_AT = LocalDateTime.of(2024, 5, 17, 14, 30, 5);
+
+    @Test
+    void readsLittleEndianExifFromJpeg() {
+        byte[] jpeg = jpeg(cameraExif(ByteOrder.LITTLE_ENDIAN, 6), 4032, 3024);
+
+        ImageMetadata metadata = ImageMetadataReader.parse(jpeg, jpeg.length);
+
+        assertThat(metadata).isEqualTo(new ImageMetadata(4032, 3024, 6, TAKEN_AT, "Galaxy S24"));
+    }
+
+    @Test
+    void readsBigEndianExifFromJpeg() {
+        byte[] jpeg = jpeg(cameraExif(ByteOrder.BIG_ENDIAN, 8), 4032, 3024);
+
+        ImageMetadata metadata = ImageMetadataReader.parse(jpeg, jpeg.length);
+
+        assertThat(metadata).isEqualTo(new ImageMetadata(4032, 3024, 8, TAKEN_AT, "Galaxy S24"));
+    }
+
+    @Test
+    void readsFromStream() throws IOException {
+        byte[] jpeg = jpeg(cameraExif(ByteOrder.LITTLE_ENDIAN, 1), 640, 480);
+
+        ImageMetadata metadata = ImageMetadataReader.read(new ByteArrayInputStream(jpeg));
+
+        assertThat(metadata.width()).isEqualTo(640);
+        assertThat(metadata.takenAt()).isEqualTo(TAKEN_AT);
+    }
+
+    @Test
+    void readsJpegWithoutExif() {
+        byte[] jpeg = jpeg(null, 800, 600);
+
+        assertThat(ImageMetadataReader.parse(jpeg, jpeg.length))
+                .isEqualTo(new ImageMetadata(800, 600, null, null, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8})
+    void keepsValidExifOrientation(int orientation) {
+        byte[] jpeg = jpeg(tiff(ByteOrder.LITTLE_ENDIAN, Map.of(TAG_ORIENTATION, orientation), Map.of()), 10, 10);
+
+        assertThat(ImageMetadataReader.parse(jpeg, jpeg.length).orientation()).isEqualTo(orientation);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 9, 0xFFFF})
+    void dropsOutOfRangeExifOrientation(int orientation) {
+        byte[] jpeg = jpeg(tiff(ByteOrder.LITTLE_ENDIAN, Map.of(TAG_ORIENTATION, orientation), Map.of()), 10, 10);
+
+        assertThat(ImageMetadataReader.parse(jpeg, jpeg.length).orientation()).isNull();
+    }
+
+    @Test
+    void fallsBackToDigitizedThenModifiedTime() {
+        byte[] digitized = jpeg(tiff(ByteOrder.LITTLE_ENDIAN,
+                Map.of(TAG_DATE_TIME, "2020:01:01 00:00:00"),
+                Map.of(TAG_DATE_TIME_DIGITIZED, "2024:05:17 14:30:05")), 10, 10);
+        byte[] modified = jpeg(tiff(ByteOrder.LITTLE_ENDIAN,
+                Map.of(TAG_DATE_TIME, "2024:05:17 14:30:05"), Map.of()), 10, 10);
+
+        assertThat(ImageMetadataReader.parse(digitized, digitized.length).takenAt()).isEqualTo(TAKEN_AT);
+        assertThat(ImageMetadataReader.parse(modified, modified.length).takenAt()).isEqualTo(TAKEN_AT);
+    }
+
+    @Test
+    void ignoresUnsetOrMalformedDates() {
+        byte[] jpeg = jpeg(tiff(ByteOrder.LITTLE_ENDIAN,
+                Map.of(TAG_DATE_TIME, "2024-05-17"),
+                Map.of(TAG_DATE_TIME_ORIGINAL, "0000:00:00 00:00:00")), 10, 10);
+
+        // 촬영 시각이 없으면 Photo가 업로드 시각을 쓴다 (PhotoTest 참고)
+        assertThat(ImageMetadataReader.parse(jpeg, jpeg.length).takenAt()).isNull();
+    }
+
+    @Test
+    void neverThrowsOnTruncatedJpeg() {
+        byte[] jpeg = jpeg(cameraExif(ByteOrder.BIG_ENDIAN, 6), 4032, 3024);
+
+        for (int length = 0; length <= jpeg.length; length++) {
+            int truncated = length;
+            assertThatCode(() -> ImageMetadataReader.parse(jpeg, truncated)).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    void keepsFieldsReadBeforeTruncation() {
+        byte[] jpeg = jpeg(cameraExif(ByteOrder.LITTLE_ENDIAN, 6), 4032, 3024);
+        int frameHeader = indexOf(jpeg, new byte[]{(byte) 0xFF, (byte) 0xC0});
+
+        ImageMetadata metadata = ImageMetadataReader.parse(jpeg, frameHeader + 3);
+
+        assertThat(metadata).isEqualTo(new ImageMetadata(null, null, 6, TAKEN_AT, "Galaxy S24"));
+    }
+
+    @Test
+    void returnsEmptyForUnknownOrEmptyInput() throws IOException {
+        byte[] gif = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(ImageMetadataReader.parse(gif, gif.length)).isEqualTo(ImageMetadata.EMPTY);
+        assertThat(ImageMetadataReader.read(new ByteArrayInputStream(new byte[0]))).isEqualTo(ImageMetadata.EMPTY);
+    }
+
+    @Test
+    void readsPngHeaderAndExifChunk() {
+        byte[] png = png(1920, 1080, cameraExif(ByteOrder.BIG_ENDIAN, 3));
+
+        assertThat(ImageMetadataReader.parse(png, png.length))
+                .isEqualTo(new ImageMetadata(1920, 1080, 3, TAKEN_AT, "Galaxy S24"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1", "1, 8", "2, 3", "3, 6"})
+    void mapsHeicRotationToExifOrientation(int irot, int orientation) {
+        byte[] heic = heic(irot, null);
+
+        assertThat(ImageMetadataReader.parse(heic, heic.length))
+                .isEqualTo(new ImageMetadata(4032, 3024, orientation, null, null));
+    }
+
+    @Test
+    void readsHeicExifItemButKeepsRotationFromIrot() {
+        byte[] heic = heic(-1, cameraExif(ByteOrder.BIG_ENDIAN, 6));
+
+        // 디코더가 irot을 적용하므로 EXIF 방향(6)은 쓰지 않는다
+        assertThat(ImageMetadataReader.parse(heic, heic.length))
+                .isEqualTo(new ImageMetadata(4032, 3024, 1, TAKEN_AT, "Galaxy S24"));
+    }
+
+    @Test
+    void ignoresIsoMediaWithoutHeifBrand() {
+        byte[] mp4 = concat(box("ftyp", concat(ascii("isom"), u32(0), ascii("mp41"))), box("mdat", new byte[16]));
+
+        assertThat(ImageMetadataReader.parse(mp4, mp4.length)).isEqualTo(ImageMetadata.EMPTY);
+    }
+
+    @Test
+    void neverThrowsOnTruncatedHeic() {
+        byte[] heic = heic(1, cameraExif(ByteOrder.LITTLE_ENDIAN, 6));
+
+        for (int length = 0; length <= heic.length; length++) {
+            int truncated = length;
+            assertThatCode(() -> ImageMetadataReader.parse(heic, truncated)).doesNotThrowAnyException();
+        }
+    }
+
+    // --- Fixtures ---
+
+    private static byte[] cameraExif(ByteOrder order, int orientation) {
+        return tiff(order,
+                Map.of(TAG_ORIENTATION, orientation, TAG_MODEL, "Galaxy S24", TAG_DATE_TIME, "2024:06:01 09:00:00"),
+                Map.of(TAG_DATE_TIME_ORIGINAL, "2024:05:17 14:30:05"));
+    }
+
+    /**
+     * TIFF 헤더 + IFD0 (+ EXIF 하위 IFD). 값은 Integer면 SHORT, String이면 ASCII
+     */
+    private static byte[] tiff(ByteOrder order, Map<Integer, Object> ifd0, Map<Integer, Object> exifIfd) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024).order(order);
+        byte byteOrder = (byte) (order == ByteOrder.LITTLE_ENDIAN ? 'I' : 'M');
+        buffer.put(byteOrder).put(byteOrder).putShort((short) 42).putInt(8);
+
+        int ifd0Entries = ifd0.size() + (exifIfd.isEmpty() ? 0 : 1);
+        int exifOffset = 8 + ifdSize(ifd0Entries);
+        int[] dataOffset = {exifOffset + (exifIfd.isEmpty() ? 0 : ifdSize(exifIfd.size()))};
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+        buffer.putShort((short) ifd0Entries);
+        new TreeMap<>(ifd0).forEach((tag, value) -> putEntry(buffer, tag, value, dataOffset, data));
+        if (!exifIfd.isEmpty()) {
+            buffer.putShort((short) 0x8769).putShort((short) 4).putInt(1).putInt(exifOffset);
+        }
+        buffer.putInt(0);
+
+        if (!exifIfd.isEmpty()) {
+            buffer.putShort((short) exifIfd.size());
+            new TreeMap<>(exifIfd).forEach((tag, value) -> putEntry(buffer, tag, value, dataOffset, data));
+            buffer.putInt(0);
+        }
+
+        buffer.put(data.toByteArray());
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static int ifdSize(int entries) {
+        return 2 + entries * 12 + 4;
+    }
+
+    private static void putEntry(ByteBuffer buffer, int tag, Object value, int[] dataOffset,
+                                 ByteArrayOutputStream data) {
+        buffer.putShort((short) tag);
+        if (value instanceof Integer number) {
+            buffer.putShort((short) 3).putInt(1).putShort(number.shortValue()).putShort((short) 0);
+            return;
+        }
+        byte[] ascii = (value + "\0").getBytes(StandardCharsets.US_ASCII);
+        buffer.putShort((short) 2).putInt(ascii.length);
+        if (ascii.length <= 4) {
+            buffer.put(Arrays.copyOf(ascii, 4));
+        } else {
+            buffer.putInt(dataOffset[0]);
+            dataOffset[0] += ascii.length;
+            data.writeBytes(ascii);
+        }
+    }
+
+    private static byte[] jpeg(byte[] exif, int width, int height) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8});
+        if (exif != null) {
+            byte[] header = {'E', 'x', 'i', 'f', 0, 0};
+            out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE1});
+            out.writeBytes(u16(2 + header.length + exif.length));
+            out.writeBytes(header);
+            out.writeBytes(exif);
+        }
+        // SOF0: 길이, 정밀도, 높이, 폭, 성분 3개
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xC0});
+        out.writeBytes(u16(17));
+        out.write(8);
+        out.writeBytes(u16(height));
+        out.writeBytes(u16(width));
+        out.write(3);
+        out.writeBytes(new byte[9]);
+        // SOS 이후는 읽지 않는다
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xDA, 0, 12});
+        out.writeBytes(new byte[32]);
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD9});
+        return out.toByteArray();
+    }
+
+    private static byte[] png(int width, int height, byte[] exif) {
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        byte[] ihdr = concat(u32(width), u32(height), new byte[]{8, 2, 0, 0, 0});
+        return concat(signature, chunk("IHDR", ihdr), chunk("eXIf", exif), chunk("IDAT", new byte[8]),
+                chunk("IEND", new byte[0]));
+    }
+
+    private static byte[] chunk(String type, byte[] data) {
+        return concat(u32(data.length), ascii(type), data, u32(0));
+    }
+
+    /**
+     * 대표 항목(1)에 ispe 4032x3024와 irot(angle이 0 이상일 때)을 연결한 HEIC.
+     * exif가 있으면 항목 2로 mdat에 넣고 iloc에 파일 오프셋을 기록한다.
+     */
+    private static byte[] heic(int angle, byte[] exif) {
+        byte[] ftyp = box("ftyp", concat(ascii("heic"), u32(0), ascii("mif1"), ascii("heic")));
+
+        byte[] ispe = box("ispe", concat(u32(0), u32(4032), u32(3024)));
+        byte[] ipco = angle >= 0 ? box("ipco", concat(ispe, box("irot", new byte[]{(byte) angle}))) : box("ipco", ispe);
+        byte[] associations = angle >= 0 ? new byte[]{2, (byte) 0x81, 0x02} : new byte[]{1, (byte) 0x81};
+        byte[] ipma = box("ipma", concat(u32(0), u32(1), u16(1), associations));
+        byte[] iprp = box("iprp", concat(ipco, ipma));
+        byte[] pitm = box("pitm", concat(u32(0), u16(1)));
+
+        if (exif == null) {
+            return concat(ftyp, box("meta", concat(u32(0), pitm, iprp)));
+        }
+
+        byte[] item = concat(u32(0), exif);  // TIFF 헤더까지의 오프셋 + TIFF
+        byte[] infe = box("infe", concat(new byte[]{2, 0, 0, 0}, u16(2), u16(0), ascii("Exif"), new byte[]{0}));
+        byte[] iinf = box("iinf", concat(u32(0), u16(1), infe));
+        int metaLength = box("meta", concat(u32(0), pitm, iinf, iloc(0, item.length), iprp)).length;
+        int itemOffset = ftyp.length + metaLength + 8;
+        byte[] meta = box("meta", concat(u32(0), pitm, iinf, iloc(itemOffset, item.length), iprp));
+        return concat(ftyp, meta, box("mdat", item));
+    }
+
+    private static byte[] iloc(int offset, int length) {
+        // version 0, offset/length 4바이트, base offset 없음, 항목 2의 구간 1개
+        return box("iloc", concat(u32(0), new byte[]{0x44, 0x00}, u16(1), u16(2), u16(0), u16(1),
+                u32(offset), u32(length)));
+    }
+
+    private static byte[] box(String type, byte[] payload) {
+        return concat(u32(8 + payload.length), ascii(type), payload);
+    }
+
+    private static byte[] u16(int value) {
+        return new byte[]{(byte) (value >> 8), (byte) value};
+    }
+
+    private static byte[] u32(int value) {
+        return ByteBuffer.allocate(4).putInt(value).array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        for (int i = 0; i + pattern.length <= data.length; i++) {
+            if (Arrays.equals(data, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Pattern not found");
+    }
+}
@@ -0,0 +1,76 @@
+package com.nhn.cloud.photoservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    void decomposesHangulSyllablesIntoJamo() {
+        assertThat(SearchTokenizer.tokenize("서울 여행")).containsExactly(
+                "\u1109\u1165\u110B\u116E\u11AF",  // ㅅ ㅓ ㅇ ㅜ ㄹ(종성)
+                "\u110B\u1167\u1112\u1162\u11BC"); // ㅇ ㅕ ㅎ ㅐ ㅇ(종성)
+    }
+
+    @Test
+    void partialSyllableAndCompatibilityJamoMatchAsPrefix() {
+        String seoul = SearchTokenizer.tokenize("서울").get(0);
+
+        assertThat(seoul).startsWith(SearchTokenizer.tokenize("서").get(0));
+        // 호환 자모 "ㅅ"은 NFKD에서 초성 자모로 바뀐다
+        assertThat(seoul).startsWith(SearchTokenizer.tokenize("ㅅ").get(0));
+    }
+
+    @Test
+    void finalConsonantAlsoMatchesAsNextInitial() {
+        String seong = SearchTokenizer.tokenize("성").get(0);
+        String seoul = SearchTokenizer.tokenize("서울").get(0);
+
+        List<String> prefixes = SearchTokenizer.prefixesOf(seong);
+
+        assertThat(prefixes).containsExactly(seong, "\u1109\u1165\u110B"); // 서 + 초성 ㅇ
+        assertThat(seoul.startsWith(seong)).isFalse();
+        assertThat(prefixes).anyMatch(seoul::startsWith);
+    }
+
+    @Test
+    void clusterFinalConsonantHasNoInitialAlternative() {
+        String term = SearchTokenizer.tokenize("닭").get(0);
+
+        assertThat(SearchTokenizer.prefixesOf(term)).containsExactly(term);
+    }
+
+    @Test
+    void nonHangulTermHasSinglePrefix() {
+        assertThat(SearchTokenizer.prefixesOf("beach")).containsExactly("beach");
+    }
+
+    @Test
+    void stripsCombiningMarksAfterCompatibilityDecomposition() {
+        assertThat(SearchTokenizer.tokenize("Café NAÏVE ｔｏｋｙｏ")).containsExactly("cafe", "naive", "tokyo");
+        // 조합형(e + U+0301)과 완성형(é)이 같은 단어가 된다
+        assertThat(SearchTokenizer.tokenize("cafe\u0301")).containsExactly("cafe");
+    }
+
+    @Test
+    void splitsOnNonLetterDigitAndKeepsFirstOccurrenceOrder() {
+        assertThat(SearchTokenizer.tokenize("beach-2024, Beach_trip!! beach"))
+                .containsExactly("beach", "2024", "trip");
+    }
+
+    @Test
+    void truncatesLongTerms() {
+        String term = SearchTokenizer.tokenize("a".repeat(100)).get(0);
+
+        assertThat(term).hasSize(64);
+    }
+
+    @Test
+    void blankTextHasNoTerms() {
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(SearchTokenizer.tokenize("  -- ")).isEmpty();
+    }
+}